@@ -1,12 +1,17 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.BitSet;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -21,10 +26,15 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,8 +67,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.getSaveFlushIntervalMillis());
 
         model = initModelManager(storage, userPrefs);
 
@@ -67,6 +77,42 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format selected in {@code userPrefs}.
+     * When a binary format is selected but the data file is still in JSON, it is converted once,
+     * keeping the JSON data as a backup. The sharded format keeps its data in a directory next to the
+     * data file, and the data file is copied into it the first time.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        if (format == AddressBookFormat.JSON) {
+            return new JournaledAddressBookStorage(filePath);
+        }
+        if (format == AddressBookFormat.SHARDED) {
+            Path directory = ShardedAddressBookStorage.directoryFor(filePath);
+            try {
+                ShardedAddressBookStorage.convertFrom(filePath, directory);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Data file at " + filePath + " could not be converted to sharded data: "
+                        + StringUtil.getDetails(e));
+            }
+            return new ShardedAddressBookStorage(directory);
+        }
+
+        try {
+            if (Files.exists(filePath) && !BinaryAddressBookStorage.isBinaryFile(filePath)) {
+                BinaryAddressBookStorage.convertFromJson(filePath, filePath);
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + filePath + " could not be converted to the binary format: "
+                    + StringUtil.getDetails(e));
+        }
+        return format == AddressBookFormat.MAPPED
+                ? new MappedAddressBookStorage(filePath)
+                : new BinaryAddressBookStorage(filePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -75,8 +121,9 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
+        Optional<ReadOnlyAddressBook> addressBookOptional = Optional.empty();
         ReadOnlyAddressBook initialData;
+        boolean isLoaded = true;
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
@@ -88,9 +135,69 @@ public class MainApp extends Application {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
+            isLoaded = false;
+        }
+
+        PaymentLedger payments = new PaymentLedger();
+        try {
+            // payments saved for another address book would be attached to the wrong students
+            Optional<PaymentLedger> savedPayments = addressBookOptional.isPresent()
+                    ? storage.readPayments()
+                    : Optional.empty();
+            if (savedPayments.isPresent()) {
+                payments = savedPayments.get();
+            } else if (isLoaded) {
+                // no ledger was saved yet, so the payments are still kept with each student
+                payments = migratePayments(storage, initialData, addressBookOptional.isPresent());
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Payments at " + storage.getPaymentFilePath() + " could not be loaded."
+                    + " Will be starting with no payments.");
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model model = new ModelManager(initialData, userPrefs, payments);
+        model.getAttendanceIndex().setLoader(storage.readAttendance());
+        // payment and homework reminders are not saved, so they are derived again from the loaded students;
+        // only students with homework due soon have their history loaded for it
+        model.refreshReminders();
+        return model;
+    }
+
+    /**
+     * Returns a payment ledger holding the payments kept with each student in {@code data}, which was written
+     * before payments were saved in a ledger, and saves it.
+     * Each student only kept their payments for the year the data was saved in, so the payments are recorded for
+     * the year the data file was last written, or this year for data that was not read from a file.
+     * Once the ledger is saved, the payments kept with each student are cleared, so that they are never brought
+     * over again into another year.
+     */
+    private PaymentLedger migratePayments(Storage storage, ReadOnlyAddressBook data, boolean isFromFile) {
+        int year = LocalDate.now().getYear();
+        if (isFromFile) {
+            try {
+                year = Files.getLastModifiedTime(storage.getAddressBookFilePath()).toInstant()
+                        .atZone(ZoneId.systemDefault()).getYear();
+            } catch (IOException e) {
+                logger.warning("Could not tell when " + storage.getAddressBookFilePath() + " was saved."
+                        + " Payments kept with each student will be taken to be for this year.");
+            }
+        }
+
+        PaymentLedger ledger = PaymentLedger.fromPaymentStatus(data.getPersonList(), year);
+        try {
+            storage.savePayments(ledger);
+        } catch (IOException e) {
+            logger.warning("Payments could not be saved to " + storage.getPaymentFilePath() + ": "
+                    + StringUtil.getDetails(e));
+            return ledger;
+        }
+        for (Person person : data.getPersonList()) {
+            if (!person.getPaymentStatusBitSet().isEmpty()) {
+                person.setAllPaymentStatus(new BitSet(12));
+            }
+        }
+        logger.info("Moved the payments kept with each student for " + year + " to " + storage.getPaymentFilePath());
+        return ledger;
     }
 
     private void initLogging(Config config) {
@@ -177,6 +284,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flush();
+            logger.fine("Storage writer: " + storage.getWriteBehindMetrics());
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
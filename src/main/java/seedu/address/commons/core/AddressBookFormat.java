@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * The on-disk formats the address book data file can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, saved incrementally through a journal. */
+    JSON,
+    /** Compact binary snapshot. */
+    BINARY,
+    /** The binary snapshot, memory-mapped so that each student's history is only decoded when it is needed. */
+    MAPPED,
+    /** A directory of json files, one per batch of students plus one each for groups and reminders. */
+    SHARDED
+}
@@ -17,6 +17,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveFlushIntervalMillis = 200;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +35,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long data saves may be held back and coalesced before being written to disk.
+     * 0 means every save is written immediately.
+     */
+    public long getSaveFlushIntervalMillis() {
+        return saveFlushIntervalMillis;
+    }
+
+    public void setSaveFlushIntervalMillis(long saveFlushIntervalMillis) {
+        this.saveFlushIntervalMillis = saveFlushIntervalMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +60,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveFlushIntervalMillis == otherConfig.saveFlushIntervalMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveFlushIntervalMillis);
     }
 
     @Override
@@ -60,6 +74,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveFlushIntervalMillis", saveFlushIntervalMillis)
                 .toString();
     }
 
@@ -3,25 +3,40 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,12 +55,21 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        try (OutputStream out = openForWriting(jsonFile)) {
+            writerFor(isCompact).writeValue(out, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = openForReading(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -91,6 +115,107 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, on a single line if {@code isCompact} is true.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
+    }
+
+    /**
+     * Writes a JSON object whose fields are the given arrays to the specified file.
+     * The elements of each array are serialized one at a time as they are taken from the iterable,
+     * so a lazily-mapped iterable never needs all of its elements in memory at once.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @param filePath cannot be null
+     * @param arrays field names mapped to the elements of that field, in the order they should be written
+     * @param isCompact whether to write the file on a single line instead of pretty-printing it
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonArrays(Path filePath, Map<String, ? extends Iterable<?>> arrays, boolean isCompact)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrays);
+
+        // elements inherit the generator's pretty printer, so that they are indented within their array
+        ObjectWriter writer = writerFor(true);
+        try (OutputStream out = openForWriting(filePath);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            for (Map.Entry<String, ? extends Iterable<?>> array : arrays.entrySet()) {
+                generator.writeArrayFieldStart(array.getKey());
+                for (Object element : array.getValue()) {
+                    writer.writeValue(generator, element);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads the JSON object in the specified file one array element at a time.
+     * For every top-level array field named in {@code handlers}, each element is converted to the handler's
+     * element type and passed to the handler before the next element is read. Other fields are skipped.
+     *
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if a handler rejects an element.
+     */
+    public static void readJsonArrays(Path filePath, Map<String, ArrayElementHandler<?>> handlers)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(handlers);
+
+        try (InputStream in = openForReading(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException("Expected a JSON object", parser.getCurrentLocation());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                ArrayElementHandler<?> handler = handlers.get(parser.getCurrentName());
+                JsonToken token = parser.nextToken();
+                if (handler == null || token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    readElement(parser, handler);
+                }
+            }
+        }
+    }
+
+    private static <T> void readElement(JsonParser parser, ArrayElementHandler<T> handler)
+            throws IOException, IllegalValueException {
+        handler.handle(objectMapper.readValue(parser, handler.getElementType()));
+    }
+
+    private static ObjectWriter writerFor(boolean isCompact) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return isCompact ? writer : writer.withDefaultPrettyPrinter();
+    }
+
+    private static InputStream openForReading(Path file) throws IOException {
+        return Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    private static OutputStream openForWriting(Path file) throws IOException {
+        return Channels.newOutputStream(FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +236,70 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON string without any pretty-printing.
+     * Suitable for line-oriented formats where each record must occupy exactly one line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return compact JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns {@code instance} serialized exactly as it would be written as an array element by
+     * {@link #saveJsonArrays(Path, Map, boolean)}. The result can be passed to that method in place of
+     * {@code instance}, to write the same element again without serializing it again.
+     */
+    public static RawValue toArrayElementFragment(Object instance, boolean isCompact)
+            throws JsonProcessingException {
+        if (isCompact) {
+            return new RawValue(new SerializedString(toCompactJsonString(instance)));
+        }
+        // array elements are pretty-printed one level deeper than a top-level value; strings never contain
+        // a raw line break, so every line break in the json is an indentation point
+        String lineSeparator = System.lineSeparator();
+        String json = toJsonString(instance).replace(lineSeparator, lineSeparator + "  ");
+        return new RawValue(new SerializedString(json));
+    }
+
+    /**
+     * Receives the elements of a JSON array read by {@link #readJsonArrays(Path, Map)}.
+     * @param <T> The type each element is converted to
+     */
+    public interface ArrayElementHandler<T> {
+        Class<T> getElementType();
+
+        void handle(T element) throws IllegalValueException;
+
+        /**
+         * Returns a handler that converts each element to {@code elementType} and passes it to {@code consumer}.
+         */
+        static <T> ArrayElementHandler<T> of(Class<T> elementType, ElementConsumer<T> consumer) {
+            return new ArrayElementHandler<>() {
+                @Override
+                public Class<T> getElementType() {
+                    return elementType;
+                }
+
+                @Override
+                public void handle(T element) throws IllegalValueException {
+                    consumer.accept(element);
+                }
+            };
+        }
+    }
+
+    /**
+     * Consumes one element of a JSON array.
+     * @param <T> The type of the element
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -55,6 +55,8 @@ public class LogicManager implements Logic {
 
         try {
             storage.saveAddressBook(model.getAddressBook());
+            storage.saveAttendance(model.getAttendanceIndex());
+            storage.savePayments(model.getPaymentLedger());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -110,7 +112,7 @@ public class LogicManager implements Logic {
     }
     @Override
     public void filterByGroup(GroupName group) {
-        model.updateFilteredPersonList(p -> model.getGroupsOf(p).contains(group));
+        model.filterByGroup(group);
     }
 
     @Override
@@ -1,12 +1,17 @@
 package seedu.address.logic;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.model.util.SampleDataUtil;
 
 /**
  * Container for user visible messages.
@@ -21,6 +26,7 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_UNMODIFIABLE_REMINDER = "This reminder is unmodifiable and cannot be changed.";
+    public static final String MESSAGE_DID_YOU_MEAN = "Did you mean: %1$s?";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -34,6 +40,17 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns {@code message} followed by the student names in {@code suggestions}, if there are any.
+     */
+    public static String withSuggestions(String message, List<Name> suggestions) {
+        if (suggestions.isEmpty()) {
+            return message;
+        }
+        String names = suggestions.stream().map(name -> name.fullName).collect(Collectors.joining(", "));
+        return message + "\n" + String.format(MESSAGE_DID_YOU_MEAN, names);
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
@@ -46,6 +63,14 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the {@code month} for display to the user: its name, followed by its year unless it is this year.
+     */
+    public static String format(YearMonth month) {
+        String name = SampleDataUtil.getMonthName(month.getMonthValue());
+        return month.getYear() == LocalDate.now().getYear() ? name : name + " " + month.getYear();
+    }
+
     /**
      * Formats the {@code reminder} for display to the user.
      */
@@ -50,7 +50,7 @@ public class AddCommand extends Command {
         }
 
         model.addPerson(toAdd);
-        model.refreshReminders();
+        model.refreshRemindersOf(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.attendance.AttendanceSummary;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the students whose attendance rate over a range of dates is below a threshold, lowest rate first,
+ * and shows only those students in the displayed list. Students without any attendance recorded in the range
+ * are left out.
+ * <p>
+ * Format: {@code attendance-below from/DATE to/DATE r/PERCENT [g/GROUP]}
+ */
+public class AttendanceBelowCommand extends Command {
+
+    /** Command word for listing students with low attendance. */
+    public static final String COMMAND_WORD = "attendance-below";
+
+    /** Usage message shown on format errors. */
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists students whose attendance rate over a range of dates is below a percentage.\n"
+            + "Parameters: " + PREFIX_FROM + "DATE " + PREFIX_TO + "DATE " + PREFIX_RATE + "PERCENT "
+            + "[" + PREFIX_GROUP + "GROUP]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "2025-01-01 " + PREFIX_TO + "2025-03-31 "
+            + PREFIX_RATE + "75";
+
+    /** Header of the list, followed by one line per student. */
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) below %2$s%% attendance from %3$s to %4$s";
+
+    /** Error shown when the threshold is not a percentage. */
+    public static final String MESSAGE_INVALID_THRESHOLD = "The threshold must be a percentage from 0 to 100.";
+
+    private static final Comparator<Map.Entry<Person, AttendanceSummary>> LOWEST_RATE_FIRST =
+            Comparator.<Map.Entry<Person, AttendanceSummary>>comparingDouble(e -> e.getValue().getRate())
+                    .thenComparing(e -> e.getKey().getName().fullName, String.CASE_INSENSITIVE_ORDER);
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final double thresholdPercent;
+    private final Optional<GroupName> groupName;
+
+    /**
+     * Constructs a command listing the students below {@code thresholdPercent} attendance from {@code from}
+     * to {@code to}, both inclusive.
+     *
+     * @param groupName group whose members to consider, or empty to consider every student.
+     */
+    public AttendanceBelowCommand(LocalDate from, LocalDate to, double thresholdPercent,
+            Optional<GroupName> groupName) {
+        this.from = requireNonNull(from);
+        this.to = requireNonNull(to);
+        this.thresholdPercent = thresholdPercent;
+        this.groupName = requireNonNull(groupName);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (from.isAfter(to)) {
+            throw new CommandException(AttendanceReportCommand.MESSAGE_INVALID_RANGE);
+        }
+        if (!(thresholdPercent >= 0 && thresholdPercent <= 100)) {
+            throw new CommandException(MESSAGE_INVALID_THRESHOLD);
+        }
+
+        AttendanceIndex attendance = model.getAttendanceIndex();
+        List<Map.Entry<Person, AttendanceSummary>> below = new ArrayList<>();
+        for (Person student : AttendanceReportCommand.studentsOf(model, groupName)) {
+            AttendanceSummary summary = attendance.summarize(student.getId(), from, to);
+            if (summary.isBelow(thresholdPercent)) {
+                below.add(Map.entry(student, summary));
+            }
+        }
+        below.sort(LOWEST_RATE_FIRST);
+
+        Set<Person> shown = Collections.newSetFromMap(new IdentityHashMap<>());
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS,
+                below.size(), formatPercent(thresholdPercent), from, to));
+        for (int i = 0; i < below.size(); i++) {
+            Person student = below.get(i).getKey();
+            shown.add(student);
+            message.append('\n').append(String.format(AttendanceReportCommand.MESSAGE_LINE,
+                    (i + 1) + ". " + student.getName().fullName, below.get(i).getValue()));
+        }
+        model.updateFilteredPersonList(shown::contains);
+        return new CommandResult(message.toString());
+    }
+
+    private static String formatPercent(double percent) {
+        return percent == Math.rint(percent) ? String.valueOf((long) percent) : String.valueOf(percent);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AttendanceBelowCommand)) {
+            return false;
+        }
+        AttendanceBelowCommand otherCommand = (AttendanceBelowCommand) other;
+        return from.equals(otherCommand.from)
+                && to.equals(otherCommand.to)
+                && Double.compare(thresholdPercent, otherCommand.thresholdPercent) == 0
+                && groupName.equals(otherCommand.groupName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, thresholdPercent, groupName);
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.attendance.AttendanceSummary;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+
+/**
+ * Reports the attendance rate and longest absence streak over a range of dates, for one student, for the
+ * members of a group, or for every student.
+ * <p>
+ * Format: {@code attendance-report from/DATE to/DATE [i/INDEX | g/GROUP]}
+ */
+public class AttendanceReportCommand extends Command {
+
+    /** Command word for reporting attendance. */
+    public static final String COMMAND_WORD = "attendance-report";
+
+    /** Usage message shown on format errors. */
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reports attendance over a range of dates, for one student, a group or every student.\n"
+            + "Parameters: " + PREFIX_FROM + "DATE " + PREFIX_TO + "DATE "
+            + "[" + PREFIX_INDEX + "INDEX | " + PREFIX_GROUP + "GROUP]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "2025-01-01 " + PREFIX_TO + "2025-03-31 "
+            + PREFIX_GROUP + "Group A";
+
+    /** Header of the report, followed by one line per summary. */
+    public static final String MESSAGE_HEADER = "Attendance from %1$s to %2$s";
+
+    /** Line of the report for one student or for a group. */
+    public static final String MESSAGE_LINE = "%1$s: %2$s";
+
+    /** Label of the line summarizing every student. */
+    public static final String LABEL_ALL = "All students";
+
+    /** Error shown when the start date is after the end date. */
+    public static final String MESSAGE_INVALID_RANGE = "The start date must not be after the end date.";
+
+    /** Error shown when the referenced group does not exist. */
+    public static final String MESSAGE_GROUP_NOT_FOUND = "Group \"%1$s\" not found.";
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Optional<Index> targetIndex;
+    private final Optional<GroupName> groupName;
+
+    /**
+     * Constructs a command reporting attendance from {@code from} to {@code to}, both inclusive.
+     *
+     * @param targetIndex 1-based index of the one student to report on, from the displayed list, if any.
+     * @param groupName   group whose members to report on, if any. At most one of this and {@code targetIndex}
+     *                    may be present; if neither is, every student is reported on.
+     */
+    public AttendanceReportCommand(LocalDate from, LocalDate to, Optional<Index> targetIndex,
+            Optional<GroupName> groupName) {
+        this.from = requireNonNull(from);
+        this.to = requireNonNull(to);
+        this.targetIndex = requireNonNull(targetIndex);
+        this.groupName = requireNonNull(groupName);
+        assert targetIndex.isEmpty() || groupName.isEmpty() : "both a student and a group given";
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (from.isAfter(to)) {
+            throw new CommandException(MESSAGE_INVALID_RANGE);
+        }
+
+        AttendanceIndex attendance = model.getAttendanceIndex();
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_HEADER, from, to));
+
+        if (targetIndex.isPresent()) {
+            var shown = model.getFilteredPersonList();
+            if (targetIndex.get().getZeroBased() >= shown.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+            }
+            Person student = shown.get(targetIndex.get().getZeroBased());
+            appendLine(report, student.getName().fullName, summarize(attendance, student));
+            return new CommandResult(report.toString());
+        }
+
+        List<Person> students = studentsOf(model, groupName);
+        AttendanceSummary[] summaries = new AttendanceSummary[students.size()];
+        AttendanceSummary total = AttendanceSummary.EMPTY;
+        for (int i = 0; i < students.size(); i++) {
+            summaries[i] = summarize(attendance, students.get(i));
+            total = total.combine(summaries[i]);
+        }
+
+        appendLine(report, groupName.map(GroupName::toString).orElse(LABEL_ALL), total);
+        for (int i = 0; i < students.size(); i++) {
+            appendLine(report, (i + 1) + ". " + students.get(i).getName().fullName, summaries[i]);
+        }
+        return new CommandResult(report.toString());
+    }
+
+    /**
+     * Returns the members of {@code groupName} if present, or else every student, in address book order.
+     *
+     * @throws CommandException if the group does not exist
+     */
+    static List<Person> studentsOf(Model model, Optional<GroupName> groupName) throws CommandException {
+        List<Person> persons = model.getAddressBook().getPersonList();
+        if (groupName.isEmpty()) {
+            return persons;
+        }
+        if (!model.hasGroup(groupName.get())) {
+            throw new CommandException(String.format(MESSAGE_GROUP_NOT_FOUND, groupName.get()));
+        }
+        return persons.stream().filter(p -> model.getGroupsOf(p).contains(groupName.get())).toList();
+    }
+
+    private AttendanceSummary summarize(AttendanceIndex attendance, Person student) {
+        return attendance.summarize(student.getId(), from, to);
+    }
+
+    private static void appendLine(StringBuilder report, String label, AttendanceSummary summary) {
+        report.append('\n').append(String.format(MESSAGE_LINE, label, summary));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AttendanceReportCommand)) {
+            return false;
+        }
+        AttendanceReportCommand otherCommand = (AttendanceReportCommand) other;
+        return from.equals(otherCommand.from)
+                && to.equals(otherCommand.to)
+                && targetIndex.equals(otherCommand.targetIndex)
+                && groupName.equals(otherCommand.groupName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, targetIndex, groupName);
+    }
+}
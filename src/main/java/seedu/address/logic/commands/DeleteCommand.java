@@ -13,6 +13,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.group.MemberBitmap;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentFieldsContainsKeywordsPredicate;
 
@@ -76,31 +77,31 @@ public class DeleteCommand extends Command {
         if (targetIndex.isPresent()) {
             Person personToDelete = getPersonToDeleteByIndex(model);
             model.deletePerson(personToDelete);
-            model.refreshReminders();
+            model.refreshRemindersOf(personToDelete);
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         }
 
         // deleting by keywords
         StudentFieldsContainsKeywordsPredicate pred = predicate.get();
-        model.updateFilteredPersonList(pred);
+        MemberBitmap found = model.searchPersons(pred.getKeywords());
+        model.updateFilteredPersonList(pred.withMatches(found));
         List<Person> matches = model.getFilteredPersonList();
 
         if (matches.isEmpty()) {
             return new CommandResult(MESSAGE_NO_MATCH);
         }
 
-        String keyword = String.join(" ", pred.getKeywords()).trim().toLowerCase();
+        // every exact match contains each keyword, so it is always among the matches above
+        String keyword = String.join(" ", pred.getKeywords());
 
         // name
-        List<Person> exactNameMatches = matches.stream()
-                .filter(p -> p.getName().fullName.trim().toLowerCase().equals(keyword))
-                .toList();
+        List<Person> exactNameMatches = model.findPersonsByName(keyword);
 
         // delete if match
         if (exactNameMatches.size() == 1) {
             Person personToDelete = exactNameMatches.get(0);
             model.deletePerson(personToDelete);
-            model.refreshReminders();
+            model.refreshRemindersOf(personToDelete);
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         }
 
@@ -108,14 +109,12 @@ public class DeleteCommand extends Command {
 
         // phone number
         if (exactNameMatches.isEmpty()) {
-            List<Person> exactPhoneMatches = matches.stream()
-                    .filter(p -> p.getPhone().value.trim().equalsIgnoreCase(keyword))
-                    .toList();
+            List<Person> exactPhoneMatches = model.findPersonsByPhone(keyword);
 
             if (exactPhoneMatches.size() == 1) {
                 Person personToDelete = exactPhoneMatches.get(0);
                 model.deletePerson(personToDelete);
-                model.refreshReminders();
+                model.refreshRemindersOf(personToDelete);
                 return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
             } else if (exactPhoneMatches.size() > 1) {
                 refinementCandidates = exactPhoneMatches;
@@ -123,17 +122,12 @@ public class DeleteCommand extends Command {
 
             // lesson time match
             if (exactPhoneMatches.isEmpty()) {
-                List<Person> exactLessonMatches = matches.stream()
-                        .filter(p -> p.getLessonTime() != null
-                                && p.getLessonTime().stream()
-                                .map(lt -> lt.toString().trim().toLowerCase())
-                                .anyMatch(t -> t.equals(keyword)))
-                        .toList();
+                List<Person> exactLessonMatches = model.findPersonsByLessonTime(keyword);
 
                 if (exactLessonMatches.size() == 1) {
                     Person personToDelete = exactLessonMatches.get(0);
                     model.deletePerson(personToDelete);
-                    model.refreshReminders();
+                    model.refreshRemindersOf(personToDelete);
                     return new CommandResult(String.format(
                             MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
                 } else if (exactLessonMatches.size() > 1) {
@@ -157,7 +151,7 @@ public class DeleteCommand extends Command {
 
         Person personToDelete = refinementCandidates.get(0);
         model.deletePerson(personToDelete);
-        model.refreshReminders();
+        model.refreshRemindersOf(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
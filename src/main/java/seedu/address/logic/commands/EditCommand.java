@@ -97,7 +97,7 @@ public class EditCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.refreshReminders();
+        model.refreshRemindersOf(editedPerson);
         String msg = String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson));
         msg = unfoundLessonTimeMessage.isEmpty() ? msg : unfoundLessonTimeMessage + "\n" + msg;
         return new CommandResult(msg);
@@ -133,10 +133,7 @@ public class EditCommand extends Command {
             }
         }
 
-        Person newPerson = new Person(updatedName, updatedPhone, updateLessonTime);
-        newPerson.setAllPaymentStatus(personToEdit.getPaymentStatusBitSet());
-        newPerson.setHomeworkList(personToEdit.getHomeworkList());
-        return newPerson;
+        return personToEdit.withFields(updatedName, updatedPhone, updateLessonTime);
     }
 
     @Override
@@ -0,0 +1,126 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ANY_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOT_GROUP;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
+
+/**
+ * Shows only the students whose group memberships match a combination of groups: in every one of some groups,
+ * in at least one of others, and in none of the rest.
+ * <p>
+ * Format: {@code group-filter [g/GROUP]... [any/GROUP]... [not/GROUP]...}
+ */
+public class GroupFilterCommand extends Command {
+
+    /** Command word for filtering students by groups. */
+    public static final String COMMAND_WORD = "group-filter";
+
+    /** Usage message shown on format errors. */
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the students in every g/ group, in at least one any/ group, and in no not/ group.\n"
+            + "Parameters: [" + PREFIX_GROUP + "GROUP]... [" + PREFIX_ANY_GROUP + "GROUP]... ["
+            + PREFIX_NOT_GROUP + "GROUP]... (at least one " + PREFIX_GROUP + " or " + PREFIX_ANY_GROUP + ")\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_GROUP + "Sec3-Math " + PREFIX_NOT_GROUP + "Sec3-Sci";
+
+    /** Success message template. */
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) in %2$s";
+
+    /** Error shown when a referenced group does not exist. */
+    public static final String MESSAGE_GROUP_NOT_FOUND = "Group \"%1$s\" not found.";
+
+    private final List<GroupName> allOf;
+    private final List<GroupName> anyOf;
+    private final List<GroupName> noneOf;
+
+    /**
+     * Constructs a command showing the students in all of {@code allOf}, in at least one of {@code anyOf} and in
+     * none of {@code noneOf}. An empty {@code anyOf} places no condition; {@code allOf} and {@code anyOf} must not
+     * both be empty.
+     */
+    public GroupFilterCommand(List<GroupName> allOf, List<GroupName> anyOf, List<GroupName> noneOf) {
+        this.allOf = List.copyOf(requireNonNull(allOf));
+        this.anyOf = List.copyOf(requireNonNull(anyOf));
+        this.noneOf = List.copyOf(requireNonNull(noneOf));
+        if (allOf.isEmpty() && anyOf.isEmpty()) {
+            throw new IllegalArgumentException("At least one group must be included");
+        }
+    }
+
+    /**
+     * Executes the command, combining the groups' member sets and showing the students in the result.
+     *
+     * @param model backing model (non-null)
+     * @return command result with the number of students shown
+     * @throws CommandException if any of the groups does not exist
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<GroupName> referenced = Stream.of(allOf, anyOf, noneOf).flatMap(List::stream).toList();
+        for (GroupName group : referenced) {
+            if (!model.hasGroup(group)) {
+                throw new CommandException(String.format(MESSAGE_GROUP_NOT_FOUND, group));
+            }
+        }
+
+        MemberBitmap matches = null;
+        for (GroupName group : allOf) {
+            MemberBitmap members = model.getMembersOf(group);
+            matches = matches == null ? members : matches.and(members);
+        }
+        if (!anyOf.isEmpty()) {
+            MemberBitmap inAny = MemberBitmap.EMPTY;
+            for (GroupName group : anyOf) {
+                inAny = inAny.or(model.getMembersOf(group));
+            }
+            matches = matches == null ? inAny : matches.and(inAny);
+        }
+        for (GroupName group : noneOf) {
+            matches = matches.andNot(model.getMembersOf(group));
+        }
+
+        MemberBitmap result = matches;
+        model.updateFilteredPersonList(person -> result.contains(person.getId().value));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(), describe()));
+    }
+
+    /**
+     * Returns the combination of groups in words, e.g. {@code Sec3-Math and not Sec3-Sci}.
+     */
+    private String describe() {
+        List<String> parts = new ArrayList<>();
+        allOf.forEach(group -> parts.add(group.toString()));
+        if (anyOf.size() == 1) {
+            parts.add(anyOf.get(0).toString());
+        } else if (!anyOf.isEmpty()) {
+            parts.add(anyOf.stream().map(GroupName::toString).collect(Collectors.joining(" or ", "(", ")")));
+        }
+        noneOf.forEach(group -> parts.add("not " + group));
+        return String.join(" and ", parts);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof GroupFilterCommand)) {
+            return false;
+        }
+        GroupFilterCommand otherCommand = (GroupFilterCommand) other;
+        return allOf.equals(otherCommand.allOf)
+                && anyOf.equals(otherCommand.anyOf)
+                && noneOf.equals(otherCommand.noneOf);
+    }
+}
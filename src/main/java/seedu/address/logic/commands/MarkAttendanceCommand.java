@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Records a student as present or absent on a date.
+ * <p>
+ * Format: {@code attendance i/INDEX d/DATE s/present|absent}
+ */
+public class MarkAttendanceCommand extends Command {
+
+    /** Command word for recording attendance. */
+    public static final String COMMAND_WORD = "attendance";
+
+    /** Usage message shown on format errors. */
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Records a student, by the index number used in the displayed student list, as present or absent "
+            + "on a date.\n"
+            + "Parameters: " + PREFIX_INDEX + "INDEX " + PREFIX_DATE + "DATE " + PREFIX_STATUS + "present|absent\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_INDEX + "1 " + PREFIX_DATE + "2025-09-19 "
+            + PREFIX_STATUS + "absent";
+
+    /** Message shown once attendance is recorded. */
+    public static final String MESSAGE_SUCCESS = "Recorded %1$s as %2$s on %3$s.";
+
+    private final Index targetIndex;
+    private final LocalDate date;
+    private final boolean isPresent;
+
+    /**
+     * Constructs a command recording the student at {@code targetIndex} of the displayed list as present or
+     * absent on {@code date}.
+     */
+    public MarkAttendanceCommand(Index targetIndex, LocalDate date, boolean isPresent) {
+        this.targetIndex = requireNonNull(targetIndex);
+        this.date = requireNonNull(date);
+        this.isPresent = isPresent;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        var shown = model.getFilteredPersonList();
+        if (targetIndex.getZeroBased() >= shown.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+        }
+        Person student = shown.get(targetIndex.getZeroBased());
+        model.getAttendanceIndex().put(student.getId(), date, isPresent);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, student.getName().fullName,
+                isPresent ? "present" : "absent", date));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof MarkAttendanceCommand)) {
+            return false;
+        }
+        MarkAttendanceCommand otherCommand = (MarkAttendanceCommand) other;
+        return targetIndex.equals(otherCommand.targetIndex)
+                && date.equals(otherCommand.date)
+                && isPresent == otherCommand.isPresent;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetIndex, date, isPresent);
+    }
+}
@@ -4,44 +4,75 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.payment.PaymentLedger;
 import seedu.address.model.person.Person;
 
 /**
- * Marks a student as paid for a specific month.
+ * Marks one or more students as paid for a specific month.
  */
 public class MarkPaidCommand extends Command {
     public static final String COMMAND_WORD = "mark-paid";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks a student as paid for a month.\n"
-            + "Parameters: " + PREFIX_INDEX + "INDEX " + PREFIX_MONTH + "MONTH\n"
-            + "MONTH must be a number from 1 to 12 (January to December)\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks students as paid for a month.\n"
+            + "Parameters: " + PREFIX_INDEX + "INDEX [" + PREFIX_INDEX + "INDEX]... " + PREFIX_MONTH + "MONTH\n"
+            + "MONTH must be a number from 1 to 12 (January to December) for this year, "
+            + "or a month of another year such as 2025-09\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_INDEX + "1 " + PREFIX_MONTH + "9";
 
     public static final String MESSAGE_MARK_PAID_SUCCESS =
             "Marked student as paid: %1$s\nMonth: %2$s\n%3$s";
+    public static final String MESSAGE_MARK_PAID_BULK_SUCCESS = "Marked %1$d student(s) as paid for %2$s: %3$s";
     public static final String MESSAGE_ALREADY_PAID = "Student %1$s is already marked as paid for %2$s.";
+    public static final String MESSAGE_ALL_ALREADY_PAID = "All the given students are already marked as paid for %1$s.";
     public static final String MESSAGE_INVALID_MONTH = "Invalid month. Month must be between 1 and 12.";
 
-    private final Index index;
+    private final List<Index> indices;
+    private final int year;
     private final int month;
 
     /**
-     * Constructs a {@code MarkPaidCommand} to mark a student as paid for a month.
+     * Constructs a {@code MarkPaidCommand} to mark a student as paid for a month of this year.
      *
      * @param index the index of the student in the displayed list
      * @param month the month to be marked as paid
      */
     public MarkPaidCommand(Index index, int month) {
         requireNonNull(index);
-        this.index = index;
+        this.indices = List.of(index);
+        this.year = LocalDate.now().getYear();
         this.month = month;
     }
 
+    /**
+     * Constructs a {@code MarkPaidCommand} to mark several students as paid for a month at once.
+     *
+     * @param indices the indices of the students in the displayed list
+     * @param month the month to be marked as paid
+     */
+    public MarkPaidCommand(List<Index> indices, YearMonth month) {
+        requireNonNull(indices);
+        requireNonNull(month);
+        if (indices.isEmpty()) {
+            throw new IllegalArgumentException("At least one student must be given");
+        }
+        this.indices = List.copyOf(indices);
+        this.year = month.getYear();
+        this.month = month.getMonthValue();
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -49,39 +80,48 @@ public class MarkPaidCommand extends Command {
         if (month < 1 || month > 12) {
             throw new CommandException(MESSAGE_INVALID_MONTH);
         }
+        YearMonth yearMonth = YearMonth.of(year, month);
 
         var lastShownList = model.getFilteredPersonList();
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException("Invalid student index provided.");
+        Set<Person> personsToUpdate = new LinkedHashSet<>();
+        for (Index index : indices) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException("Invalid student index provided.");
+            }
+            personsToUpdate.add(lastShownList.get(index.getZeroBased()));
         }
 
-        Person personToUpdate = lastShownList.get(index.getZeroBased());
-
-        boolean currentStatus = personToUpdate.isPaidForMonth(month);
+        PaymentLedger ledger = model.getPaymentLedger();
+        List<Person> unpaid = new ArrayList<>();
+        for (Person person : personsToUpdate) {
+            if (!ledger.isPaid(person.getId(), yearMonth)) {
+                unpaid.add(person);
+            }
+        }
 
-        if (currentStatus) {
-            throw new CommandException(
-                    String.format(MESSAGE_ALREADY_PAID, personToUpdate.getName(), getMonthName(month)));
+        String monthName = Messages.format(yearMonth);
+        if (unpaid.isEmpty()) {
+            throw new CommandException(personsToUpdate.size() == 1
+                    ? String.format(MESSAGE_ALREADY_PAID, personsToUpdate.iterator().next().getName(), monthName)
+                    : String.format(MESSAGE_ALL_ALREADY_PAID, monthName));
         }
 
-        personToUpdate.setPaymentStatus(month, true);
+        model.setPaymentStatus(unpaid, yearMonth, true);
 
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        model.refreshReminders();
-
-        String monthName = getMonthName(month);
-        String statusDisplay = personToUpdate.getPaymentStatusDisplay();
+        unpaid.forEach(model::refreshRemindersOf);
 
+        if (personsToUpdate.size() > 1) {
+            String names = unpaid.stream().map(person -> person.getName().toString())
+                    .collect(Collectors.joining(", "));
+            return new CommandResult(String.format(MESSAGE_MARK_PAID_BULK_SUCCESS, unpaid.size(), monthName, names));
+        }
+        Person personToUpdate = unpaid.get(0);
+        String statusDisplay = Person.describePaymentStatus(ledger.getPaidMonths(personToUpdate.getId(), year));
         return new CommandResult(
                 String.format(MESSAGE_MARK_PAID_SUCCESS, personToUpdate.getName(), monthName, statusDisplay));
     }
 
-    private String getMonthName(int month) {
-        String[] monthNames = { "January", "February", "March", "April", "May", "June",
-            "July", "August", "September", "October", "November", "December" };
-        return monthNames[month - 1];
-    }
-
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -91,11 +131,11 @@ public class MarkPaidCommand extends Command {
             return false;
         }
         MarkPaidCommand otherCommand = (MarkPaidCommand) other;
-        return index.equals(otherCommand.index) && month == otherCommand.month;
+        return indices.equals(otherCommand.indices) && year == otherCommand.year && month == otherCommand.month;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(index, month);
+        return Objects.hash(indices, year, month);
     }
 }
@@ -4,9 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.payment.PaymentLedger;
 import seedu.address.model.person.Person;
 
 /**
@@ -17,7 +23,8 @@ public class MarkUnpaidCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks a student as unpaid for a month.\n"
             + "Parameters: " + PREFIX_INDEX + "INDEX " + PREFIX_MONTH + "MONTH\n"
-            + "MONTH must be a number from 1 to 12 (January to December)\n"
+            + "MONTH must be a number from 1 to 12 (January to December) for this year, "
+            + "or a month of another year such as 2025-09\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_INDEX + "1 " + PREFIX_MONTH + "9";
 
     public static final String MESSAGE_MARK_UNPAID_SUCCESS =
@@ -26,10 +33,11 @@ public class MarkUnpaidCommand extends Command {
     public static final String MESSAGE_INVALID_MONTH = "Invalid month. Month must be between 1 and 12.";
 
     private final Index index;
+    private final int year;
     private final int month;
 
     /**
-     * Constructs a {@code MarkUnpaidCommand} to mark a student as unpaid for a month.
+     * Constructs a {@code MarkUnpaidCommand} to mark a student as unpaid for a month of this year.
      *
      * @param index the index of the student in the displayed list
      * @param month the month to be marked as unpaid
@@ -37,9 +45,24 @@ public class MarkUnpaidCommand extends Command {
     public MarkUnpaidCommand(Index index, int month) {
         requireNonNull(index);
         this.index = index;
+        this.year = LocalDate.now().getYear();
         this.month = month;
     }
 
+    /**
+     * Constructs a {@code MarkUnpaidCommand} to mark a student as unpaid for a month of any year.
+     *
+     * @param index the index of the student in the displayed list
+     * @param month the month to be marked as unpaid
+     */
+    public MarkUnpaidCommand(Index index, YearMonth month) {
+        requireNonNull(index);
+        requireNonNull(month);
+        this.index = index;
+        this.year = month.getYear();
+        this.month = month.getMonthValue();
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -47,6 +70,7 @@ public class MarkUnpaidCommand extends Command {
         if (month < 1 || month > 12) {
             throw new CommandException(MESSAGE_INVALID_MONTH);
         }
+        YearMonth yearMonth = YearMonth.of(year, month);
 
         var lastShownList = model.getFilteredPersonList();
         if (index.getZeroBased() >= lastShownList.size()) {
@@ -55,29 +79,25 @@ public class MarkUnpaidCommand extends Command {
 
         Person personToUpdate = lastShownList.get(index.getZeroBased());
 
-        if (!personToUpdate.isPaidForMonth(month)) {
+        PaymentLedger ledger = model.getPaymentLedger();
+        String monthName = Messages.format(yearMonth);
+
+        if (!ledger.isPaid(personToUpdate.getId(), yearMonth)) {
             throw new CommandException(
-                    String.format(MESSAGE_ALREADY_UNPAID, personToUpdate.getName(), getMonthName(month)));
+                    String.format(MESSAGE_ALREADY_UNPAID, personToUpdate.getName(), monthName));
         }
 
-        personToUpdate.setPaymentStatus(month, false);
+        model.setPaymentStatus(List.of(personToUpdate), yearMonth, false);
 
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        model.refreshReminders();
+        model.refreshRemindersOf(personToUpdate);
 
-        String monthName = getMonthName(month);
-        String statusDisplay = personToUpdate.getPaymentStatusDisplay();
+        String statusDisplay = Person.describePaymentStatus(ledger.getPaidMonths(personToUpdate.getId(), year));
 
         return new CommandResult(
                 String.format(MESSAGE_MARK_UNPAID_SUCCESS, personToUpdate.getName(), monthName, statusDisplay));
     }
 
-    private String getMonthName(int month) {
-        String[] monthNames = { "January", "February", "March", "April", "May", "June",
-            "July", "August", "September", "October", "November", "December" };
-        return monthNames[month - 1];
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -87,6 +107,6 @@ public class MarkUnpaidCommand extends Command {
             return false;
         }
         MarkUnpaidCommand otherCommand = (MarkUnpaidCommand) other;
-        return index.equals(otherCommand.index) && month == otherCommand.month;
+        return index.equals(otherCommand.index) && year == otherCommand.year && month == otherCommand.month;
     }
 }
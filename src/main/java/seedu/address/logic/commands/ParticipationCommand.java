@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.ParticipationRecord;
@@ -12,7 +13,7 @@ import seedu.address.model.person.Person;
 import seedu.address.ui.UiAttendanceAccess;
 
 /**
- * Records participation for a student on a date.
+ * Records participation for a student on a date, which also marks the student as present on that date.
  * <p>
  * Format: {@code participation n/NAME d/YYYY-MM-DD s/0..5}
  */
@@ -74,12 +75,10 @@ public class ParticipationCommand extends Command {
             throw new CommandException("Invalid participation score. Must be between 0 and 5 inclusive.");
         }
 
-        // --- find the person directly from the address book (no Model API change)
-        String norm = name.trim().replaceAll("\\s+", " ").toLowerCase();
-        Person person = model.getAddressBook().getPersonList().stream()
-                .filter(p -> p.getName().fullName.trim().replaceAll("\\s+", " ").toLowerCase().equals(norm))
-                .findFirst()
-                .orElseThrow(() -> new CommandException("Invalid student name: no matching student found."));
+        // --- find the person by name, ignoring case and extra whitespace
+        Person person = model.findPersonByName(name)
+                .orElseThrow(() -> new CommandException(Messages.withSuggestions(
+                        "Invalid student name: no matching student found.", model.suggestPersonNames(name))));
 
         // --- record participation on the person (keeps last 5 internally)
         person.getParticipation().add(new ParticipationRecord(date, score));
@@ -91,15 +90,18 @@ public class ParticipationCommand extends Command {
             // test stubs may throw; production Model will persist
         }
 
-        // --- notify UI date (preserve existing behaviour)
+        // --- a student who took part in the lesson attended it
         var idx = model.getAttendanceIndex();
+        idx.put(person.getId(), date, true);
+
+        // --- notify UI date (preserve existing behaviour)
         idx.setCurrentUiDate(date);
 
         // --- refresh listing
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
         // legacy hook (keep for other UI parts)
-        UiAttendanceAccess.install((n, d) -> model.getAttendanceIndex().get(n, d).orElse(null), () ->
+        UiAttendanceAccess.install((n, d) -> model.getAttendanceIndex().lookup(n, d), () ->
                                     model.getAttendanceIndex().getCurrentUiDate());
 
         return new CommandResult(String.format(
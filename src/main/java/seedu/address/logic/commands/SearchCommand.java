@@ -7,6 +7,7 @@ import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
+import seedu.address.model.group.MemberBitmap;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentFieldsContainsKeywordsPredicate;
 
@@ -36,7 +37,8 @@ public class SearchCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        MemberBitmap found = model.searchPersons(predicate.getKeywords());
+        model.updateFilteredPersonList(predicate.withMatches(found));
         List<Person> results = model.getFilteredPersonList();
         if (results.isEmpty()) {
             return new CommandResult(MESSAGE_NO_MATCH);
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FOR_MONTHS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+
+import java.time.YearMonth;
+import java.util.Objects;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.group.MemberBitmap;
+
+/**
+ * Shows only the students who have not paid for a month, or for any of several months running up to it.
+ * <p>
+ * Format: {@code unpaid [m/MONTH] [for/MONTHS]}
+ */
+public class UnpaidCommand extends Command {
+
+    /** Command word for listing students who have not paid. */
+    public static final String COMMAND_WORD = "unpaid";
+
+    /** Usage message shown on format errors. */
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists students who have not paid for a month (this month by default), "
+            + "or for any of the given number of months up to it.\n"
+            + "Parameters: [" + PREFIX_MONTH + "MONTH] [" + PREFIX_FOR_MONTHS + "MONTHS]\n"
+            + "MONTH must be a number from 1 to 12 (January to December) for this year, "
+            + "or a month of another year such as 2025-09\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_MONTH + "10 " + PREFIX_FOR_MONTHS + "3";
+
+    /** Success message when a single month is checked. */
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) have not paid for %2$s";
+
+    /** Success message when several months are checked. */
+    public static final String MESSAGE_SUCCESS_MONTHS = "%1$d student(s) have not paid for %2$d months up to %3$s";
+
+    private final YearMonth month;
+    private final int months;
+
+    /**
+     * Constructs a command showing the students who have paid for none of the {@code months} months ending with
+     * {@code month}.
+     */
+    public UnpaidCommand(YearMonth month, int months) {
+        this.month = requireNonNull(month);
+        if (months < 1) {
+            throw new IllegalArgumentException("Number of months must be positive");
+        }
+        this.months = months;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        MemberBitmap students = MemberBitmap.of(model.getAddressBook().getPersonList().stream()
+                .mapToInt(person -> person.getId().value).toArray());
+        MemberBitmap unpaid = model.getPaymentLedger().getUnpaidForMonths(students, month, months);
+        model.updateFilteredPersonList(person -> unpaid.contains(person.getId().value));
+
+        int count = model.getFilteredPersonList().size();
+        return new CommandResult(months == 1
+                ? String.format(MESSAGE_SUCCESS, count, Messages.format(month))
+                : String.format(MESSAGE_SUCCESS_MONTHS, count, months, Messages.format(month)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UnpaidCommand)) {
+            return false;
+        }
+        UnpaidCommand otherCommand = (UnpaidCommand) other;
+        return month.equals(otherCommand.month) && months == otherCommand.months;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(month, months);
+    }
+}
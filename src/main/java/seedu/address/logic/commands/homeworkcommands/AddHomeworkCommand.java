@@ -5,8 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
-import java.util.List;
-
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -57,8 +56,8 @@ public class AddHomeworkCommand extends Command {
         //Able to add homework after search command
         Person target = getPerson(model);
 
-        target.addHomework(homework);
-        model.refreshReminders();
+        model.addHomework(target, homework);
+        model.refreshRemindersOf(target);
 
         return new CommandResult(String.format(
                 MESSAGE_SUCCESS,
@@ -75,18 +74,11 @@ public class AddHomeworkCommand extends Command {
      *                          contains the homework.
      */
     private Person getPerson(Model model) throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-        Person target = null;
-        for (Person p : lastShownList) {
-            if (p.getName().equals(studentName)) {
-                target = p;
-                break;
-            }
-        }
-
-        if (target == null) {
-            throw new CommandException(MESSAGE_NO_PERSON_FOUND);
-        }
+        Person target = model.findPersonsByName(studentName.fullName).stream()
+                .filter(p -> p.getName().equals(studentName) && model.isPersonShown(p))
+                .findFirst()
+                .orElseThrow(() -> new CommandException(Messages.withSuggestions(MESSAGE_NO_PERSON_FOUND,
+                        model.suggestPersonNames(studentName.fullName))));
 
         if (target.getHomeworkList().contains(homework)) {
             throw new CommandException(MESSAGE_DUPLICATE_HOMEWORK);
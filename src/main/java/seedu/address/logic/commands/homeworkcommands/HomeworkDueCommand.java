@@ -0,0 +1,137 @@
+package seedu.address.logic.commands.homeworkcommands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex.Entry;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Shows the students with homework not yet done that is due within a number of days, optionally only the members
+ * of a group.
+ * <p>
+ * Format: {@code homework-due [days/DAYS] [g/GROUP]}
+ */
+public class HomeworkDueCommand extends Command {
+    public static final String COMMAND_WORD = "homework-due";
+
+    public static final int DEFAULT_DAYS = 3;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the homework not yet done that is due today or within the next DAYS days "
+            + "(" + DEFAULT_DAYS + " by default).\n"
+            + "Command format: " + COMMAND_WORD + " "
+            + "[" + PREFIX_DAYS + "DAYS] "
+            + "[" + PREFIX_GROUP + "GROUP]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DAYS + "7 "
+            + PREFIX_GROUP + "Sec3-Math";
+
+    public static final String MESSAGE_SUCCESS = "%1$d homework due within %2$d day(s)%3$s";
+    public static final String MESSAGE_GROUP_NOT_FOUND = "Group \"%1$s\" not found.";
+
+    private final LocalDate today;
+    private final int days;
+    private final Optional<GroupName> groupName;
+
+    /**
+     * Creates a HomeworkDueCommand to list the homework due from {@code today} to {@code days} days after it.
+     */
+    public HomeworkDueCommand(LocalDate today, int days, Optional<GroupName> groupName) {
+        requireNonNull(today);
+        requireNonNull(groupName);
+        if (days < 1) {
+            throw new IllegalArgumentException("Number of days must be positive");
+        }
+        this.today = today;
+        this.days = days;
+        this.groupName = groupName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Entry> due = model.getHomeworkIndex().getUndoneDueBetween(today, today.plusDays(days));
+        List<Entry> shown = showStudentsWith(model, due, groupName);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, shown.size(), days, describe(model, shown)));
+    }
+
+    /**
+     * Keeps the homework in {@code entries} given to members of {@code groupName}, if present, and shows only
+     * the students it was given to.
+     *
+     * @return the homework kept, in the order given.
+     * @throws CommandException if the group does not exist.
+     */
+    static List<Entry> showStudentsWith(Model model, List<Entry> entries, Optional<GroupName> groupName)
+            throws CommandException {
+        List<Entry> kept = entries;
+        if (groupName.isPresent()) {
+            if (!model.hasGroup(groupName.get())) {
+                throw new CommandException(String.format(MESSAGE_GROUP_NOT_FOUND, groupName.get()));
+            }
+            MemberBitmap members = model.getMembersOf(groupName.get());
+            kept = entries.stream().filter(entry -> members.contains(entry.getStudentId().value)).toList();
+        }
+        MemberBitmap students = MemberBitmap.of(kept.stream().mapToInt(entry -> entry.getStudentId().value).toArray());
+        model.updateFilteredPersonList(person -> students.contains(person.getId().value));
+        return kept;
+    }
+
+    /**
+     * Returns one line for each piece of homework in {@code entries}, naming the student it was given to.
+     * The students must be in the filtered person list of {@code model}.
+     */
+    static String describe(Model model, List<Entry> entries) {
+        Map<StudentId, Name> names = new HashMap<>();
+        for (Person person : model.getFilteredPersonList()) {
+            names.put(person.getId(), person.getName());
+        }
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : entries) {
+            Homework homework = entry.getHomework();
+            lines.append("\n").append(names.get(entry.getStudentId())).append(": ")
+                    .append(homework.getDescription()).append(" (due ").append(homework.getDeadline()).append(")");
+        }
+        return lines.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HomeworkDueCommand)) {
+            return false;
+        }
+
+        HomeworkDueCommand otherCommand = (HomeworkDueCommand) other;
+        return today.equals(otherCommand.today)
+                && days == otherCommand.days
+                && groupName.equals(otherCommand.groupName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(today, days, groupName);
+    }
+}
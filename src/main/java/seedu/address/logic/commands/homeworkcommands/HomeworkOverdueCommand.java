@@ -0,0 +1,77 @@
+package seedu.address.logic.commands.homeworkcommands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.HomeworkDeadlineIndex.Entry;
+
+/**
+ * Shows the students with homework not yet done whose deadline has passed, optionally only the members of a group.
+ * <p>
+ * Format: {@code homework-overdue [g/GROUP]}
+ */
+public class HomeworkOverdueCommand extends Command {
+    public static final String COMMAND_WORD = "homework-overdue";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the homework not yet done whose deadline is before today.\n"
+            + "Command format: " + COMMAND_WORD + " "
+            + "[" + PREFIX_GROUP + "GROUP]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_GROUP + "Sec3-Math";
+
+    public static final String MESSAGE_SUCCESS = "%1$d homework overdue%2$s";
+
+    private final LocalDate today;
+    private final Optional<GroupName> groupName;
+
+    /**
+     * Creates a HomeworkOverdueCommand to list the homework due before {@code today}.
+     */
+    public HomeworkOverdueCommand(LocalDate today, Optional<GroupName> groupName) {
+        requireNonNull(today);
+        requireNonNull(groupName);
+        this.today = today;
+        this.groupName = groupName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Entry> overdue = model.getHomeworkIndex().getOverdue(today);
+        List<Entry> shown = HomeworkDueCommand.showStudentsWith(model, overdue, groupName);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, shown.size(),
+                HomeworkDueCommand.describe(model, shown)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HomeworkOverdueCommand)) {
+            return false;
+        }
+
+        HomeworkOverdueCommand otherCommand = (HomeworkOverdueCommand) other;
+        return today.equals(otherCommand.today)
+                && groupName.equals(otherCommand.groupName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(today, groupName);
+    }
+}
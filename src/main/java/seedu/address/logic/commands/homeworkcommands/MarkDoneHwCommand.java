@@ -4,10 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
-import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -51,18 +51,11 @@ public class MarkDoneHwCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> lastShownList = model.getFilteredPersonList();
-        Person target = null;
-        for (Person p : lastShownList) {
-            if (p.getName().equals(studentName)) {
-                target = p;
-                break;
-            }
-        }
-
-        if (target == null) {
-            throw new CommandException(MESSAGE_NO_PERSON_FOUND);
-        }
+        Person target = model.findPersonsByName(studentName.fullName).stream()
+                .filter(p -> p.getName().equals(studentName) && model.isPersonShown(p))
+                .findFirst()
+                .orElseThrow(() -> new CommandException(Messages.withSuggestions(MESSAGE_NO_PERSON_FOUND,
+                        model.suggestPersonNames(studentName.fullName))));
 
         ObservableList<Homework> homeworkList = target.getHomeworkList();
         int size = homeworkList.size();
@@ -78,8 +71,8 @@ public class MarkDoneHwCommand extends Command {
         Homework toMark = homeworkList.get(zeroBased);
 
         if (!toMark.isDone()) {
-            toMark.markDone();
-            model.refreshReminders();
+            model.setHomeworkDone(target, toMark, true);
+            model.refreshRemindersOf(target);
         }
 
         return new CommandResult(String.format(
@@ -10,6 +10,8 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddReminderCommand;
+import seedu.address.logic.commands.AttendanceBelowCommand;
+import seedu.address.logic.commands.AttendanceReportCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -20,20 +22,27 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.GroupAddCommand;
 import seedu.address.logic.commands.GroupCreateCommand;
 import seedu.address.logic.commands.GroupDeleteCommand;
+import seedu.address.logic.commands.GroupFilterCommand;
 import seedu.address.logic.commands.GroupRemoveCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.commands.MarkPaidCommand;
 import seedu.address.logic.commands.MarkUnpaidCommand;
 import seedu.address.logic.commands.ParticipationCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.UnpaidCommand;
 import seedu.address.logic.commands.homeworkcommands.AddHomeworkCommand;
 import seedu.address.logic.commands.homeworkcommands.DeleteHomeworkCommand;
+import seedu.address.logic.commands.homeworkcommands.HomeworkDueCommand;
+import seedu.address.logic.commands.homeworkcommands.HomeworkOverdueCommand;
 import seedu.address.logic.commands.homeworkcommands.MarkDoneHwCommand;
 import seedu.address.logic.commands.homeworkcommands.MarkUndoneHwCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.homeworkparsers.AddHomeworkCommandParser;
 import seedu.address.logic.parser.homeworkparsers.DeleteHomeworkCommandParser;
+import seedu.address.logic.parser.homeworkparsers.HomeworkDueParser;
+import seedu.address.logic.parser.homeworkparsers.HomeworkOverdueParser;
 import seedu.address.logic.parser.homeworkparsers.MarkDoneHwParser;
 import seedu.address.logic.parser.homeworkparsers.MarkUndoneHwParser;
 
@@ -98,6 +107,15 @@ public class AddressBookParser {
         case ParticipationCommand.COMMAND_WORD:
             return new ParticipationCommandParser().parse(arguments);
 
+        case AttendanceReportCommand.COMMAND_WORD:
+            return new AttendanceReportCommandParser().parse(arguments);
+
+        case AttendanceBelowCommand.COMMAND_WORD:
+            return new AttendanceBelowCommandParser().parse(arguments);
+
+        case MarkAttendanceCommand.COMMAND_WORD:
+            return new MarkAttendanceCommandParser().parse(arguments);
+
         case AddReminderCommand.COMMAND_WORD:
             return new AddReminderCommandParser().parse(arguments);
 
@@ -113,6 +131,9 @@ public class AddressBookParser {
         case MarkUnpaidCommand.COMMAND_WORD:
             return new MarkUnpaidCommandParser().parse(arguments);
 
+        case UnpaidCommand.COMMAND_WORD:
+            return new UnpaidCommandParser().parse(arguments);
+
         case AddHomeworkCommand.COMMAND_WORD:
             return new AddHomeworkCommandParser().parse(arguments);
 
@@ -125,6 +146,12 @@ public class AddressBookParser {
         case DeleteHomeworkCommand.COMMAND_WORD:
             return new DeleteHomeworkCommandParser().parse(arguments);
 
+        case HomeworkDueCommand.COMMAND_WORD:
+            return new HomeworkDueParser().parse(arguments);
+
+        case HomeworkOverdueCommand.COMMAND_WORD:
+            return new HomeworkOverdueParser().parse(arguments);
+
         case GroupCreateCommand.COMMAND_WORD:
             return new GroupCreateCommandParser().parse(arguments);
 
@@ -137,6 +164,9 @@ public class AddressBookParser {
         case GroupRemoveCommand.COMMAND_WORD:
             return new GroupRemoveCommandParser().parse(arguments);
 
+        case GroupFilterCommand.COMMAND_WORD:
+            return new GroupFilterCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.AttendanceBelowCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AttendanceBelowCommand object
+ */
+public class AttendanceBelowCommandParser implements Parser<AttendanceBelowCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AttendanceBelowCommand
+     * @return an AttendanceBelowCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AttendanceBelowCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_RATE, PREFIX_GROUP);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO, PREFIX_RATE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceBelowCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO, PREFIX_RATE, PREFIX_GROUP);
+
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        double threshold = parsePercent(argMultimap.getValue(PREFIX_RATE).get());
+
+        return new AttendanceBelowCommand(from, to, threshold,
+                AttendanceReportCommandParser.parseGroupName(argMultimap));
+    }
+
+    private static double parsePercent(String percent) throws ParseException {
+        String trimmed = percent.trim();
+        if (trimmed.endsWith("%")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+        }
+        try {
+            double value = Double.parseDouble(trimmed);
+            if (value >= 0 && value <= 100) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new ParseException(AttendanceBelowCommand.MESSAGE_INVALID_THRESHOLD);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
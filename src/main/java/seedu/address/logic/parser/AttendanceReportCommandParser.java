@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendanceReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupName;
+
+/**
+ * Parses input arguments and creates a new AttendanceReportCommand object
+ */
+public class AttendanceReportCommandParser implements Parser<AttendanceReportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AttendanceReportCommand
+     * @return an AttendanceReportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AttendanceReportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_INDEX, PREFIX_GROUP);
+
+        if (argMultimap.getValue(PREFIX_FROM).isEmpty()
+                || argMultimap.getValue(PREFIX_TO).isEmpty()
+                || (argMultimap.getValue(PREFIX_INDEX).isPresent() && argMultimap.getValue(PREFIX_GROUP).isPresent())
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceReportCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO, PREFIX_INDEX, PREFIX_GROUP);
+
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        Optional<Index> index = argMultimap.getValue(PREFIX_INDEX).isPresent()
+                ? Optional.of(ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get()))
+                : Optional.empty();
+
+        return new AttendanceReportCommand(from, to, index, parseGroupName(argMultimap));
+    }
+
+    /**
+     * Returns the group name given with {@code g/}, if any.
+     *
+     * @throws ParseException if the group name is invalid
+     */
+    static Optional<GroupName> parseGroupName(ArgumentMultimap argMultimap) throws ParseException {
+        if (argMultimap.getValue(PREFIX_GROUP).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_GROUP).get()));
+    }
+}
@@ -13,9 +13,16 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_KEYWORD = new Prefix("k/");
     public static final Prefix PREFIX_MONTH = new Prefix("m/");
+    public static final Prefix PREFIX_FOR_MONTHS = new Prefix("for/");
     public static final Prefix PREFIX_DESC = new Prefix("desc/");
     public static final Prefix PREFIX_DEADLINE = new Prefix("by/");
     public static final Prefix PREFIX_GROUP = new Prefix("g/");
+    public static final Prefix PREFIX_ANY_GROUP = new Prefix("any/");
+    public static final Prefix PREFIX_NOT_GROUP = new Prefix("not/");
     public static final Prefix PREFIX_ADD_LESSON_TIME = new Prefix("t+/");
     public static final Prefix PREFIX_DELETE_LESSON_TIME = new Prefix("t-/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_RATE = new Prefix("r/");
+    public static final Prefix PREFIX_DAYS = new Prefix("days/");
 }
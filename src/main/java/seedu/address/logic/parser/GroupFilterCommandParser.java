@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ANY_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOT_GROUP;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.GroupFilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupName;
+
+/** Parses input for {@link GroupFilterCommand}. */
+public class GroupFilterCommandParser implements Parser<GroupFilterCommand> {
+
+    @Override
+    public GroupFilterCommand parse(String args) throws ParseException {
+        ArgumentMultimap map = ArgumentTokenizer.tokenize(args, PREFIX_GROUP, PREFIX_ANY_GROUP, PREFIX_NOT_GROUP);
+
+        List<GroupName> allOf = parseGroupNames(map.getAllValues(PREFIX_GROUP));
+        List<GroupName> anyOf = parseGroupNames(map.getAllValues(PREFIX_ANY_GROUP));
+        List<GroupName> noneOf = parseGroupNames(map.getAllValues(PREFIX_NOT_GROUP));
+        if (!map.getPreamble().isEmpty() || allOf.isEmpty() && anyOf.isEmpty()) {
+            throw new ParseException(String.format(
+                    Messages.MESSAGE_INVALID_COMMAND_FORMAT, GroupFilterCommand.MESSAGE_USAGE));
+        }
+
+        return new GroupFilterCommand(allOf, anyOf, noneOf);
+    }
+
+    private static List<GroupName> parseGroupNames(List<String> rawNames) throws ParseException {
+        List<GroupName> names = new ArrayList<>(rawNames.size());
+        for (String raw : rawNames) {
+            try {
+                names.add(GroupName.of(raw));
+            } catch (IllegalArgumentException ex) {
+                throw new ParseException(ex.getMessage());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MarkAttendanceCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MarkAttendanceCommand object
+ */
+public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand> {
+
+    public static final String MESSAGE_INVALID_STATUS = "Attendance must be either \"present\" or \"absent\".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MarkAttendanceCommand
+     * @return a MarkAttendanceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MarkAttendanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_INDEX, PREFIX_DATE, PREFIX_STATUS);
+
+        if (argMultimap.getValue(PREFIX_INDEX).isEmpty()
+                || argMultimap.getValue(PREFIX_DATE).isEmpty()
+                || argMultimap.getValue(PREFIX_STATUS).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkAttendanceCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_INDEX, PREFIX_DATE, PREFIX_STATUS);
+
+        Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
+        LocalDate date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        return new MarkAttendanceCommand(index, date, parseStatus(argMultimap.getValue(PREFIX_STATUS).get()));
+    }
+
+    private static boolean parseStatus(String status) throws ParseException {
+        switch (status.trim().toLowerCase(Locale.ROOT)) {
+        case "present":
+            return true;
+        case "absent":
+            return false;
+        default:
+            throw new ParseException(MESSAGE_INVALID_STATUS);
+        }
+    }
+}
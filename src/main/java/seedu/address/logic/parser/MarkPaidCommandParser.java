@@ -4,6 +4,9 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -28,12 +31,15 @@ public class MarkPaidCommandParser implements Parser<MarkPaidCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkPaidCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_INDEX, PREFIX_MONTH);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MONTH);
 
-        Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
-        int month = ParserUtil.parseMonth(argMultimap.getValue(PREFIX_MONTH).get());
+        List<Index> indices = new ArrayList<>();
+        for (String index : argMultimap.getAllValues(PREFIX_INDEX)) {
+            indices.add(ParserUtil.parseIndex(index));
+        }
+        YearMonth month = ParserUtil.parseYearMonth(argMultimap.getValue(PREFIX_MONTH).get());
 
-        return new MarkPaidCommand(index, month);
+        return new MarkPaidCommand(indices, month);
     }
 
     /**
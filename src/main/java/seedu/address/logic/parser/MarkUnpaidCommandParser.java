@@ -4,6 +4,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
 
+import java.time.YearMonth;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -31,7 +32,7 @@ public class MarkUnpaidCommandParser implements Parser<MarkUnpaidCommand> {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_INDEX, PREFIX_MONTH);
 
         Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
-        int month = ParserUtil.parseMonth(argMultimap.getValue(PREFIX_MONTH).get());
+        YearMonth month = ParserUtil.parseYearMonth(argMultimap.getValue(PREFIX_MONTH).get());
 
         return new MarkUnpaidCommand(index, month);
     }
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
@@ -11,6 +12,7 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupName;
 import seedu.address.model.person.LessonTime;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
@@ -23,6 +25,8 @@ import seedu.address.model.reminder.DueDate;
 public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_MONTH = "Month must be a valid number between 1 and 12";
+    public static final String MESSAGE_INVALID_YEAR_MONTH =
+            "Month must be a valid number between 1 and 12, or a year and month such as 2025-09";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it.
@@ -133,6 +137,25 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String month} into a {@code YearMonth}: either a number from 1 to 12, taken as a month of
+     * this year, or a year and month in the format YYYY-MM.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code month} is invalid.
+     */
+    public static YearMonth parseYearMonth(String month) throws ParseException {
+        String trimmedMonth = month.trim();
+        if (!trimmedMonth.matches("\\d+-\\d+")) {
+            return YearMonth.of(LocalDate.now().getYear(), parseMonth(trimmedMonth));
+        }
+        try {
+            return YearMonth.parse(trimmedMonth);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_YEAR_MONTH);
+        }
+    }
+
     /**
      * Parses a {@code Collection<String> lessonTime} into an {@code Set<LessonTime>}.
      */
@@ -174,4 +197,19 @@ public class ParserUtil {
         }
         return new Description(trimmedReminderDescription);
     }
+
+    /**
+     * Parses a {@code String groupName} into a {@code GroupName}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code groupName} is invalid.
+     */
+    public static GroupName parseGroupName(String groupName) throws ParseException {
+        requireNonNull(groupName);
+        try {
+            return GroupName.of(groupName);
+        } catch (IllegalArgumentException ex) {
+            throw new ParseException(ex.getMessage());
+        }
+    }
 }
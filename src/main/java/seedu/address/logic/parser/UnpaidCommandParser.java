@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FOR_MONTHS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.UnpaidCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnpaidCommand object
+ */
+public class UnpaidCommandParser implements Parser<UnpaidCommand> {
+
+    public static final String MESSAGE_INVALID_MONTHS = "Number of months must be a positive integer";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnpaidCommand
+     * and returns an UnpaidCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UnpaidCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MONTH, PREFIX_FOR_MONTHS);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnpaidCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MONTH, PREFIX_FOR_MONTHS);
+
+        Optional<String> month = argMultimap.getValue(PREFIX_MONTH);
+        YearMonth yearMonth = month.isPresent() ? ParserUtil.parseYearMonth(month.get()) : YearMonth.now();
+
+        int months = 1;
+        Optional<String> monthsValue = argMultimap.getValue(PREFIX_FOR_MONTHS);
+        if (monthsValue.isPresent()) {
+            String trimmed = monthsValue.get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmed)) {
+                throw new ParseException(MESSAGE_INVALID_MONTHS);
+            }
+            months = Integer.parseInt(trimmed);
+        }
+
+        return new UnpaidCommand(yearMonth, months);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser.homeworkparsers;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.homeworkcommands.HomeworkDueCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupName;
+
+/**
+ * Parses input arguments and creates a new {@code HomeworkDueCommand} object.
+ * <p>
+ * Both prefixes are optional: {@code homework-due [days/DAYS] [g/GROUP]}, where {@code DAYS} is a positive number
+ * of days from today and {@code GROUP} is the group whose members to look at.
+ */
+public class HomeworkDueParser implements Parser<HomeworkDueCommand> {
+
+    public static final String MESSAGE_INVALID_DAYS = "Number of days must be a positive integer";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code HomeworkDueCommand}
+     * and returns a HomeworkDueCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public HomeworkDueCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DAYS, PREFIX_GROUP);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HomeworkDueCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DAYS, PREFIX_GROUP);
+
+        int days = HomeworkDueCommand.DEFAULT_DAYS;
+        Optional<String> daysValue = argMultimap.getValue(PREFIX_DAYS);
+        if (daysValue.isPresent()) {
+            String trimmed = daysValue.get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmed)) {
+                throw new ParseException(MESSAGE_INVALID_DAYS);
+            }
+            days = Integer.parseInt(trimmed);
+        }
+
+        Optional<GroupName> groupName = Optional.empty();
+        if (argMultimap.getValue(PREFIX_GROUP).isPresent()) {
+            groupName = Optional.of(ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_GROUP).get()));
+        }
+
+        return new HomeworkDueCommand(LocalDate.now(), days, groupName);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser.homeworkparsers;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.homeworkcommands.HomeworkOverdueCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupName;
+
+/**
+ * Parses input arguments and creates a new {@code HomeworkOverdueCommand} object.
+ * <p>
+ * The prefix is optional: {@code homework-overdue [g/GROUP]}, where {@code GROUP} is the group whose members to
+ * look at.
+ */
+public class HomeworkOverdueParser implements Parser<HomeworkOverdueCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code HomeworkOverdueCommand}
+     * and returns a HomeworkOverdueCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public HomeworkOverdueCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    HomeworkOverdueCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP);
+
+        Optional<GroupName> groupName = Optional.empty();
+        if (argMultimap.getValue(PREFIX_GROUP).isPresent()) {
+            groupName = Optional.of(ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_GROUP).get()));
+        }
+
+        return new HomeworkOverdueCommand(LocalDate.now(), groupName);
+    }
+}
@@ -2,26 +2,40 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.reminder.UniqueReminderList.createHomeworkReminder;
+import static seedu.address.model.reminder.UniqueReminderList.nextHomeworkReminderChange;
 import static seedu.address.model.util.SampleDataUtil.getMonthName;
 
-import java.time.LocalDate;
-import java.util.HashSet;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
 import seedu.address.model.group.MembershipIndex;
 import seedu.address.model.group.UniqueGroupList;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonLookupIndex;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.reminder.DueDate;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.TimingWheel;
 import seedu.address.model.reminder.UniqueReminderList;
-import seedu.address.model.reminder.UnmodifiableHwReminder;
 import seedu.address.model.reminder.UnmodifiablePaymentReminder;
+import seedu.address.model.reminder.UnmodifiableReminder;
 
 /**
  * Wraps all data at the address-book level
@@ -32,6 +46,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueGroupList groups;
     private final UniqueReminderList reminders;
     private final MembershipIndex memberships;
+    private final TimingWheel<Runnable> reminderTimers;
+    private final Map<StudentId, TimingWheel.Timer<Runnable>> studentTimers;
+    private TimingWheel.Timer<Runnable> orderTimer;
+    private TimingWheel.Timer<Runnable> monthTimer;
+    private final PersonIndexes indexes;
+    private PaymentLedger paymentLedger = new PaymentLedger();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +65,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         reminders = new UniqueReminderList();
         groups = new UniqueGroupList();
         memberships = new MembershipIndex();
+        reminderTimers = new TimingWheel<>(DueDate.epochMinuteOf(LocalDateTime.now()));
+        studentTimers = new HashMap<>();
+        indexes = new PersonIndexes(persons.asUnmodifiableObservableList());
     }
 
     public AddressBook() {
@@ -66,6 +89,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        indexes.invalidate();
     }
 
     /**
@@ -74,6 +98,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setReminders(List<Reminder> reminders) {
         this.reminders.setReminders(reminders);
+        scheduleOrderUpdate();
+    }
+
+    /**
+     * Replaces the groups with {@code groups}, together with their members.
+     * {@code groups} must not contain duplicate group names, and their members must be students of this address book.
+     */
+    public void setGroups(List<Group> groups) {
+        this.groups.setGroups(groups);
+        memberships.clear();
+        for (Group group : groups) {
+            memberships.setMembers(group.getName(), group.getMembers());
+        }
     }
 
     /**
@@ -83,7 +120,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
         setReminders(newData.getReminderList());
-        clearGroupsAndMemberships();
+        setGroups(newData.getGroups());
     }
 
     /**
@@ -111,6 +148,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        indexes.add(p);
     }
 
     /**
@@ -121,9 +159,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
-        // Memberships are keyed by Person identity (equals/hashCode).
-        // If your Person identity fields change, memberships still refer to the new instance in the list,
-        // because AB3's setPerson preserves identity semantics.
+        indexes.replace(target, editedPerson);
+        // Memberships are keyed by StudentId, which an edited person keeps, so they need no update here.
     }
 
     /**
@@ -132,8 +169,81 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        indexes.remove(key);
         // NEW: also remove from all groups to avoid orphans
+        Set<GroupName> formerGroups = memberships.groupsOf(key);
         memberships.removeAllForPerson(key);
+        formerGroups.forEach(this::refreshGroup);
+    }
+
+    /**
+     * Returns the ids of the students whose name, phone number or lesson times contain any of {@code keywords},
+     * ignoring case. The index searched is built the first time it is needed.
+     */
+    public MemberBitmap searchPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return indexes.search().search(keywords);
+    }
+
+    /**
+     * Returns the index of the students by name, phone number and lesson time.
+     * The index is built the first time it is asked for.
+     */
+    public PersonLookupIndex getPersonLookup() {
+        return indexes.lookup();
+    }
+
+    /**
+     * Returns the names of the students closest to {@code name}, nearest first, to suggest when no student has
+     * that name. The index searched is built the first time it is needed.
+     */
+    public List<Name> suggestNames(String name) {
+        requireNonNull(name);
+        return indexes.names().suggest(name);
+    }
+
+    //// homework-level operations
+
+    /**
+     * Adds {@code homework} to the homework list of {@code person}.
+     * {@code person} must exist in the address book.
+     */
+    public void addHomework(Person person, Homework homework) {
+        requireNonNull(homework);
+        person.addHomework(homework);
+        indexes.addHomework(person.getId(), homework);
+    }
+
+    /**
+     * Removes {@code homework} from the homework list of {@code person}.
+     * {@code person} must exist in the address book.
+     */
+    public void removeHomework(Person person, Homework homework) {
+        requireNonNull(homework);
+        person.removeHomework(homework);
+        indexes.removeHomework(person.getId(), homework);
+    }
+
+    /**
+     * Marks {@code homework} of {@code person} as done or not done.
+     * {@code person} must exist in the address book.
+     */
+    public void setHomeworkDone(Person person, Homework homework, boolean isDone) {
+        requireNonNull(homework);
+        if (isDone) {
+            homework.markDone();
+        } else {
+            homework.markUndone();
+        }
+        indexes.updateHomework(person.getId(), homework);
+    }
+
+    /**
+     * Returns the index of every student's homework by deadline.
+     * The index is built the first time it is asked for, so that homework is not loaded before it is needed.
+     */
+    public HomeworkDeadlineIndex getHomeworkIndex() {
+        return indexes.homework();
     }
 
     //// group-level operations (NEW)
@@ -152,7 +262,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addGroup(Group group) {
         requireNonNull(group);
         groups.add(group);
-        memberships.ensureGroup(group.getName());
+        memberships.setMembers(group.getName(), group.getMembers());
     }
 
     /**
@@ -172,6 +282,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(people);
         memberships.ensureGroup(name);
         memberships.addMembers(name, people);
+        refreshGroup(name);
     }
 
     /**
@@ -181,6 +292,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(name);
         requireNonNull(people);
         memberships.removeMembers(name, people);
+        refreshGroup(name);
+    }
+
+    /**
+     * Replaces the group called {@code name} with one holding its current members, so that
+     * {@link #getGroups()} reflects the memberships.
+     */
+    private void refreshGroup(GroupName name) {
+        groups.getByName(name).ifPresent(group ->
+                groups.setGroup(new Group(group.getName(), memberships.getMembers(name))));
+    }
+
+    /**
+     * Returns the ids of the members of the group called {@code name} (empty if there is no such group).
+     */
+    public MemberBitmap getMembersOf(GroupName name) {
+        requireNonNull(name);
+        return memberships.getMembers(name);
     }
 
     /**
@@ -191,12 +320,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * All groups that contain {@code person}.
+     * All groups that contain {@code person}, as an unmodifiable set.
      */
     public Set<GroupName> getGroupsOf(Person person) {
         requireNonNull(person);
-        // Delegate to MembershipIndex helper; see its groupsOf(person)
-        return new HashSet<>(memberships.groupsOf(person));
+        // MembershipIndex keeps each person's groups ready, so this neither scans the groups nor copies
+        return memberships.groupsOf(person);
     }
 
     //// reminder-level operations
@@ -222,6 +351,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addReminder(Reminder p) {
         reminders.add(p);
+        scheduleOrderUpdate();
     }
 
     /**
@@ -233,6 +363,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedReminder);
 
         reminders.setReminder(target, editedReminder);
+        scheduleOrderUpdate();
     }
 
     /**
@@ -241,6 +372,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeReminder(Reminder key) {
         reminders.remove(key);
+        scheduleOrderUpdate();
     }
 
     /// / util methods
@@ -269,24 +401,119 @@ public class AddressBook implements ReadOnlyAddressBook {
         return reminders.asUnmodifiableObservableList();
     }
 
+    /**
+     * Sets the ledger that decides which students are sent a reminder to pay for this month.
+     * The reminders are brought up to date by the next refresh.
+     */
+    public void setPaymentLedger(PaymentLedger paymentLedger) {
+        this.paymentLedger = requireNonNull(paymentLedger);
+    }
+
     /**
      * Refreshes the list of UnmodifiableReminders in the reminder list to reflect the lastest state
      * of student list. User generated reminders are left untouched in the reminder list.
+     * From then on, the reminders are also kept up to date as time passes, see {@link #advanceRemindersTo}.
      */
     public void refreshUnmodifiableReminders() {
         reminders.removeIf(r -> !r.isModifiable());
 
         for (Person p : getPersonList()) {
-            int currentMonth = LocalDate.now().getMonthValue();
-
-            if (!p.isPaidForMonth(currentMonth)) {
-                reminders.add(UnmodifiablePaymentReminder.of(currentMonth, p, getMonthName(currentMonth)));
+            for (UnmodifiableReminder reminder : deriveReminders(p)) {
+                reminders.add(reminder);
             }
+        }
 
-            for (UnmodifiableHwReminder hwReminder : createHomeworkReminder(p)) {
-                reminders.add(hwReminder);
-            }
+        studentTimers.values().forEach(reminderTimers::cancel);
+        studentTimers.clear();
+        getPersonList().forEach(this::scheduleStudentUpdate);
+        scheduleOrderUpdate();
+        scheduleMonthUpdate();
+    }
+
+    /**
+     * Brings the UnmodifiableReminders of {@code person} up to date with their payments and homework, leaving the
+     * reminders of every other student untouched. If {@code person} is no longer in the address book, their
+     * reminders are removed.
+     */
+    public void refreshUnmodifiableRemindersOf(Person person) {
+        requireNonNull(person);
+        reminders.setDerivedReminders(person.getId(), hasPerson(person) ? deriveReminders(person) : List.of());
+        scheduleStudentUpdate(person);
+        scheduleOrderUpdate();
+    }
+
+    /**
+     * Applies every change to the reminders that is due by {@code now}: reminders that fall due move among the past
+     * ones, homework reminders appear a day before the homework is due and go once it is, and at the start of a
+     * month every student's payment reminder moves to the new month. Only the reminders that change are touched.
+     */
+    public void advanceRemindersTo(LocalDateTime now) {
+        requireNonNull(now);
+        reminderTimers.advanceTo(DueDate.epochMinuteOf(now), Runnable::run);
+    }
+
+    /**
+     * Schedules the refresh of the reminders of {@code person} for when their homework reminders next change, in
+     * place of any refresh already scheduled for them.
+     */
+    private void scheduleStudentUpdate(Person person) {
+        TimingWheel.Timer<Runnable> previous = studentTimers.remove(person.getId());
+        if (previous != null) {
+            reminderTimers.cancel(previous);
+        }
+        if (!hasPerson(person)) {
+            return;
+        }
+        nextHomeworkReminderChange(person, reminderTimers.getCurrentMinute()).ifPresent(minute ->
+                studentTimers.put(person.getId(),
+                        reminderTimers.schedule(minute, () -> refreshUnmodifiableRemindersOf(person))));
+    }
+
+    /**
+     * Schedules the reordering of the reminder list for the minute after the earliest upcoming reminder falls due.
+     */
+    private void scheduleOrderUpdate() {
+        OptionalLong nextDue = reminders.getNextDueMinute();
+        if (orderTimer != null && orderTimer.isActive() && nextDue.isPresent()
+                && orderTimer.getDueMinute() == nextDue.getAsLong() + 1) {
+            return;
+        }
+        if (orderTimer != null) {
+            reminderTimers.cancel(orderTimer);
+            orderTimer = null;
+        }
+        nextDue.ifPresent(due -> orderTimer = reminderTimers.schedule(due + 1, () -> {
+            reminders.sort();
+            scheduleOrderUpdate();
+        }));
+    }
+
+    /**
+     * Schedules the refresh of every student's payment reminder for the start of next month.
+     */
+    private void scheduleMonthUpdate() {
+        if (monthTimer != null) {
+            reminderTimers.cancel(monthTimer);
+        }
+        LocalDateTime nextMonth = YearMonth.now().plusMonths(1).atDay(1).atStartOfDay();
+        monthTimer = reminderTimers.schedule(DueDate.epochMinuteOf(nextMonth), () -> {
+            List.copyOf(getPersonList()).forEach(this::refreshUnmodifiableRemindersOf);
+            scheduleMonthUpdate();
+        });
+    }
+
+    /**
+     * Returns the payment reminder for this month, if unpaid, and the homework reminders of {@code person}.
+     */
+    private List<UnmodifiableReminder> deriveReminders(Person person) {
+        List<UnmodifiableReminder> derived = new ArrayList<>();
+        YearMonth currentMonth = YearMonth.now();
+        if (!paymentLedger.isPaid(person.getId(), currentMonth)) {
+            int month = currentMonth.getMonthValue();
+            derived.add(UnmodifiablePaymentReminder.of(month, person, getMonthName(month)));
         }
+        derived.addAll(createHomeworkReminder(person));
+        return derived;
     }
 
     @Override
@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -9,6 +11,11 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
 
@@ -104,6 +111,18 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the ids of the students whose name, phone number or lesson times contain any of {@code keywords},
+     * ignoring case.
+     */
+    MemberBitmap searchPersons(List<String> keywords);
+
+    /**
+     * Returns the names of up to three students whose names are closest to {@code name}, nearest first, to suggest
+     * when no student has that name. Names too far from {@code name} are left out.
+     */
+    List<Name> suggestPersonNames(String name);
+
     // ============ Attendance / Participation ================================
 
     /**
@@ -112,11 +131,76 @@ public interface Model {
      */
     seedu.address.model.attendance.AttendanceIndex getAttendanceIndex();
 
+    /**
+     * Returns the ledger of the months each student has paid for.
+     * Payments must be changed through {@link #setPaymentStatus(List, YearMonth, boolean)}.
+     */
+    PaymentLedger getPaymentLedger();
+
+    /**
+     * Records each of {@code persons} as paid, or not paid, for {@code month}.
+     * The persons must exist in the address book.
+     */
+    void setPaymentStatus(List<Person> persons, YearMonth month, boolean isPaid);
+
+    // ============ Homework ==================================================
+
+    /**
+     * Adds {@code homework} to the homework list of {@code person}.
+     * {@code person} must exist in the address book.
+     */
+    void addHomework(Person person, Homework homework);
+
+    /**
+     * Removes {@code homework} from the homework list of {@code person}.
+     * {@code person} must exist in the address book.
+     */
+    void deleteHomework(Person person, Homework homework);
+
+    /**
+     * Marks {@code homework} of {@code person} as done or not done.
+     * {@code person} must exist in the address book.
+     */
+    void setHomeworkDone(Person person, Homework homework, boolean isDone);
+
+    /**
+     * Returns the index of every student's homework by deadline.
+     * Homework must be changed through {@link #addHomework}, {@link #deleteHomework} and {@link #setHomeworkDone}.
+     */
+    HomeworkDeadlineIndex getHomeworkIndex();
+
     /**
      * Returns true if there exists a person whose normalized name equals {@code name}.
      */
     boolean hasPersonName(String name);
-    //java.util.Optional<seedu.address.model.person.Person> findPersonByName(String name);
+
+    /**
+     * Returns a student whose name is {@code name}, ignoring case and extra whitespace, if there is one.
+     */
+    default Optional<Person> findPersonByName(String name) {
+        return findPersonsByName(name).stream().findFirst();
+    }
+
+    /**
+     * Returns the students whose name is {@code name}, ignoring case and extra whitespace.
+     */
+    List<Person> findPersonsByName(String name);
+
+    /**
+     * Returns the students whose phone number is {@code phone}, ignoring extra whitespace.
+     */
+    List<Person> findPersonsByPhone(String phone);
+
+    /**
+     * Returns the students with a lesson at {@code lessonTime}, written as it is displayed (e.g. {@code 10:00 am Sun}),
+     * ignoring case and extra whitespace.
+     */
+    List<Person> findPersonsByLessonTime(String lessonTime);
+
+    /**
+     * Returns true if {@code person} is in the filtered person list.
+     */
+    boolean isPersonShown(Person person);
 
     // ============ Reminders ============================================
 
@@ -161,6 +245,18 @@ public interface Model {
      */
     void refreshReminders();
 
+    /**
+     * Refreshes the auto-generated UnmodifiableReminders of {@code person} only, after their payments or homework
+     * changed. {@code person} is the student as now stored, or a student who has just been deleted.
+     */
+    void refreshRemindersOf(Person person);
+
+    /**
+     * Applies the changes to the reminders that have fallen due by now, such as reminders becoming past, homework
+     * reminders coming up and the payment reminders of a new month. Meant to be called about once a minute.
+     */
+    void advanceReminderClock();
+
     // ============ Groups ==========================================================
     boolean hasGroup(GroupName name);
 
@@ -174,8 +270,16 @@ public interface Model {
 
     ObservableList<Group> getGroupList();
 
+    /**
+     * Returns the groups {@code person} belongs to, as an unmodifiable set.
+     */
     Set<GroupName> getGroupsOf(Person person);
 
+    /**
+     * Returns the student ids of the members of the group called {@code name} (empty if there is no such group).
+     */
+    MemberBitmap getMembersOf(GroupName name);
+
     /**
      * Convenience: filter list by group membership (optional but handy).
      */
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -16,6 +18,11 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.attendance.AttendanceIndex;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
 
@@ -30,12 +37,22 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Reminder> filteredReminders;
     private final AttendanceIndex attendanceIndex = new AttendanceIndex();
+    private final PaymentLedger paymentLedger = new PaymentLedger();
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, and no payments.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, new PaymentLedger());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook, userPrefs and saved payments.
+     * Payments are only ever read from the ledger; the payment status kept with each student is left to be
+     * brought over with {@link PaymentLedger#fromPaymentStatus} before the ledger is first saved.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, PaymentLedger payments) {
+        requireAllNonNull(addressBook, userPrefs, payments);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
@@ -43,6 +60,9 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredReminders = new FilteredList<>(this.addressBook.getReminderList());
+        paymentLedger.resetData(payments);
+        paymentLedger.markSaved();
+        this.addressBook.setPaymentLedger(paymentLedger);
     }
 
     public ModelManager() {
@@ -133,12 +153,18 @@ public class ModelManager implements Model {
         return addressBook.getGroupsOf(person);
     }
 
+    @Override
+    public MemberBitmap getMembersOf(GroupName name) {
+        return addressBook.getMembersOf(name);
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
         attendanceIndex.clear();
+        paymentLedger.clear();
     }
 
     @Override
@@ -155,7 +181,8 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        attendanceIndex.removeAllForName(target.getName().fullName);
+        attendanceIndex.removeAllFor(target.getId());
+        paymentLedger.removeAllFor(target.getId());
     }
 
     @Override
@@ -187,6 +214,18 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public MemberBitmap searchPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.searchPersons(keywords);
+    }
+
+    @Override
+    public List<Name> suggestPersonNames(String name) {
+        requireNonNull(name);
+        return addressBook.suggestNames(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -210,11 +249,77 @@ public class ModelManager implements Model {
         return attendanceIndex;
     }
 
+    //=========== Homework ===================================================================================
+
+    @Override
+    public void addHomework(Person person, Homework homework) {
+        requireAllNonNull(person, homework);
+        addressBook.addHomework(person, homework);
+    }
+
+    @Override
+    public void deleteHomework(Person person, Homework homework) {
+        requireAllNonNull(person, homework);
+        addressBook.removeHomework(person, homework);
+    }
+
+    @Override
+    public void setHomeworkDone(Person person, Homework homework, boolean isDone) {
+        requireAllNonNull(person, homework);
+        addressBook.setHomeworkDone(person, homework, isDone);
+    }
+
+    @Override
+    public HomeworkDeadlineIndex getHomeworkIndex() {
+        return addressBook.getHomeworkIndex();
+    }
+
+    //=========== Payments ===================================================================================
+
+    @Override
+    public PaymentLedger getPaymentLedger() {
+        return paymentLedger;
+    }
+
+    @Override
+    public void setPaymentStatus(List<Person> persons, YearMonth month, boolean isPaid) {
+        requireAllNonNull(persons, month);
+        MemberBitmap ids = MemberBitmap.of(persons.stream().mapToInt(person -> person.getId().value).toArray());
+        if (isPaid) {
+            paymentLedger.markPaid(ids, month);
+        } else {
+            paymentLedger.markUnpaid(ids, month);
+        }
+    }
+
     @Override
     public boolean hasPersonName(String name) {
-        String norm = name.trim().replaceAll("\\s+", " ").toLowerCase();
-        return filteredPersons.stream()
-                .anyMatch(p -> p.getName().fullName.trim().replaceAll("\\s+", " ").toLowerCase().equals(norm));
+        return findPersonsByName(name).stream().anyMatch(this::isPersonShown);
+    }
+
+    @Override
+    public List<Person> findPersonsByName(String name) {
+        requireNonNull(name);
+        return addressBook.getPersonLookup().findByName(name);
+    }
+
+    @Override
+    public List<Person> findPersonsByPhone(String phone) {
+        requireNonNull(phone);
+        return addressBook.getPersonLookup().findByPhone(phone);
+    }
+
+    @Override
+    public List<Person> findPersonsByLessonTime(String lessonTime) {
+        requireNonNull(lessonTime);
+        return addressBook.getPersonLookup().findByLessonTime(lessonTime);
+    }
+
+    @Override
+    public boolean isPersonShown(Person person) {
+        requireNonNull(person);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null || predicate.test(person);
     }
 
     // ========== Reminder List ====================================================================
@@ -262,4 +367,16 @@ public class ModelManager implements Model {
         addressBook.refreshUnmodifiableReminders();
         updateFilteredReminderList(PREDICATE_SHOW_ALL_REMINDERS);
     }
+
+    @Override
+    public void refreshRemindersOf(Person person) {
+        requireNonNull(person);
+        addressBook.refreshUnmodifiableRemindersOf(person);
+        updateFilteredReminderList(PREDICATE_SHOW_ALL_REMINDERS);
+    }
+
+    @Override
+    public void advanceReminderClock() {
+        addressBook.advanceRemindersTo(LocalDateTime.now());
+    }
 }
@@ -0,0 +1,148 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonLookupIndex;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.StudentNameIndex;
+import seedu.address.model.person.StudentSearchIndex;
+
+/**
+ * The indexes an {@link AddressBook} keeps over its students: their homework by deadline, the text searched by
+ * keywords, the names suggested for a mistyped name, and their exact names, phone numbers and lesson times.
+ * <p>
+ * Each index is built from the students the first time it is asked for, so that an index that is never used
+ * costs nothing, and from then on is kept up to date as students are added, replaced and removed.
+ */
+class PersonIndexes {
+    private final List<Person> persons;
+    private HomeworkDeadlineIndex homeworkIndex;
+    private StudentSearchIndex searchIndex;
+    private StudentNameIndex nameIndex;
+    private PersonLookupIndex lookupIndex;
+
+    /**
+     * Creates the indexes over {@code persons}, a live view of the students of an address book.
+     */
+    PersonIndexes(List<Person> persons) {
+        this.persons = persons;
+    }
+
+    /**
+     * Adds {@code person} to every index built so far.
+     */
+    void add(Person person) {
+        if (homeworkIndex != null) {
+            homeworkIndex.addAll(person);
+        }
+        if (searchIndex != null) {
+            searchIndex.add(person);
+        }
+        if (nameIndex != null) {
+            nameIndex.add(person);
+        }
+        if (lookupIndex != null) {
+            lookupIndex.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from every index built so far.
+     */
+    void remove(Person person) {
+        if (homeworkIndex != null) {
+            homeworkIndex.removeAll(person);
+        }
+        if (searchIndex != null) {
+            searchIndex.remove(person);
+        }
+        if (nameIndex != null) {
+            nameIndex.remove(person);
+        }
+        if (lookupIndex != null) {
+            lookupIndex.remove(person);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in every index built so far.
+     */
+    void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Drops every index, to be built again from the students when next asked for.
+     * Used when the students are replaced all at once.
+     */
+    void invalidate() {
+        homeworkIndex = null;
+        searchIndex = null;
+        nameIndex = null;
+        lookupIndex = null;
+    }
+
+    /**
+     * Records that {@code homework} was added to the student with {@code id}, if the homework index is built.
+     */
+    void addHomework(StudentId id, Homework homework) {
+        if (homeworkIndex != null) {
+            homeworkIndex.add(id, homework);
+        }
+    }
+
+    /**
+     * Records that {@code homework} was removed from the student with {@code id}, if the homework index is built.
+     */
+    void removeHomework(StudentId id, Homework homework) {
+        if (homeworkIndex != null) {
+            homeworkIndex.remove(id, homework);
+        }
+    }
+
+    /**
+     * Records that {@code homework} of the student with {@code id} was marked done or not done, if the homework
+     * index is built.
+     */
+    void updateHomework(StudentId id, Homework homework) {
+        if (homeworkIndex != null) {
+            homeworkIndex.update(id, homework);
+        }
+    }
+
+    HomeworkDeadlineIndex homework() {
+        if (homeworkIndex == null) {
+            homeworkIndex = new HomeworkDeadlineIndex();
+            persons.forEach(homeworkIndex::addAll);
+        }
+        return homeworkIndex;
+    }
+
+    StudentSearchIndex search() {
+        if (searchIndex == null) {
+            searchIndex = new StudentSearchIndex();
+            searchIndex.setPersons(persons);
+        }
+        return searchIndex;
+    }
+
+    StudentNameIndex names() {
+        if (nameIndex == null) {
+            nameIndex = new StudentNameIndex();
+            nameIndex.setPersons(persons);
+        }
+        return nameIndex;
+    }
+
+    PersonLookupIndex lookup() {
+        if (lookupIndex == null) {
+            lookupIndex = new PersonLookupIndex();
+            lookupIndex.setPersons(persons);
+        }
+        return lookupIndex;
+    }
+}
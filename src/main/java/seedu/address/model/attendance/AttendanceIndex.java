@@ -1,33 +1,152 @@
 package seedu.address.model.attendance;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Locale;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.model.person.StudentId;
 
 /**
- * In-memory attendance tracker.
- * Maps normalized student name → (date → present?).
+ * In-memory attendance tracker, keyed by {@link StudentId} so that attendance follows a student across edits.
+ * <p>
+ * Each student id is given a slot by {@link StudentSlots}. Each year is kept as one array of longs holding every
+ * student's {@link YearAttendance} words back to back, so the status of a day is found by indexing with the
+ * slot and the day's offset from the start of the year. Looking up a student in the year last looked at does
+ * not allocate.
+ * <p>
+ * If a loader is set, each year is read from it the first time the year is accessed. Years changed since
+ * they were last saved are reported by {@link #getUnsavedYears()}.
  */
 public final class AttendanceIndex {
-    private final Map<String, Map<LocalDate, Boolean>> data = new HashMap<>();
+    // the low bit of every day's pair of bits
+    private static final long LOW_BITS = 0x5555_5555_5555_5555L;
+
+    private StudentSlots slots = new StudentSlots();
+    private final Map<Integer, long[]> years = new HashMap<>();
+    private final Set<Integer> unsavedYears = new TreeSet<>();
+    private AttendanceLoader loader;
     private LocalDate currentUiDate = LocalDate.now();
 
-    private static String normalize(String name) {
-        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    // the year last looked up, so repeated lookups of the same year skip the map
+    private int cachedYear;
+    private long[] cachedWords;
+
+    /**
+     * Reads each year from {@code loader} the first time it is accessed.
+     * Must be set before any attendance is recorded.
+     */
+    public void setLoader(AttendanceLoader loader) {
+        assert years.isEmpty() : "attendance already present";
+        this.loader = loader;
     }
 
-    public Optional<Boolean> get(String name, LocalDate date) {
-        return Optional.ofNullable(data.getOrDefault(normalize(name), Map.of()).get(date));
+    public Optional<Boolean> get(StudentId id, LocalDate date) {
+        return Optional.ofNullable(lookup(id, date));
     }
 
-    public void put(String name, LocalDate date, boolean present) {
-        data.computeIfAbsent(normalize(name), n -> new HashMap<>()).put(date, present);
+    /**
+     * Returns {@code Boolean.TRUE} if the student was present on {@code date}, {@code Boolean.FALSE} if absent,
+     * or null if attendance was not recorded. Unlike {@link #get(StudentId, LocalDate)}, this does not allocate.
+     */
+    public Boolean lookup(StudentId id, LocalDate date) {
+        switch (getStatus(id, date)) {
+        case YearAttendance.PRESENT:
+            return Boolean.TRUE;
+        case YearAttendance.ABSENT:
+            return Boolean.FALSE;
+        default:
+            return null;
+        }
     }
 
-    public boolean isTaken(String name, LocalDate date) {
-        return get(name, date).isPresent();
+    /**
+     * Returns the status of the student on {@code date}, one of {@link YearAttendance#UNRECORDED},
+     * {@link YearAttendance#PRESENT} or {@link YearAttendance#ABSENT}.
+     */
+    public int getStatus(StudentId id, LocalDate date) {
+        long[] words = loadYear(date.getYear());
+        int slot = slots.find(id.value);
+        int day = date.getDayOfYear() - 1;
+        int word = slot * YearAttendance.WORDS + day / YearAttendance.DAYS_PER_WORD;
+        if (slot < 0 || word >= words.length) {
+            return YearAttendance.UNRECORDED;
+        }
+        return (int) (words[word] >>> shiftOf(day)) & 0b11;
+    }
+
+    /**
+     * Records the student as present or absent on {@code date}.
+     */
+    public void put(StudentId id, LocalDate date, boolean present) {
+        long[] words = loadYear(date.getYear());
+        int slot = slots.findOrAdd(id.value);
+        int day = date.getDayOfYear() - 1;
+        int word = slot * YearAttendance.WORDS + day / YearAttendance.DAYS_PER_WORD;
+        if (word >= words.length) {
+            words = withRoomFor(words, slot);
+            years.put(date.getYear(), words);
+            cachedWords = words;
+        }
+        long status = present ? YearAttendance.PRESENT : YearAttendance.ABSENT;
+        words[word] = (words[word] & ~(0b11L << shiftOf(day))) | (status << shiftOf(day));
+        unsavedYears.add(date.getYear());
+    }
+
+    /**
+     * Returns the attendance of the student from {@code from} to {@code to}, both inclusive.
+     * <p>
+     * Each word of 32 days is counted at once: the present and absent days are the low and high bits of the
+     * days' pairs, so they are counted with {@link Long#bitCount(long)}. Streaks of absences are only scanned
+     * for, present day by present day, in words that have both present and absent days.
+     */
+    public AttendanceSummary summarize(StudentId id, LocalDate from, LocalDate to) {
+        requireNonNull(id);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        int presentCount = 0;
+        int absentCount = 0;
+        int streak = 0;
+        int longestStreak = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            long[] words = loadYear(year);
+            int slot = slots.find(id.value);
+            int base = slot * YearAttendance.WORDS;
+            if (slot < 0 || base >= words.length) {
+                continue;
+            }
+            int firstDay = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int lastDay = year == to.getYear() ? to.getDayOfYear() - 1 : YearAttendance.MAX_DAYS - 1;
+            for (int word = firstDay / YearAttendance.DAYS_PER_WORD; word <= lastDay / YearAttendance.DAYS_PER_WORD;
+                    word++) {
+                long days = words[base + word] & maskOf(word, firstDay, lastDay);
+                long presentDays = days & LOW_BITS;
+                long absentDays = (days >>> 1) & LOW_BITS;
+                presentCount += Long.bitCount(presentDays);
+                absentCount += Long.bitCount(absentDays);
+                while (presentDays != 0) {
+                    // the absences before the next present day end the current streak
+                    long beforePresent = Long.lowestOneBit(presentDays) - 1;
+                    longestStreak = Math.max(longestStreak, streak + Long.bitCount(absentDays & beforePresent));
+                    streak = 0;
+                    absentDays &= ~beforePresent;
+                    presentDays &= presentDays - 1;
+                }
+                streak += Long.bitCount(absentDays);
+            }
+        }
+        return new AttendanceSummary(presentCount, absentCount, Math.max(longestStreak, streak));
+    }
+
+    public boolean isTaken(StudentId id, LocalDate date) {
+        return getStatus(id, date) != YearAttendance.UNRECORDED;
     }
 
     public LocalDate getCurrentUiDate() {
@@ -42,18 +161,136 @@ public final class AttendanceIndex {
      * Removes all attendance records and resets the UI date to today.
      */
     public void clear() {
-        data.clear();
+        for (int year : getKnownYears()) {
+            years.put(year, new long[0]);
+            unsavedYears.add(year);
+        }
+        slots = new StudentSlots();
+        cachedWords = null;
         currentUiDate = LocalDate.now();
     }
 
     /**
-     * Removes all attendance records associated with the given student name.
-     * The same normalization is applied as in {@link #put(String, java.time.LocalDate, boolean)}.
-     *
-     * @param name the student's name (raw; will be normalized)
+     * Removes all attendance records of the given student.
+     */
+    public void removeAllFor(StudentId id) {
+        for (int year : getKnownYears()) {
+            long[] words = loadYear(year);
+            int slot = slots.find(id.value);
+            int from = slot * YearAttendance.WORDS;
+            if (slot < 0 || from >= words.length) {
+                continue;
+            }
+            for (int word = from; word < from + YearAttendance.WORDS; word++) {
+                if (words[word] != 0) {
+                    words[word] = 0;
+                    unsavedYears.add(year);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the attendance recorded in {@code year}, keyed by student id.
+     * Students without any attendance that year are left out. Changes to the returned map or its values
+     * do not affect this index.
+     */
+    public Map<StudentId, YearAttendance> getYear(int year) {
+        long[] words = loadYear(year);
+        Map<StudentId, YearAttendance> attendance = new HashMap<>();
+        for (int slot = 0; (slot + 1) * YearAttendance.WORDS <= words.length; slot++) {
+            int from = slot * YearAttendance.WORDS;
+            YearAttendance student = new YearAttendance(Arrays.copyOfRange(words, from, from + YearAttendance.WORDS));
+            if (!student.isEmpty()) {
+                attendance.put(StudentId.keyOf(slots.idOf(slot)), student);
+            }
+        }
+        return attendance;
+    }
+
+    /**
+     * Returns the years changed since they were last saved, in increasing order.
+     * Later changes to this index are not reflected in the returned set.
+     */
+    public Set<Integer> getUnsavedYears() {
+        return new TreeSet<>(unsavedYears);
+    }
+
+    /**
+     * Marks {@code year} as saved, until it is changed again.
      */
-    public void removeAllForName(String name) {
-        data.remove(normalize(name));
+    public void markSaved(int year) {
+        unsavedYears.remove(year);
+    }
+
+    /**
+     * Returns a copy of the attendance recorded in {@code years}, all reported by {@link #getUnsavedYears()} of
+     * the copy. Used to save those years elsewhere while this index keeps changing; the copy holds no other year.
+     */
+    public AttendanceIndex copyYears(Set<Integer> years) {
+        requireNonNull(years);
+        AttendanceIndex copy = new AttendanceIndex();
+        for (int year : years) {
+            copy.years.put(year, loadYear(year).clone());
+        }
+        // after the years are loaded, since loading a year can give students slots
+        for (int slot = 0; slot < slots.size(); slot++) {
+            copy.slots.findOrAdd(slots.idOf(slot));
+        }
+        copy.unsavedYears.addAll(years);
+        return copy;
+    }
+
+    private long[] loadYear(int year) {
+        if (cachedWords != null && cachedYear == year) {
+            return cachedWords;
+        }
+        long[] words = years.get(year);
+        if (words == null) {
+            words = new long[0];
+            if (loader != null) {
+                for (Map.Entry<StudentId, YearAttendance> student : loader.loadYear(year).entrySet()) {
+                    int slot = slots.findOrAdd(student.getKey().value);
+                    words = withRoomFor(words, slot);
+                    long[] studentWords = student.getValue().toWords();
+                    System.arraycopy(studentWords, 0, words, slot * YearAttendance.WORDS, studentWords.length);
+                }
+            }
+            years.put(year, words);
+        }
+        cachedYear = year;
+        cachedWords = words;
+        return words;
+    }
+
+    /**
+     * Returns {@code words}, or a larger copy of it if it has no room for slot {@code slot}.
+     */
+    private static long[] withRoomFor(long[] words, int slot) {
+        int required = (slot + 1) * YearAttendance.WORDS;
+        return required <= words.length ? words : Arrays.copyOf(words, Math.max(required, words.length * 2));
+    }
+
+    /**
+     * Returns the bits of {@code word} holding the days from {@code firstDay} to {@code lastDay}, counted from 0.
+     */
+    private static long maskOf(int word, int firstDay, int lastDay) {
+        int wordStart = word * YearAttendance.DAYS_PER_WORD;
+        int first = Math.max(firstDay - wordStart, 0);
+        int last = Math.min(lastDay - wordStart, YearAttendance.DAYS_PER_WORD - 1);
+        return (-1L << shiftOf(first)) & (-1L >>> (Long.SIZE - 2 - shiftOf(last)));
+    }
+
+    private static int shiftOf(int day) {
+        return 2 * (day % YearAttendance.DAYS_PER_WORD);
+    }
+
+    private Set<Integer> getKnownYears() {
+        Set<Integer> knownYears = new HashSet<>(years.keySet());
+        if (loader != null) {
+            knownYears.addAll(loader.getSavedYears());
+        }
+        return knownYears;
     }
 
 }
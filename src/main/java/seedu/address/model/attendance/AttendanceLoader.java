@@ -0,0 +1,24 @@
+package seedu.address.model.attendance;
+
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.StudentId;
+
+/**
+ * Supplies attendance saved in storage to an {@link AttendanceIndex}, one year at a time,
+ * so that only the years that are looked at are read.
+ */
+public interface AttendanceLoader {
+
+    /**
+     * Returns the years that have attendance saved.
+     */
+    Set<Integer> getSavedYears();
+
+    /**
+     * Returns the attendance saved for {@code year}, keyed by student id.
+     * Returns an empty map if there is none.
+     */
+    Map<StudentId, YearAttendance> loadYear(int year);
+}
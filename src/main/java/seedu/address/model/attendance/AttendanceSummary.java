@@ -0,0 +1,102 @@
+package seedu.address.model.attendance;
+
+/**
+ * The attendance of one student, or of several students together, over a range of dates.
+ * <p>
+ * Days without attendance recorded are not counted, and do not break a streak of absences.
+ */
+public final class AttendanceSummary {
+
+    /** A summary with no attendance recorded. */
+    public static final AttendanceSummary EMPTY = new AttendanceSummary(0, 0, 0);
+
+    private final int presentCount;
+    private final int absentCount;
+    private final int longestAbsenceStreak;
+
+    /**
+     * Creates a summary of {@code presentCount} days present and {@code absentCount} days absent, of which at most
+     * {@code longestAbsenceStreak} absences were recorded in a row.
+     */
+    public AttendanceSummary(int presentCount, int absentCount, int longestAbsenceStreak) {
+        if (presentCount < 0 || absentCount < 0 || longestAbsenceStreak < 0 || longestAbsenceStreak > absentCount) {
+            throw new IllegalArgumentException("Invalid attendance counts");
+        }
+        this.presentCount = presentCount;
+        this.absentCount = absentCount;
+        this.longestAbsenceStreak = longestAbsenceStreak;
+    }
+
+    public int getPresentCount() {
+        return presentCount;
+    }
+
+    public int getAbsentCount() {
+        return absentCount;
+    }
+
+    public int getRecordedCount() {
+        return presentCount + absentCount;
+    }
+
+    public int getLongestAbsenceStreak() {
+        return longestAbsenceStreak;
+    }
+
+    /**
+     * Returns true if any attendance was recorded.
+     */
+    public boolean hasRecords() {
+        return getRecordedCount() > 0;
+    }
+
+    /**
+     * Returns the percentage of recorded days the student was present, or 0 if nothing was recorded.
+     */
+    public double getRate() {
+        return hasRecords() ? 100.0 * presentCount / getRecordedCount() : 0;
+    }
+
+    /**
+     * Returns true if attendance was recorded and the rate is below {@code thresholdPercent}.
+     */
+    public boolean isBelow(double thresholdPercent) {
+        return hasRecords() && getRate() < thresholdPercent;
+    }
+
+    /**
+     * Returns the summary of this and {@code other} together. The longest absence streak is the longer of the two.
+     */
+    public AttendanceSummary combine(AttendanceSummary other) {
+        return new AttendanceSummary(presentCount + other.presentCount, absentCount + other.absentCount,
+                Math.max(longestAbsenceStreak, other.longestAbsenceStreak));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AttendanceSummary)) {
+            return false;
+        }
+        AttendanceSummary otherSummary = (AttendanceSummary) other;
+        return presentCount == otherSummary.presentCount
+                && absentCount == otherSummary.absentCount
+                && longestAbsenceStreak == otherSummary.longestAbsenceStreak;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * presentCount + absentCount) + longestAbsenceStreak;
+    }
+
+    @Override
+    public String toString() {
+        if (!hasRecords()) {
+            return "no attendance recorded";
+        }
+        return String.format("%.1f%% (present %d of %d), longest absence streak: %d",
+                getRate(), presentCount, getRecordedCount(), longestAbsenceStreak);
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.attendance;
+
+import java.util.Arrays;
+
+/**
+ * Assigns a small slot number to each {@link seedu.address.model.person.StudentId} value, in the order the
+ * ids are first seen, so that per-student data can be kept back to back in arrays however large the ids are.
+ * <p>
+ * Ids are kept in an open-addressing table of ints, so finding the slot of an id neither allocates nor boxes.
+ */
+final class StudentSlots {
+
+    private static final int NOT_FOUND = -1;
+    // marks a free entry of the table; ids are positive
+    private static final int FREE = 0;
+
+    // entry -> id, or FREE; always a power of two in length
+    private int[] keys = new int[16];
+    private int[] slots = new int[16];
+    // slot -> id
+    private int[] ids = new int[8];
+    private int size = 0;
+
+    /**
+     * Returns the slot of {@code id}, or -1 if it has none.
+     */
+    int find(int id) {
+        int mask = keys.length - 1;
+        for (int entry = entryOf(id, mask); keys[entry] != FREE; entry = (entry + 1) & mask) {
+            if (keys[entry] == id) {
+                return slots[entry];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the slot of {@code id}, assigning the next unused slot if it has none.
+     */
+    int findOrAdd(int id) {
+        assert id != FREE : "ids are positive";
+        int slot = find(id);
+        if (slot != NOT_FOUND) {
+            return slot;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        slot = size++;
+        ids[slot] = id;
+        insert(id, slot);
+        return slot;
+    }
+
+    /**
+     * Returns the id given slot {@code slot}.
+     */
+    int idOf(int slot) {
+        return ids[slot];
+    }
+
+    /**
+     * Returns the number of slots assigned, which is one more than the largest slot.
+     */
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldSlots = slots;
+        keys = new int[oldKeys.length * 2];
+        slots = new int[oldKeys.length * 2];
+        for (int entry = 0; entry < oldKeys.length; entry++) {
+            if (oldKeys[entry] != FREE) {
+                insert(oldKeys[entry], oldSlots[entry]);
+            }
+        }
+    }
+
+    private void insert(int id, int slot) {
+        int mask = keys.length - 1;
+        int entry = entryOf(id, mask);
+        while (keys[entry] != FREE) {
+            entry = (entry + 1) & mask;
+        }
+        keys[entry] = id;
+        slots[entry] = slot;
+    }
+
+    private static int entryOf(int id, int mask) {
+        // ids are handed out in sequence; scramble them so that runs of ids do not fill neighbouring entries
+        int hash = id * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
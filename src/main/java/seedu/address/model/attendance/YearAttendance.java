@@ -0,0 +1,142 @@
+package seedu.address.model.attendance;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * One student's attendance over one calendar year, packed as two bits per day.
+ * <p>
+ * Day {@code d} of the year (1-based, as in {@link java.time.LocalDate#getDayOfYear()}) is stored in bits
+ * {@code 2 * ((d - 1) % 32)} and up of word {@code (d - 1) / 32}, as one of {@link #UNRECORDED},
+ * {@link #PRESENT} or {@link #ABSENT}. A whole year takes 12 words.
+ */
+public final class YearAttendance {
+
+    public static final int UNRECORDED = 0b00;
+    public static final int PRESENT = 0b01;
+    public static final int ABSENT = 0b10;
+
+    public static final int MAX_DAYS = 366;
+    public static final int DAYS_PER_WORD = Long.SIZE / 2;
+    public static final int WORDS = (MAX_DAYS + DAYS_PER_WORD - 1) / DAYS_PER_WORD;
+
+    public static final String MESSAGE_CONSTRAINTS = "Attendance of a year covers at most " + MAX_DAYS
+            + " days, and every day must be unrecorded (00), present (01) or absent (10)";
+
+    // the high bit of every day's pair of bits
+    private static final long HIGH_BITS = 0xAAAA_AAAA_AAAA_AAAAL;
+    // bits of the last word past the end of a leap year
+    private static final long UNUSED_LAST_WORD_BITS = -1L << (2 * (MAX_DAYS - (WORDS - 1) * DAYS_PER_WORD));
+
+    private final long[] words;
+
+    /**
+     * Creates a {@code YearAttendance} with no days recorded.
+     */
+    public YearAttendance() {
+        this.words = new long[WORDS];
+    }
+
+    /**
+     * Creates a {@code YearAttendance} from the packed words returned by {@link #toWords()}.
+     * Missing trailing words are taken as unrecorded.
+     */
+    public YearAttendance(long[] words) {
+        if (!isValidWords(words)) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        this.words = Arrays.copyOf(words, WORDS);
+    }
+
+    /**
+     * Returns true if {@code words} is a valid packed year.
+     */
+    public static boolean isValidWords(long[] words) {
+        if (words.length > WORDS || (words.length == WORDS && (words[WORDS - 1] & UNUSED_LAST_WORD_BITS) != 0)) {
+            return false;
+        }
+        for (long word : words) {
+            // both bits of a pair set is not a valid status
+            if ((word & (word << 1) & HIGH_BITS) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the status of day {@code dayOfYear}: true if present, false if absent, or empty if unrecorded.
+     */
+    public Optional<Boolean> get(int dayOfYear) {
+        int status = getStatus(dayOfYear);
+        return status == UNRECORDED ? Optional.empty() : Optional.of(status == PRESENT);
+    }
+
+    /**
+     * Returns the status of day {@code dayOfYear}, one of {@link #UNRECORDED}, {@link #PRESENT} or {@link #ABSENT}.
+     */
+    public int getStatus(int dayOfYear) {
+        int day = toDayIndex(dayOfYear);
+        return (int) (words[day / DAYS_PER_WORD] >>> shiftOf(day)) & 0b11;
+    }
+
+    /**
+     * Records day {@code dayOfYear} as present or absent.
+     */
+    public void set(int dayOfYear, boolean isPresent) {
+        int day = toDayIndex(dayOfYear);
+        int word = day / DAYS_PER_WORD;
+        long status = isPresent ? PRESENT : ABSENT;
+        words[word] = (words[word] & ~(0b11L << shiftOf(day))) | (status << shiftOf(day));
+    }
+
+    /**
+     * Returns true if no day of the year is recorded.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the packed words, without the trailing words that record nothing.
+     */
+    public long[] toWords() {
+        int length = WORDS;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(words, length);
+    }
+
+    private static int toDayIndex(int dayOfYear) {
+        if (dayOfYear < 1 || dayOfYear > MAX_DAYS) {
+            throw new IllegalArgumentException("Day of year must be between 1 and " + MAX_DAYS);
+        }
+        return dayOfYear - 1;
+    }
+
+    private static int shiftOf(int day) {
+        return 2 * (day % DAYS_PER_WORD);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof YearAttendance)) {
+            return false;
+        }
+        return Arrays.equals(words, ((YearAttendance) other).words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -2,46 +2,36 @@ package seedu.address.model.group;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
-
-import seedu.address.model.person.Person;
 
 /**
- * A first-class group. Wraps a {@link GroupName} and keeps member references.
+ * A first-class group. Wraps a {@link GroupName} and the {@link seedu.address.model.person.StudentId} values of
+ * its members. Immutable; a group with different members is a new {@code Group} with the same name.
  */
 public final class Group {
 
     private final GroupName name;
-    private final Set<Person> members = new HashSet<>();
+    private final MemberBitmap members;
 
     public Group(GroupName name) {
+        this(name, MemberBitmap.EMPTY);
+    }
+
+    /**
+     * Creates a group called {@code name} with the students whose ids are in {@code members}.
+     */
+    public Group(GroupName name, MemberBitmap members) {
         this.name = requireNonNull(name);
+        this.members = requireNonNull(members);
     }
 
     public GroupName getName() {
         return name;
     }
 
-    /** Returns an unmodifiable view of the members. */
-    public Set<Person> getMembers() {
-        return Collections.unmodifiableSet(members);
-    }
-
-    /** Adds all given members. */
-    public void addMembers(Iterable<Person> toAdd) {
-        for (Person p : toAdd) {
-            members.add(p);
-        }
-    }
-
-    /** Removes all given members. */
-    public void removeMembers(Iterable<Person> toRemove) {
-        for (Person p : toRemove) {
-            members.remove(p);
-        }
+    /** Returns the ids of the members. */
+    public MemberBitmap getMembers() {
+        return members;
     }
 
     @Override
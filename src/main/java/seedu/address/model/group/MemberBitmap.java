@@ -0,0 +1,265 @@
+package seedu.address.model.group;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+import seedu.address.model.person.StudentId;
+
+/**
+ * An immutable set of {@link StudentId} values, such as the members of a group or the students who paid for a
+ * month.
+ * <p>
+ * A set is held either as a sorted array of ids or as a bitmap indexed by id, whichever is smaller, so a small
+ * group of students with large ids takes a few bytes per member while a large group takes one bit per id.
+ * Union, intersection and difference work directly on either form: two bitmaps are combined a word of 64 ids at
+ * a time, and an array is combined with the other set by looking up each of its ids.
+ */
+public final class MemberBitmap {
+
+    /** The set with no ids. */
+    public static final MemberBitmap EMPTY = new MemberBitmap(new int[0], null, 0);
+
+    // exactly one of ids and words is non-null
+    private final int[] ids;
+    private final long[] words;
+    private final int cardinality;
+
+    private MemberBitmap(int[] ids, long[] words, int cardinality) {
+        this.ids = ids;
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Returns the set of the given ids. Repeated ids are ignored.
+     *
+     * @throws IllegalArgumentException if any id is negative.
+     */
+    public static MemberBitmap of(int... ids) {
+        int[] sorted = ids.clone();
+        Arrays.sort(sorted);
+        if (sorted.length > 0 && sorted[0] < 0) {
+            throw new IllegalArgumentException("Ids must not be negative");
+        }
+        int size = 0;
+        for (int id : sorted) {
+            if (size == 0 || sorted[size - 1] != id) {
+                sorted[size++] = id;
+            }
+        }
+        return fromSorted(sorted, size);
+    }
+
+    public boolean contains(int id) {
+        if (ids != null) {
+            return Arrays.binarySearch(ids, id) >= 0;
+        }
+        int word = id >>> 6;
+        return id >= 0 && word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Returns the ids in increasing order.
+     */
+    public IntStream stream() {
+        if (ids != null) {
+            return Arrays.stream(ids);
+        }
+        return BitSet.valueOf(words).stream();
+    }
+
+    /**
+     * Returns the ids that are in this set or in {@code other}.
+     */
+    public MemberBitmap or(MemberBitmap other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        if (ids != null && other.ids != null) {
+            int[] merged = new int[cardinality + other.cardinality];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < ids.length || j < other.ids.length) {
+                int next;
+                if (j == other.ids.length || i < ids.length && ids[i] < other.ids[j]) {
+                    next = ids[i++];
+                } else if (i == ids.length || other.ids[j] < ids[i]) {
+                    next = other.ids[j++];
+                } else {
+                    next = ids[i++];
+                    j++;
+                }
+                merged[size++] = next;
+            }
+            return fromSorted(merged, size);
+        }
+        long[] result = toWords(Math.max(wordCount(), other.wordCount()));
+        other.orInto(result);
+        return fromWords(result);
+    }
+
+    /**
+     * Returns the ids that are in both this set and {@code other}.
+     */
+    public MemberBitmap and(MemberBitmap other) {
+        if (ids != null || other.ids != null) {
+            MemberBitmap array = ids != null && (other.ids == null || cardinality <= other.cardinality) ? this : other;
+            MemberBitmap lookup = array == this ? other : this;
+            return filter(array.ids, lookup, true);
+        }
+        long[] result = new long[Math.min(words.length, other.words.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return fromWords(result);
+    }
+
+    /**
+     * Returns the ids that are in this set but not in {@code other}.
+     */
+    public MemberBitmap andNot(MemberBitmap other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (ids != null) {
+            return filter(ids, other, false);
+        }
+        long[] result = words.clone();
+        if (other.ids != null) {
+            for (int id : other.ids) {
+                if ((id >>> 6) < result.length) {
+                    result[id >>> 6] &= ~(1L << id);
+                }
+            }
+        } else {
+            for (int i = 0; i < Math.min(result.length, other.words.length); i++) {
+                result[i] &= ~other.words[i];
+            }
+        }
+        return fromWords(result);
+    }
+
+    /**
+     * Returns the ids of {@code source} that {@code lookup} contains, or does not contain if {@code keep} is false.
+     */
+    private static MemberBitmap filter(int[] source, MemberBitmap lookup, boolean keep) {
+        int[] result = new int[source.length];
+        int size = 0;
+        for (int id : source) {
+            if (lookup.contains(id) == keep) {
+                result[size++] = id;
+            }
+        }
+        return fromSorted(result, size);
+    }
+
+    /**
+     * Returns the set of the first {@code size} ids of {@code sorted}, which must be increasing.
+     */
+    private static MemberBitmap fromSorted(int[] sorted, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        int wordCount = (sorted[size - 1] >>> 6) + 1;
+        if (isArraySmaller(size, wordCount)) {
+            return new MemberBitmap(sorted.length == size ? sorted : Arrays.copyOf(sorted, size), null, size);
+        }
+        long[] words = new long[wordCount];
+        for (int i = 0; i < size; i++) {
+            words[sorted[i] >>> 6] |= 1L << sorted[i];
+        }
+        return new MemberBitmap(null, words, size);
+    }
+
+    /**
+     * Returns the set of the ids whose bits are set in {@code words}.
+     */
+    private static MemberBitmap fromWords(long[] words) {
+        int wordCount = words.length;
+        while (wordCount > 0 && words[wordCount - 1] == 0) {
+            wordCount--;
+        }
+        int size = 0;
+        for (int i = 0; i < wordCount; i++) {
+            size += Long.bitCount(words[i]);
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+        if (!isArraySmaller(size, wordCount)) {
+            return new MemberBitmap(null, wordCount == words.length ? words : Arrays.copyOf(words, wordCount), size);
+        }
+        int[] ids = new int[size];
+        int next = 0;
+        for (int i = 0; i < wordCount; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                ids[next++] = i * Long.SIZE + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return new MemberBitmap(ids, null, size);
+    }
+
+    private static boolean isArraySmaller(int size, int wordCount) {
+        return (long) size * Integer.SIZE <= (long) wordCount * Long.SIZE;
+    }
+
+    private int wordCount() {
+        return ids != null ? (ids[ids.length - 1] >>> 6) + 1 : words.length;
+    }
+
+    private long[] toWords(int wordCount) {
+        long[] result = new long[wordCount];
+        orInto(result);
+        return result;
+    }
+
+    private void orInto(long[] result) {
+        if (ids != null) {
+            for (int id : ids) {
+                result[id >>> 6] |= 1L << id;
+            }
+        } else {
+            for (int i = 0; i < words.length; i++) {
+                result[i] |= words[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof MemberBitmap)) {
+            return false;
+        }
+        MemberBitmap otherBitmap = (MemberBitmap) other;
+        // each set has only one form, so equal sets have the same form
+        return cardinality == otherBitmap.cardinality
+                && Arrays.equals(ids, otherBitmap.ids)
+                && Arrays.equals(words, otherBitmap.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return ids != null ? Arrays.hashCode(ids) : Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(stream().toArray());
+    }
+}
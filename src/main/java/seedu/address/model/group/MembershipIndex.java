@@ -2,107 +2,139 @@ package seedu.address.model.group;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
- * Stores membership relations: which persons belong to a given group.
- * Backed by Map(GroupName -> Set(Person)).
+ * Stores membership relations: which persons belong to a given group, and which groups a given person is in.
+ * Backed by Map(GroupName -> {@link MemberBitmap} of {@link StudentId} values), so that memberships follow a
+ * student across edits and groups can be combined with fast set operations. The bitmaps are immutable, so the
+ * members of a group are handed out without copying.
+ * <p>
+ * The reverse Map(StudentId -> groups) is kept alongside, so the groups of a person are found without scanning
+ * every group. Each person's groups are held as an unmodifiable set that is replaced whenever they join or leave
+ * a group, so {@link #groupsOf(Person)} hands it out as is; memberships change far less often than they are read.
  */
 public final class MembershipIndex {
 
-    private final Map<GroupName, Set<Person>> map = new HashMap<>();
+    private final Map<GroupName, MemberBitmap> map = new HashMap<>();
+    private final Map<StudentId, Set<GroupName>> groupsById = new HashMap<>();
 
     /** Ensure the group key exists. Idempotent. */
     public void ensureGroup(GroupName group) {
         requireNonNull(group);
-        map.computeIfAbsent(group, k -> new HashSet<>());
+        map.putIfAbsent(group, MemberBitmap.EMPTY);
     }
 
     /** Remove a group and all its memberships. Idempotent if group not present. */
     public void removeGroup(GroupName group) {
         requireNonNull(group);
+        setMembers(group, MemberBitmap.EMPTY);
         map.remove(group);
     }
 
     /** Add members to a group (duplicates ignored). */
     public void addMembers(GroupName group, Iterable<Person> persons) {
         requireNonNull(group);
-        ensureGroup(group);
-        Set<Person> set = map.get(group);
-        for (Person p : persons) {
-            if (p != null) {
-                set.add(p);
-            }
-        }
+        setMembers(group, getMembers(group).or(idsOf(persons)));
     }
 
     /** Remove members from a group (non-members ignored). */
     public void removeMembers(GroupName group, Iterable<Person> persons) {
         requireNonNull(group);
-        Set<Person> set = map.get(group);
-        if (set == null) {
-            return;
-        }
-        for (Person p : persons) {
-            if (p != null) {
-                set.remove(p);
-            }
+        if (map.containsKey(group)) {
+            setMembers(group, getMembers(group).andNot(idsOf(persons)));
         }
     }
 
+    /**
+     * Makes the students whose ids are in {@code members} the only members of {@code group}, creating the group
+     * if it does not exist.
+     */
+    public void setMembers(GroupName group, MemberBitmap members) {
+        requireNonNull(group);
+        requireNonNull(members);
+        MemberBitmap previous = getMembers(group);
+        map.put(group, members);
+        previous.andNot(members).stream().forEach(id -> leave(StudentId.keyOf(id), group));
+        members.andNot(previous).stream().forEach(id -> join(StudentId.keyOf(id), group));
+    }
+
     /** Returns true if the person is a member of the group. */
     public boolean contains(GroupName group, Person person) {
         requireNonNull(group);
         requireNonNull(person);
-        Set<Person> set = map.get(group);
-        return set != null && set.contains(person);
+        return getMembers(group).contains(person.getId().value);
     }
 
-    /** Unmodifiable view of members in a group (empty if missing). */
-    public Set<Person> getMembers(GroupName group) {
+    /** The {@link StudentId} values of the members of a group (empty if missing). */
+    public MemberBitmap getMembers(GroupName group) {
         requireNonNull(group);
-        Set<Person> set = map.get(group);
-        return set == null ? Collections.emptySet() : Collections.unmodifiableSet(set);
+        return map.getOrDefault(group, MemberBitmap.EMPTY);
     }
 
     /** Remove this person from ALL groups. */
     public void removeAllForPerson(Person person) {
         requireNonNull(person);
-        for (Set<Person> set : map.values()) {
-            set.remove(person);
+        MemberBitmap id = MemberBitmap.of(person.getId().value);
+        for (GroupName group : groupsOf(person)) {
+            map.put(group, map.get(group).andNot(id));
         }
+        groupsById.remove(person.getId());
     }
 
     /** Remove all memberships (keeps no groups). */
     public void clear() {
         map.clear();
+        groupsById.clear();
     }
 
-    /** Returns a shallow copy of the mapping for read-only purposes (e.g., debugging). */
-    public Map<GroupName, Set<Person>> snapshot() {
-        Map<GroupName, Set<Person>> copy = new HashMap<>();
-        for (var e : map.entrySet()) {
-            copy.put(e.getKey(), Collections.unmodifiableSet(new HashSet<>(e.getValue())));
-        }
-        return Collections.unmodifiableMap(copy);
+    /** Returns a copy of the mapping for read-only purposes (e.g., debugging). */
+    public Map<GroupName, MemberBitmap> snapshot() {
+        return Collections.unmodifiableMap(new HashMap<>(map));
     }
 
-    /** Returns all groups that contain the given person. */
+    /**
+     * Returns all groups that contain the given person, in the order the person joined them.
+     * The returned set is unmodifiable and does not reflect later changes to memberships.
+     */
     public Set<GroupName> groupsOf(Person person) {
         requireNonNull(person);
-        Set<GroupName> out = new HashSet<>();
-        for (Map.Entry<GroupName, Set<Person>> e : map.entrySet()) {
-            if (e.getValue().contains(person)) {
-                out.add(e.getKey());
+        return groupsById.getOrDefault(person.getId(), Collections.emptySet());
+    }
+
+    private static MemberBitmap idsOf(Iterable<Person> persons) {
+        List<Integer> ids = new ArrayList<>();
+        for (Person p : persons) {
+            if (p != null) {
+                ids.add(p.getId().value);
             }
         }
-        return out;
+        return MemberBitmap.of(ids.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private void join(StudentId id, GroupName group) {
+        Set<GroupName> groups = new LinkedHashSet<>(groupsById.getOrDefault(id, Collections.emptySet()));
+        groups.add(group);
+        groupsById.put(id, Collections.unmodifiableSet(groups));
+    }
+
+    private void leave(StudentId id, GroupName group) {
+        Set<GroupName> groups = new LinkedHashSet<>(groupsById.get(id));
+        groups.remove(group);
+        if (groups.isEmpty()) {
+            groupsById.remove(id);
+        } else {
+            groupsById.put(id, Collections.unmodifiableSet(groups));
+        }
     }
 
 }
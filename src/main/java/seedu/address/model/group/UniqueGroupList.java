@@ -73,6 +73,21 @@ public final class UniqueGroupList implements Iterable<Group> {
         }
     }
 
+    /**
+     * Replaces the group with the same name as {@code group} by {@code group}.
+     *
+     * @param group replacement group (non-null)
+     * @throws IllegalArgumentException if no group has that name
+     */
+    public void setGroup(Group group) {
+        requireNonNull(group);
+        int index = internalList.indexOf(group);
+        if (index == -1) {
+            throw new IllegalArgumentException("Group not found: " + group.getName());
+        }
+        internalList.set(index, group);
+    }
+
     /**
      * Replaces the contents of this list with {@code groups}.
      * <p>
@@ -13,6 +13,8 @@ public class Homework {
     private final String description;
     private final LocalDate deadline;
     private boolean isDone;
+    // Tells the student this homework is given to that it changed
+    private Runnable onChange = () -> {};
 
     /**
      * Constructs a {@code Homework} object with the specified description and deadline.
@@ -43,10 +45,20 @@ public class Homework {
 
     public void markDone() {
         isDone = true;
+        onChange.run();
     }
 
     public void markUndone() {
         isDone = false;
+        onChange.run();
+    }
+
+    /**
+     * Sets what to run whenever the completion status of this homework is set.
+     * Called by the student the homework is given to.
+     */
+    public void setOnChange(Runnable onChange) {
+        this.onChange = requireNonNull(onChange);
     }
 
     //to prevent adding duplicate homework
@@ -0,0 +1,177 @@
+package seedu.address.model.homework;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Indexes the homework of every student by deadline, keeping the homework still to be done apart from the
+ * homework already done.
+ * <p>
+ * Each side is a sorted map from a deadline to the homework due on it, so the homework due in a range of dates is
+ * found with one lookup in the map and a walk over the homework in the range, instead of by going through the
+ * homework list of every student. Marking homework as done or not done moves it to the other side.
+ */
+public final class HomeworkDeadlineIndex {
+
+    private final TreeMap<LocalDate, Set<Entry>> undone = new TreeMap<>();
+    private final TreeMap<LocalDate, Set<Entry>> done = new TreeMap<>();
+    private int size;
+
+    /**
+     * A piece of homework together with the student it was given to.
+     */
+    public static final class Entry {
+        private final StudentId studentId;
+        private final Homework homework;
+
+        private Entry(StudentId studentId, Homework homework) {
+            this.studentId = requireNonNull(studentId);
+            this.homework = requireNonNull(homework);
+        }
+
+        public StudentId getStudentId() {
+            return studentId;
+        }
+
+        public Homework getHomework() {
+            return homework;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+            Entry otherEntry = (Entry) other;
+            return studentId.equals(otherEntry.studentId) && homework.equals(otherEntry.homework);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(studentId, homework);
+        }
+
+        @Override
+        public String toString() {
+            return studentId + ": " + homework;
+        }
+    }
+
+    /**
+     * Adds {@code homework} of the given student, on the side given by whether it is done.
+     * Does nothing if the student already has that homework in the index.
+     */
+    public void add(StudentId studentId, Homework homework) {
+        Entry entry = new Entry(studentId, homework);
+        if (sideOf(homework).computeIfAbsent(homework.getDeadline(), deadline -> new LinkedHashSet<>()).add(entry)) {
+            size++;
+        }
+    }
+
+    /**
+     * Adds all the homework of {@code person}.
+     */
+    public void addAll(Person person) {
+        requireNonNull(person);
+        person.getHomeworkList().forEach(homework -> add(person.getId(), homework));
+    }
+
+    /**
+     * Removes {@code homework} of the given student, whichever side it is on.
+     */
+    public void remove(StudentId studentId, Homework homework) {
+        Entry entry = new Entry(studentId, homework);
+        if (removeFrom(undone, entry) || removeFrom(done, entry)) {
+            size--;
+        }
+    }
+
+    /**
+     * Removes all the homework of {@code person}.
+     */
+    public void removeAll(Person person) {
+        requireNonNull(person);
+        person.getHomeworkList().forEach(homework -> remove(person.getId(), homework));
+    }
+
+    /**
+     * Moves {@code homework} of the given student to the side given by whether it is now done.
+     */
+    public void update(StudentId studentId, Homework homework) {
+        remove(studentId, homework);
+        add(studentId, homework);
+    }
+
+    /**
+     * Removes all homework.
+     */
+    public void clear() {
+        undone.clear();
+        done.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the homework not yet done that is due from {@code from} to {@code to}, both inclusive, in order of
+     * deadline.
+     */
+    public List<Entry> getUndoneDueBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        return flatten(undone.subMap(from, true, to, true).values());
+    }
+
+    /**
+     * Returns the homework not yet done whose deadline is before {@code today}, in order of deadline.
+     */
+    public List<Entry> getOverdue(LocalDate today) {
+        requireNonNull(today);
+        return flatten(undone.headMap(today, false).values());
+    }
+
+    /**
+     * Returns the number of pieces of homework in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    private TreeMap<LocalDate, Set<Entry>> sideOf(Homework homework) {
+        return homework.isDone() ? done : undone;
+    }
+
+    private static boolean removeFrom(TreeMap<LocalDate, Set<Entry>> side, Entry entry) {
+        LocalDate deadline = entry.homework.getDeadline();
+        Set<Entry> due = side.get(deadline);
+        if (due == null || !due.remove(entry)) {
+            return false;
+        }
+        if (due.isEmpty()) {
+            side.remove(deadline);
+        }
+        return true;
+    }
+
+    private static List<Entry> flatten(Collection<Set<Entry>> byDeadline) {
+        List<Entry> entries = new ArrayList<>();
+        byDeadline.forEach(entries::addAll);
+        return entries;
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.address.model.payment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Records which months each student has paid for, keyed by {@link StudentId} and {@link YearMonth}, so that
+ * payments follow a student across edits and a month is kept apart from the same month of another year.
+ * <p>
+ * Each month is held as one {@link MemberBitmap} of the ids of every student who paid for it. Whether a student
+ * paid is a lookup in one bitmap, and questions about many students, such as who has not paid for a month or for
+ * several months running, are answered by combining whole bitmaps instead of checking each student in turn.
+ * Months nobody paid for are not stored.
+ * <p>
+ * Whether the ledger changed since it was last saved is reported by {@link #hasUnsavedChanges()}.
+ */
+public final class PaymentLedger {
+
+    private final TreeMap<YearMonth, MemberBitmap> paidByMonth = new TreeMap<>();
+    private boolean hasUnsavedChanges = false;
+
+    public PaymentLedger() {}
+
+    /**
+     * Creates a ledger with the payments in {@code toBeCopied}.
+     */
+    public PaymentLedger(PaymentLedger toBeCopied) {
+        this();
+        resetData(toBeCopied);
+    }
+
+    /**
+     * Returns a ledger holding, for {@code year}, the months each of {@code persons} paid for according to the
+     * payment status kept with them. Data files written before payments were kept in a ledger only held each
+     * student's payments for the year they were saved in, so this is how those payments are brought over.
+     */
+    public static PaymentLedger fromPaymentStatus(List<Person> persons, int year) {
+        requireNonNull(persons);
+        List<IntStream.Builder> paidByMonth = Stream.generate(IntStream::builder).limit(12).toList();
+        for (Person person : persons) {
+            person.getPaymentStatusBitSet().stream().filter(month -> month < 12)
+                    .forEach(month -> paidByMonth.get(month).add(person.getId().value));
+        }
+        PaymentLedger ledger = new PaymentLedger();
+        for (int month = 1; month <= 12; month++) {
+            ledger.markPaid(MemberBitmap.of(paidByMonth.get(month - 1).build().toArray()), YearMonth.of(year, month));
+        }
+        return ledger;
+    }
+
+    /**
+     * Returns true if the student has paid for {@code month}.
+     */
+    public boolean isPaid(StudentId id, YearMonth month) {
+        requireNonNull(id);
+        return getPaid(month).contains(id.value);
+    }
+
+    /**
+     * Returns the months of {@code year} the student has paid for, as a set of bits where bit 0 is January.
+     */
+    public BitSet getPaidMonths(StudentId id, int year) {
+        requireNonNull(id);
+        BitSet months = new BitSet(12);
+        paidByMonth.subMap(YearMonth.of(year, 1), true, YearMonth.of(year, 12), true).forEach((month, paid) -> {
+            if (paid.contains(id.value)) {
+                months.set(month.getMonthValue() - 1);
+            }
+        });
+        return months;
+    }
+
+    /**
+     * Returns the ids of the students who have paid for {@code month}.
+     */
+    public MemberBitmap getPaid(YearMonth month) {
+        requireNonNull(month);
+        return paidByMonth.getOrDefault(month, MemberBitmap.EMPTY);
+    }
+
+    /**
+     * Returns the ids in {@code students} of the students who have not paid for {@code month}.
+     */
+    public MemberBitmap getUnpaid(MemberBitmap students, YearMonth month) {
+        requireNonNull(students);
+        return students.andNot(getPaid(month));
+    }
+
+    /**
+     * Returns the ids in {@code students} of the students who have paid for none of the {@code months} months
+     * ending with {@code last}, i.e. who have owed for at least that many months running.
+     *
+     * @throws IllegalArgumentException if {@code months} is not positive.
+     */
+    public MemberBitmap getUnpaidForMonths(MemberBitmap students, YearMonth last, int months) {
+        requireNonNull(students);
+        requireNonNull(last);
+        if (months < 1) {
+            throw new IllegalArgumentException("Number of months must be positive");
+        }
+        MemberBitmap unpaid = students;
+        // only the months someone paid for are stored, so the others are skipped rather than looked up
+        for (MemberBitmap paid : paidByMonth.subMap(last.minusMonths(months - 1), true, last, true).values()) {
+            unpaid = unpaid.andNot(paid);
+        }
+        return unpaid;
+    }
+
+    /**
+     * Records whether the student has paid for {@code month}.
+     *
+     * @return true if this changed the ledger.
+     */
+    public boolean setPaid(StudentId id, YearMonth month, boolean isPaid) {
+        requireNonNull(id);
+        MemberBitmap student = MemberBitmap.of(id.value);
+        return isPaid ? markPaid(student, month) : markUnpaid(student, month);
+    }
+
+    /**
+     * Records every student in {@code ids} as paid for {@code month}.
+     *
+     * @return true if this changed the ledger.
+     */
+    public boolean markPaid(MemberBitmap ids, YearMonth month) {
+        requireNonNull(ids);
+        return replace(month, getPaid(month).or(ids));
+    }
+
+    /**
+     * Records every student in {@code ids} as not paid for {@code month}.
+     *
+     * @return true if this changed the ledger.
+     */
+    public boolean markUnpaid(MemberBitmap ids, YearMonth month) {
+        requireNonNull(ids);
+        return replace(month, getPaid(month).andNot(ids));
+    }
+
+    /**
+     * Removes all payments of the given student.
+     */
+    public void removeAllFor(StudentId id) {
+        requireNonNull(id);
+        MemberBitmap student = MemberBitmap.of(id.value);
+        for (YearMonth month : List.copyOf(paidByMonth.keySet())) {
+            markUnpaid(student, month);
+        }
+    }
+
+    /**
+     * Removes all payments.
+     */
+    public void clear() {
+        if (!paidByMonth.isEmpty()) {
+            paidByMonth.clear();
+            hasUnsavedChanges = true;
+        }
+    }
+
+    /**
+     * Replaces the payments in this ledger with those in {@code newData}.
+     */
+    public void resetData(PaymentLedger newData) {
+        requireNonNull(newData);
+        paidByMonth.clear();
+        paidByMonth.putAll(newData.paidByMonth);
+        hasUnsavedChanges = true;
+    }
+
+    /**
+     * Returns the payments as a map from each month, in increasing order, to the ids of the students who paid
+     * for it. Months nobody paid for are left out.
+     */
+    public Map<YearMonth, MemberBitmap> asMap() {
+        return Collections.unmodifiableMap(paidByMonth);
+    }
+
+    /**
+     * Returns true if the ledger changed since {@link #markSaved()} was last called.
+     */
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    /**
+     * Marks the ledger as saved, until it is changed again.
+     */
+    public void markSaved() {
+        hasUnsavedChanges = false;
+    }
+
+    private boolean replace(YearMonth month, MemberBitmap paid) {
+        requireNonNull(month);
+        if (paid.equals(getPaid(month))) {
+            return false;
+        }
+        if (paid.isEmpty()) {
+            paidByMonth.remove(month);
+        } else {
+            paidByMonth.put(month, paid);
+        }
+        hasUnsavedChanges = true;
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PaymentLedger)) {
+            return false;
+        }
+        return paidByMonth.equals(((PaymentLedger) other).paidByMonth);
+    }
+
+    @Override
+    public int hashCode() {
+        return paidByMonth.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return paidByMonth.toString();
+    }
+}
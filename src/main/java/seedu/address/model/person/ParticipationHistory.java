@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Stores up to 5 most recent participation records (oldest -> newest order).
@@ -13,6 +14,8 @@ import java.util.List;
 public class ParticipationHistory {
     private static final int MAX = 5;
     private final Deque<ParticipationRecord> deque = new ArrayDeque<>();
+    // Tells the student this history belongs to that it changed
+    private Runnable onChange = () -> {};
 
     public ParticipationHistory() {}
 
@@ -53,6 +56,7 @@ public class ParticipationHistory {
 
         // Add as the newest record
         deque.addLast(record);
+        onChange.run();
 
         // Enforce max size
         while (deque.size() > MAX) {
@@ -64,6 +68,14 @@ public class ParticipationHistory {
         add(new ParticipationRecord(date, score));
     }
 
+    /**
+     * Sets what to run every time a record is added.
+     * Called by the student this history belongs to.
+     */
+    public void setOnChange(Runnable onChange) {
+        this.onChange = Objects.requireNonNull(onChange);
+    }
+
     /** Returns an immutable list (oldest -> newest). */
     public List<ParticipationRecord> asList() {
         return Collections.unmodifiableList(new ArrayList<>(deque));
@@ -2,36 +2,41 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.geometry.Pos;
-import javafx.scene.layout.HBox;
-import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Text;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.homework.Homework;
 
 
 /**
  * Represents a Student in the student list.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated, id, name, phone and lesson times are
+ * immutable. Payments, homework and participation are changed in place, only on the JavaFX application thread,
+ * and every change moves the modification stamp, which other threads may read.
  */
 public class Person {
 
+    private static final AtomicLong MODIFICATION_STAMPS = new AtomicLong();
+
     private static final String[] MONTH_NAMES = {
         "Jan", "Feb", "Mar", "Apr", "May", "Jun",
         "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
     };
 
+    // Stays the same across edits; not part of equals, as it is not data the user enters
+    private final StudentId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -45,27 +50,43 @@ public class Person {
     // Participation (mutable history of last 5 records)
     private final ParticipationHistory participation = new ParticipationHistory();
 
+    // Reads homework and participation from storage on first access; null once they are loaded
+    private PersonDetailsLoader detailsLoader;
+
+    // Changes whenever any of the data above changes; see getModificationStamp()
+    private volatile long modificationStamp = MODIFICATION_STAMPS.incrementAndGet();
+
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The person is given a new {@link StudentId}.
      */
     public Person(Name name, Phone phone, Set<LessonTime> lessonTime) {
-        requireAllNonNull(name, phone, lessonTime);
-        this.name = name;
-        this.phone = phone;
-        this.lessonTime.addAll(lessonTime);
-        this.paymentStatus = new BitSet(12);
+        this(name, phone, lessonTime, new BitSet(12));
     }
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The person is given a new {@link StudentId}.
      * Second constructor used by storage layer to reconstruct a person with existing payment data
      */
     public Person(Name name, Phone phone, Set<LessonTime> lessonTime, BitSet paymentStatus) {
-        requireAllNonNull(name, phone, lessonTime, paymentStatus);
+        this(StudentId.next(), name, phone, lessonTime, paymentStatus);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Used to reconstruct a person whose id was saved, or to replace a person with an edited one.
+     */
+    public Person(StudentId id, Name name, Phone phone, Set<LessonTime> lessonTime, BitSet paymentStatus) {
+        requireAllNonNull(id, name, phone, lessonTime, paymentStatus);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.lessonTime.addAll(lessonTime);
         this.paymentStatus = paymentStatus;
+        participation.setOnChange(this::touch);
+    }
+
+    public StudentId getId() {
+        return id;
     }
 
     public Name getName() {
@@ -85,25 +106,143 @@ public class Person {
     }
 
     public ObservableList<Homework> getHomeworkList() {
+        loadDetails();
         return FXCollections.unmodifiableObservableList(homeworkList);
     }
 
     public void addHomework(Homework hw) {
+        loadDetails();
+        hw.setOnChange(this::touch);
         homeworkList.add(hw);
+        touch();
     }
 
     public void removeHomework(Homework hw) {
+        loadDetails();
         homeworkList.remove(hw);
+        touch();
     }
 
     public void setHomeworkList(List<Homework> list) {
+        loadDetails();
+        list.forEach(hw -> hw.setOnChange(this::touch));
         homeworkList.setAll(list);
+        touch();
     }
 
     public ParticipationHistory getParticipation() {
+        loadDetails();
         return participation;
     }
 
+    /**
+     * Defers loading this person's homework and participation history to {@code loader},
+     * which is called the first time either is accessed.
+     * Must be called before any homework or participation is added.
+     */
+    public void setDetailsLoader(PersonDetailsLoader loader) {
+        assert homeworkList.isEmpty() && participation.size() == 0 : "details already present";
+        this.detailsLoader = loader;
+    }
+
+    /**
+     * Returns true if this person's homework and participation history have not been loaded yet.
+     */
+    public boolean hasPendingDetails() {
+        return detailsLoader != null;
+    }
+
+    /**
+     * Returns the loader of this person's history if it has not been loaded yet, so that storage can copy the
+     * stored history without decoding it.
+     */
+    public Optional<PersonDetailsLoader> getPendingDetails() {
+        return Optional.ofNullable(detailsLoader);
+    }
+
+    /**
+     * Returns the deadlines of this person's homework that is not done yet. If the history has not been loaded,
+     * they are read from storage without loading it where the storage allows.
+     */
+    public List<LocalDate> getUndoneHomeworkDeadlines() {
+        Optional<List<LocalDate>> pending = detailsLoader == null
+                ? Optional.empty()
+                : detailsLoader.readUndoneDeadlines();
+        return pending.orElseGet(() -> getHomeworkList().stream()
+                .filter(homework -> !homework.isDone())
+                .map(Homework::getDeadline)
+                .toList());
+    }
+
+    /**
+     * Returns a copy of this person that shares no mutable state with it.
+     * The copy has the same modification stamp, as it holds the same data. If this person's history has not
+     * been loaded yet, the copy shares its loader instead of loading it.
+     */
+    public Person deepCopy() {
+        Person copy = new Person(id, name, phone, lessonTime, getPaymentStatusBitSet());
+        copy.modificationStamp = modificationStamp;
+        if (detailsLoader != null) {
+            // the history is still in storage, so the copy reads it from there too
+            copy.detailsLoader = detailsLoader;
+            return copy;
+        }
+        List<Homework> homeworks = new ArrayList<>(getHomeworkList().size());
+        for (Homework hw : getHomeworkList()) {
+            Homework hwCopy = new Homework(hw.getDescription(), hw.getDeadline());
+            if (hw.isDone()) {
+                hwCopy.markDone();
+            }
+            hwCopy.setOnChange(copy::touch);
+            homeworks.add(hwCopy);
+        }
+        copy.homeworkList.setAll(homeworks);
+        copyParticipationHistory(this, copy);
+        copy.modificationStamp = modificationStamp;
+        return copy;
+    }
+
+    /**
+     * Returns this person with the given name, phone and lesson times, keeping their id, payments, homework
+     * and participation history.
+     */
+    public Person withFields(Name name, Phone phone, Set<LessonTime> lessonTime) {
+        Person edited = new Person(id, name, phone, lessonTime, getPaymentStatusBitSet());
+        // the homework now belongs to the edited person, which replaces this one
+        getHomeworkList().forEach(hw -> hw.setOnChange(edited::touch));
+        edited.homeworkList.setAll(getHomeworkList());
+        copyParticipationHistory(this, edited);
+        return edited;
+    }
+
+    /**
+     * Returns a number that is different every time this person's data has changed, and is never shared
+     * with another person, except by the copies of this person. Storage uses it, from its own threads, to tell
+     * which persons changed since they were last saved.
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    private void touch() {
+        modificationStamp = MODIFICATION_STAMPS.incrementAndGet();
+    }
+
+    private void loadDetails() {
+        if (detailsLoader == null) {
+            return;
+        }
+        PersonDetailsLoader loader = detailsLoader;
+        detailsLoader = null;
+
+        List<Homework> homeworks = new ArrayList<>();
+        List<ParticipationRecord> records = new ArrayList<>();
+        loader.load(homeworks, records);
+        homeworks.forEach(hw -> hw.setOnChange(this::touch));
+        homeworkList.setAll(homeworks);
+        records.forEach(participation::add);
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -154,7 +293,8 @@ public class Person {
     }
 
     /**
-     * Returns the payment status for a specific month (1-12).
+     * Returns the legacy payment status for a specific month (1-12).
+     * Use the model's {@code PaymentLedger} for the payments a student actually has.
      */
     public boolean isPaidForMonth(int month) {
         if (month < 1 || month > 12) {
@@ -168,6 +308,7 @@ public class Person {
      */
     public void setAllPaymentStatus(BitSet status) {
         this.paymentStatus = status;
+        touch();
     }
 
     /**
@@ -179,17 +320,26 @@ public class Person {
             throw new IllegalArgumentException("Month must be between 1 and 12");
         }
         paymentStatus.set(month - 1, isPaid);
+        touch();
     }
 
     /**
      * @return a string of payment status for each month
      */
     public String getPaymentStatusDisplay() {
+        return describePaymentStatus(paymentStatus);
+    }
+
+    /**
+     * Returns a string of the payment status for each month of a year, given the months paid for as a set of bits
+     * where bit 0 is January.
+     */
+    public static String describePaymentStatus(BitSet paidMonths) {
         StringBuilder sb = new StringBuilder();
         sb.append("Payment Status:\n");
         for (int i = 0; i < 12; i++) {
             sb.append(MONTH_NAMES[i]).append(": ");
-            if (paymentStatus.get(i)) {
+            if (paidMonths.get(i)) {
                 sb.append("✓ Paid");
             } else {
                 sb.append("✗ Unpaid");
@@ -202,37 +352,10 @@ public class Person {
     }
 
     /**
-     * Creates a JavaFX VBox containing visual representation of payment status using Rectangles.
-     * Displays month labels on top row and colored rectangles on bottom row (green for paid, red for unpaid).
-     *
-     * @return VBox containing payment status visualization
+     * Returns the legacy payment months of this person, as a set of bits where bit 0 is January.
+     * Payments are kept in the model's {@code PaymentLedger}; these bits are only read once, when a data file
+     * saved before the ledger existed is migrated into it.
      */
-    public HBox getPaymentStatusRectangles() {
-        HBox container = new HBox(4);
-
-        for (int i = 0; i < 12; i++) {
-            VBox monthColumn = new VBox(3);
-            monthColumn.setAlignment(Pos.CENTER);
-
-            Text monthLabel = new Text(MONTH_NAMES[i]);
-            monthLabel.setStyle("-fx-font-family: \"Segoe UI\"; -fx-font-size: 16px; -fx-fill: white;");
-
-            Rectangle rect = new Rectangle(24, 24);
-            if (paymentStatus.get(i)) {
-                rect.setFill(Color.GREEN);
-            } else {
-                rect.setFill(Color.RED);
-            }
-            rect.setStroke(Color.BLACK);
-            rect.setStrokeWidth(1);
-
-            monthColumn.getChildren().addAll(monthLabel, rect);
-            container.getChildren().add(monthColumn);
-        }
-
-        return container;
-    }
-
     public BitSet getPaymentStatusBitSet() {
         return (BitSet) paymentStatus.clone();
     }
@@ -0,0 +1,28 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.homework.Homework;
+
+/**
+ * Supplies the homework and participation history of a {@link Person} whose history is read from storage
+ * only when it is first needed.
+ */
+@FunctionalInterface
+public interface PersonDetailsLoader {
+
+    /**
+     * Appends the person's homework and participation records, oldest first, to the given lists.
+     */
+    void load(List<Homework> homeworks, List<ParticipationRecord> participation);
+
+    /**
+     * Returns the deadlines of the person's homework that is not done yet, if they can be read without loading
+     * the whole history.
+     */
+    default Optional<List<LocalDate>> readUndoneDeadlines() {
+        return Optional.empty();
+    }
+}
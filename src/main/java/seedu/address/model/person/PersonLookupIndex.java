@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Finds the students with a given name, phone number or lesson time without going through every student.
+ * <p>
+ * Each of the three is normalized once, when a student is added, into lower case with runs of whitespace
+ * collapsed, and the students are kept in a hash map under it. Looking a value up normalizes it the same way and
+ * takes one map lookup, however many students there are.
+ */
+public final class PersonLookupIndex {
+    private final Map<String, List<Person>> byName = new HashMap<>();
+    private final Map<String, List<Person>> byPhone = new HashMap<>();
+    private final Map<String, List<Person>> byLessonTime = new HashMap<>();
+
+    /**
+     * Replaces the students in the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        byName.clear();
+        byPhone.clear();
+        byLessonTime.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        put(byName, normalize(person.getName().fullName), person);
+        put(byPhone, normalize(person.getPhone().value), person);
+        for (LessonTime lessonTime : person.getLessonTime()) {
+            put(byLessonTime, normalize(lessonTime.toString()), person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person is not in it.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        take(byName, normalize(person.getName().fullName), person);
+        take(byPhone, normalize(person.getPhone().value), person);
+        for (LessonTime lessonTime : person.getLessonTime()) {
+            take(byLessonTime, normalize(lessonTime.toString()), person);
+        }
+    }
+
+    /**
+     * Returns the students whose name is {@code name}, ignoring case and extra whitespace.
+     */
+    public List<Person> findByName(String name) {
+        return find(byName, name);
+    }
+
+    /**
+     * Returns the students whose phone number is {@code phone}, ignoring extra whitespace.
+     */
+    public List<Person> findByPhone(String phone) {
+        return find(byPhone, phone);
+    }
+
+    /**
+     * Returns the students with a lesson at {@code lessonTime}, written as it is displayed (e.g. {@code 10:00 am Sun}),
+     * ignoring case and extra whitespace.
+     */
+    public List<Person> findByLessonTime(String lessonTime) {
+        return find(byLessonTime, lessonTime);
+    }
+
+    private static List<Person> find(Map<String, List<Person>> map, String value) {
+        requireNonNull(value);
+        return List.copyOf(map.getOrDefault(normalize(value), List.of()));
+    }
+
+    private static void put(Map<String, List<Person>> map, String key, Person person) {
+        // most keys belong to one student, so each list starts with room for one
+        map.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(person);
+    }
+
+    private static void take(Map<String, List<Person>> map, String key, Person person) {
+        List<Person> persons = map.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * Returns {@code s} in lower case, trimmed and with each run of whitespace replaced by a single space.
+     */
+    static String normalize(String s) {
+        return s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,18 +3,24 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.Locale;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.group.MemberBitmap;
 
 
 /**
  * Tests whether any of the given keywords is contained in a
  * person's name, phone number, or lesson time
+ * <p>
+ * A predicate returned by {@link #withMatches(MemberBitmap)} looks students up in the ids the search index
+ * found for the keywords instead of scanning each student's text. Two predicates are equal if they have the
+ * same keywords, whichever way they test students.
  */
 public class StudentFieldsContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Optional<MemberBitmap> matches;
     /**
      * Creates a predicate that matches if any keyword is contained in a person's
      * name, phone, or lesson time
@@ -22,24 +28,34 @@ public class StudentFieldsContainsKeywordsPredicate implements Predicate<Person>
      * @param keywords list of keywords;
      */
     public StudentFieldsContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, Optional.empty());
+    }
+
+    private StudentFieldsContainsKeywordsPredicate(List<String> keywords, Optional<MemberBitmap> matches) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.matches = matches;
+    }
+
+    /**
+     * Returns a predicate with the same keywords that matches the students whose ids are in {@code matches},
+     * the result of searching the index for the keywords. Students are matched as they were when searched.
+     */
+    public StudentFieldsContainsKeywordsPredicate withMatches(MemberBitmap matches) {
+        requireNonNull(matches);
+        return new StudentFieldsContainsKeywordsPredicate(keywords, Optional.of(matches));
     }
 
     @Override
     public boolean test(Person person) {
         requireNonNull(person);
-        String name = norm(person.getName().fullName);
-        String phone = norm(person.getPhone().value);
-
-        String lesson = "";
-        if (person.getLessonTime() != null) {
-            lesson = norm(person.getLessonTime().toString());
+        if (matches.isPresent()) {
+            return matches.get().contains(person.getId().value);
         }
-
+        String text = StudentSearchIndex.textOf(person);
         for (String kw : keywords) {
-            String t = norm(kw);
-            if (!t.isEmpty() && (name.contains(t) || phone.contains(t) || lesson.contains(t))) {
+            String t = StudentSearchIndex.normalize(kw);
+            if (!t.isEmpty() && text.contains(t)) {
                 return true;
             }
         }
@@ -62,10 +78,6 @@ public class StudentFieldsContainsKeywordsPredicate implements Predicate<Person>
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
-    private static String norm(String s) {
-        return s == null ? "" : s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
-    }
-
     /**
      * Gets the keywords used in the predicate
      *
@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents the id of a student, which stays the same when the student is edited and is saved with them.
+ * Memberships, attendance and derived reminders refer to students by id.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(int)}; new ids are never the same as an id
+ * created before in this run, including ids read from storage.
+ */
+public final class StudentId {
+    public static final String MESSAGE_CONSTRAINTS = "Student ids should be positive integers";
+
+    private static final AtomicInteger LARGEST_ID = new AtomicInteger();
+
+    public final int value;
+
+    private StudentId(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a new id, larger than every id created so far.
+     */
+    public static StudentId next() {
+        return new StudentId(LARGEST_ID.incrementAndGet());
+    }
+
+    /**
+     * Returns the id with the given {@code value}, such as one read from storage.
+     * Ids returned by {@link #next()} afterwards are larger than it.
+     *
+     * @param value A valid id.
+     */
+    public static StudentId of(int value) {
+        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        LARGEST_ID.accumulateAndGet(value, Math::max);
+        return new StudentId(value);
+    }
+
+    /**
+     * Returns the id with the given {@code value} to look up a student, or something kept for them, by.
+     * Unlike {@link #of(int)}, this does not affect the ids given out by {@link #next()}, so it is only for
+     * values taken from ids that already exist.
+     *
+     * @param value A valid id.
+     */
+    public static StudentId keyOf(int value) {
+        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        return new StudentId(value);
+    }
+
+    /**
+     * Returns true if a given integer is a valid id.
+     */
+    public static boolean isValidId(int test) {
+        return test > 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentId)) {
+            return false;
+        }
+
+        return value == ((StudentId) other).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+}
@@ -0,0 +1,197 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Finds the names of students that are close to a misspelt name, to suggest when no student has that name.
+ * <p>
+ * Names are compared in lower case with runs of whitespace collapsed, by their edit distance: the number of
+ * characters that must be inserted, deleted or replaced to turn one into the other. They are kept in a BK-tree,
+ * where each child of a name hangs under its distance from that name. Edit distance obeys the triangle inequality,
+ * so a search for names within distance {@code d} of a query that is {@code e} from a node only needs to visit the
+ * children hanging under {@code e - d} to {@code e + d}, and most of the tree is never looked at.
+ * <p>
+ * A removed name leaves its node in place, since the names below it hang under their distance from it, and the
+ * tree is rebuilt once removed nodes outnumber the rest.
+ */
+public final class StudentNameIndex {
+    /** The most names suggested at once. */
+    public static final int MAX_SUGGESTIONS = 3;
+
+    private Node root;
+    private int size;
+    private int emptyNodes;
+
+    private static final class Node {
+        private final String key;
+        private final List<Name> names = new ArrayList<>(1);
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Replaces the names in the index with those of {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        root = null;
+        size = 0;
+        emptyNodes = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds the name of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        add(person.getName());
+    }
+
+    /**
+     * Removes the name of {@code person}. Does nothing if the name is not in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Name name = person.getName();
+        String key = normalize(name.fullName);
+        Node node = root;
+        while (node != null) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                break;
+            }
+            node = node.children.get(distance);
+        }
+        if (node == null || !node.names.remove(name)) {
+            return;
+        }
+        size--;
+        if (node.names.isEmpty()) {
+            emptyNodes++;
+        }
+        if (emptyNodes > size) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns up to {@link #MAX_SUGGESTIONS} names closest to {@code name}, nearest first. Only names within an
+     * edit distance of a third of the length of {@code name}, and at least one, are suggested.
+     */
+    public List<Name> suggest(String name) {
+        requireNonNull(name);
+        String key = normalize(name);
+        int maxDistance = Math.max(1, key.length() / 3);
+
+        Map<Name, Integer> distances = new HashMap<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(key, node.key);
+            if (distance <= maxDistance) {
+                node.names.forEach(match -> distances.put(match, distance));
+            }
+            for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; d++) {
+                Node child = node.children.get(d);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return distances.keySet().stream()
+                .sorted(Comparator.<Name>comparingInt(distances::get).thenComparing(match -> match.fullName))
+                .limit(MAX_SUGGESTIONS)
+                .toList();
+    }
+
+    private void add(Name name) {
+        String key = normalize(name.fullName);
+        size++;
+        if (root == null) {
+            root = new Node(key);
+            root.names.add(name);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                if (node.names.isEmpty()) {
+                    emptyNodes--;
+                }
+                node.names.add(name);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(key);
+                child.names.add(name);
+                node.children.put(distance, child);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private void rebuild() {
+        List<Name> names = new ArrayList<>(size);
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            names.addAll(node.names);
+            node.children.values().forEach(pending::push);
+        }
+        root = null;
+        size = 0;
+        emptyNodes = 0;
+        names.forEach(this::add);
+    }
+
+    /**
+     * Returns {@code s} in lower case, trimmed and with each run of whitespace replaced by a single space.
+     */
+    static String normalize(String s) {
+        return s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the edit distance between {@code a} and {@code b}.
+     */
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int replace = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(replace, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
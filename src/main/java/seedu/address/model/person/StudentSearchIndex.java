@@ -0,0 +1,171 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.model.group.MemberBitmap;
+
+/**
+ * Finds the students whose name, phone number or lesson times contain a keyword, without going through every
+ * student.
+ * <p>
+ * The text searched for each student is normalized once, when the student is added, and kept. Every run of three
+ * characters (trigram) in it is indexed, with the ids of the students whose text contains a trigram held as one
+ * {@link MemberBitmap}. A student's text can contain a keyword only if it contains every trigram of the keyword, so
+ * intersecting those bitmaps leaves a few candidates, and only they are checked in full. Keywords shorter than a
+ * trigram are checked against the kept text of every student.
+ */
+public final class StudentSearchIndex {
+    private static final int GRAM = 3;
+    // a normalized keyword has no line breaks, so it never matches across two fields
+    private static final String FIELD_SEPARATOR = "\n";
+
+    private final Map<StudentId, String> texts = new HashMap<>();
+    private final Map<Long, MemberBitmap> postings = new HashMap<>();
+
+    /**
+     * Replaces the students in the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        texts.clear();
+        postings.clear();
+        // the ids of each trigram are collected first, so that each bitmap is built once
+        Map<Long, IdList> ids = new HashMap<>();
+        for (Person person : persons) {
+            String text = textOf(person);
+            texts.put(person.getId(), text);
+            for (long gram : gramsOf(text)) {
+                ids.computeIfAbsent(gram, unused -> new IdList()).add(person.getId().value);
+            }
+        }
+        ids.forEach((gram, list) -> postings.put(gram, MemberBitmap.of(list.toArray())));
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String text = textOf(person);
+        texts.put(person.getId(), text);
+        MemberBitmap id = MemberBitmap.of(person.getId().value);
+        for (long gram : gramsOf(text)) {
+            postings.merge(gram, id, MemberBitmap::or);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person is not in it.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String text = texts.remove(person.getId());
+        if (text == null) {
+            return;
+        }
+        MemberBitmap id = MemberBitmap.of(person.getId().value);
+        for (long gram : gramsOf(text)) {
+            MemberBitmap rest = postings.get(gram).andNot(id);
+            if (rest.isEmpty()) {
+                postings.remove(gram);
+            } else {
+                postings.put(gram, rest);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the students whose name, phone number or lesson times contain any of {@code keywords},
+     * ignoring case and runs of whitespace.
+     */
+    public MemberBitmap search(List<String> keywords) {
+        requireNonNull(keywords);
+        MemberBitmap found = MemberBitmap.EMPTY;
+        for (String keyword : keywords) {
+            String normalized = normalize(keyword);
+            if (!normalized.isEmpty()) {
+                found = found.or(search(normalized));
+            }
+        }
+        return found;
+    }
+
+    private MemberBitmap search(String keyword) {
+        if (keyword.length() < GRAM) {
+            return MemberBitmap.of(texts.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(keyword))
+                    .mapToInt(entry -> entry.getKey().value).toArray());
+        }
+        List<MemberBitmap> lists = new ArrayList<>();
+        for (long gram : gramsOf(keyword)) {
+            MemberBitmap list = postings.get(gram);
+            if (list == null) {
+                return MemberBitmap.EMPTY;
+            }
+            lists.add(list);
+        }
+        // intersecting the shortest lists first keeps the intermediate results small
+        lists.sort(Comparator.comparingInt(MemberBitmap::cardinality));
+        MemberBitmap candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates = candidates.and(lists.get(i));
+        }
+        return MemberBitmap.of(candidates.stream()
+                .filter(id -> texts.get(StudentId.keyOf(id)).contains(keyword)).toArray());
+    }
+
+    /**
+     * Returns the normalized name, phone number and lesson times of {@code person}, one per line.
+     */
+    static String textOf(Person person) {
+        String lesson = person.getLessonTime() == null ? "" : normalize(person.getLessonTime().toString());
+        return normalize(person.getName().fullName) + FIELD_SEPARATOR + normalize(person.getPhone().value)
+                + FIELD_SEPARATOR + lesson;
+    }
+
+    /**
+     * Returns {@code s} trimmed and in lower case, with each run of whitespace replaced by a single space.
+     */
+    static String normalize(String s) {
+        return s == null ? "" : s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}, each packed into a long.
+     */
+    private static long[] gramsOf(String text) {
+        int count = Math.max(0, text.length() - GRAM + 1);
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * A growable list of ids.
+     */
+    private static final class IdList {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +21,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * <p>
+ * As {@code Person#isSamePerson(Person)} compares names only, the position of each person is also kept in a map
+ * keyed by name, so that identity checks and finding the person to replace or remove take constant time.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -27,13 +32,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // name -> position of the person with that name in internalList
+    private final Map<Name, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,6 +52,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,7 +64,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +73,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +84,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        positions.remove(toRemove.getName());
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +108,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Integer> newPositions = positionsOf(persons);
+        if (newPositions == null) {
             throw new DuplicatePersonException();
         }
 
+        positions.clear();
+        positions.putAll(newPositions);
         internalList.setAll(persons);
     }
 
@@ -135,16 +156,25 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person}, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Integer index = positions.get(person.getName());
+        return index != null && internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Returns the position of each person in {@code persons} keyed by name, or null if two persons have the same
+     * identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> positionsOf(List<Person> persons) {
+        // isSamePerson compares names only
+        Map<Name, Integer> positions = new HashMap<>(persons.size() * 4 / 3 + 1);
+        for (Person person : persons) {
+            if (positions.put(person.getName(), positions.size()) != null) {
+                return null;
             }
         }
-        return true;
+        return positions;
     }
 }
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
@@ -42,6 +43,8 @@ public class DueDate implements Comparable<DueDate> {
     private final LocalDate date;
     private final LocalDateTime dateTime;
     private final boolean isDateOnly;
+    // the due date and time as minutes since the epoch, read as UTC so that no time zone is involved
+    private final long epochMinute;
 
     /**
      * Constructs a {@code DueDate}.
@@ -62,6 +65,15 @@ public class DueDate implements Comparable<DueDate> {
             this.dateTime = LocalDateTime.parse(collapsedDueDate, VALID_INPUT_DATETIME_FORMAT);
             isDateOnly = false;
         }
+        epochMinute = epochMinuteOf(toDateTime());
+    }
+
+    /**
+     * Returns {@code dateTime} as whole minutes since the epoch, rounded down, the same scale as
+     * {@link #toEpochMinute()}.
+     */
+    public static long epochMinuteOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
     }
 
     /**
@@ -90,6 +102,14 @@ public class DueDate implements Comparable<DueDate> {
         return isDateOnly ? date.atStartOfDay() : dateTime;
     }
 
+    /**
+     * Returns the due date and time as minutes since the epoch, computed once, so due dates are ordered and
+     * compared by a single number.
+     */
+    public long toEpochMinute() {
+        return epochMinute;
+    }
+
     /**
      * Converts dueDate into the Input string format for storing in JSON.
      */
@@ -111,13 +131,7 @@ public class DueDate implements Comparable<DueDate> {
      */
     @Override
     public int compareTo(DueDate other) {
-        if (this.toDateTime().isBefore(other.toDateTime())) {
-            return -1;
-        } else if (this.toDateTime().isAfter(other.toDateTime())) {
-            return 1;
-        } else {
-            return 0;
-        }
+        return Long.compare(epochMinute, other.epochMinute);
     }
 
     @Override
@@ -132,12 +146,12 @@ public class DueDate implements Comparable<DueDate> {
         }
 
         DueDate otherDueDate = (DueDate) other;
-        return otherDueDate.toDateTime().equals(this.toDateTime());
+        return otherDueDate.epochMinute == epochMinute;
     }
 
     @Override
     public int hashCode() {
-        return toDateTime().hashCode();
+        return Long.hashCode(epochMinute);
     }
 
     @Override
@@ -0,0 +1,197 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel that holds tasks due at given epoch minutes and hands each task out once the wheel
+ * has been advanced to its minute.
+ * <p>
+ * The wheel has four levels of 64 slots. A slot of level 0 spans one minute, and a slot of
+ * each higher level spans all the slots of the level below, so the levels cover about 64 minutes, 3 days, 6 months
+ * and 32 years ahead; tasks due later wait in an overflow list. A task is kept at the lowest level whose slots tell
+ * its minute apart from the current one. Each minute the wheel advances, it fires the tasks in one slot of level 0,
+ * and when a higher level moves on to its next slot, the tasks in that slot are moved down to the levels below.
+ * Scheduling, cancelling and advancing by a minute therefore take constant time, however many tasks are waiting.
+ *
+ * @param <T> the type of the tasks.
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+
+    private final List<List<Timer<T>>> slots = new ArrayList<>();
+    private final List<Timer<T>> overflow = new ArrayList<>();
+    private final List<Timer<T>> overdue = new ArrayList<>();
+    private long currentMinute;
+    private int size;
+
+    /**
+     * Creates an empty wheel whose current time is {@code currentMinute}.
+     */
+    public TimingWheel(long currentMinute) {
+        this.currentMinute = currentMinute;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * A task waiting in the wheel, which can be cancelled until it fires.
+     */
+    public static final class Timer<T> {
+        private final long dueMinute;
+        private final T task;
+        private boolean isActive = true;
+
+        private Timer(long dueMinute, T task) {
+            this.dueMinute = dueMinute;
+            this.task = task;
+        }
+
+        public long getDueMinute() {
+            return dueMinute;
+        }
+
+        /**
+         * Returns true if the task has neither fired nor been cancelled.
+         */
+        public boolean isActive() {
+            return isActive;
+        }
+    }
+
+    /**
+     * Returns the epoch minute the wheel has been advanced to.
+     */
+    public long getCurrentMinute() {
+        return currentMinute;
+    }
+
+    /**
+     * Returns the number of tasks that have neither fired nor been cancelled.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules {@code task} to fire at {@code dueMinute}. A task due at or before the current minute fires the
+     * next time the wheel is advanced.
+     */
+    public Timer<T> schedule(long dueMinute, T task) {
+        requireNonNull(task);
+        Timer<T> timer = new Timer<>(dueMinute, task);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels {@code timer} so that its task never fires. Does nothing if it has already fired or been cancelled.
+     */
+    public void cancel(Timer<T> timer) {
+        requireNonNull(timer);
+        if (timer.isActive) {
+            // the timer stays in its slot and is dropped when the slot is next visited
+            timer.isActive = false;
+            size--;
+        }
+    }
+
+    /**
+     * Cancels every task.
+     */
+    public void clear() {
+        slots.forEach(slot -> slot.forEach(timer -> timer.isActive = false));
+        slots.forEach(List::clear);
+        overflow.forEach(timer -> timer.isActive = false);
+        overflow.clear();
+        overdue.forEach(timer -> timer.isActive = false);
+        overdue.clear();
+        size = 0;
+    }
+
+    /**
+     * Advances the wheel to {@code minute}, passing every task due by then to {@code fire}, in order of due minute.
+     * Tasks scheduled by {@code fire} for a minute already passed fire in the same call.
+     */
+    public void advanceTo(long minute, Consumer<? super T> fire) {
+        requireNonNull(fire);
+        fireAll(overdue, fire);
+        while (currentMinute < minute) {
+            if (size == 0) {
+                // nothing waits, so the wheel can jump straight to the minute
+                clear();
+                currentMinute = minute;
+                break;
+            }
+            currentMinute++;
+            cascade(1);
+            fireAll(slots.get(slotIndex(0, currentMinute)), fire);
+            fireAll(overdue, fire);
+        }
+    }
+
+    /**
+     * Moves the tasks in the slot {@code level} has just moved on to down to the levels below, first doing the
+     * same for the level above if it has moved on too.
+     */
+    private void cascade(int level) {
+        if (level == LEVELS) {
+            List<Timer<T>> waiting = new ArrayList<>(overflow);
+            overflow.clear();
+            waiting.forEach(this::place);
+            return;
+        }
+        if ((currentMinute & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+            return;
+        }
+        cascade(level + 1);
+        List<Timer<T>> slot = slots.get(slotIndex(level, currentMinute));
+        List<Timer<T>> moving = new ArrayList<>(slot);
+        slot.clear();
+        moving.forEach(this::place);
+    }
+
+    private void fireAll(List<Timer<T>> timers, Consumer<? super T> fire) {
+        while (!timers.isEmpty()) {
+            List<Timer<T>> firing = new ArrayList<>(timers);
+            timers.clear();
+            for (Timer<T> timer : firing) {
+                if (timer.isActive) {
+                    timer.isActive = false;
+                    size--;
+                    fire.accept(timer.task);
+                }
+            }
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        if (!timer.isActive) {
+            return;
+        }
+        if (timer.dueMinute <= currentMinute) {
+            overdue.add(timer);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            // the lowest level above which the due minute and the current minute fall in the same slots
+            int shift = SLOT_BITS * (level + 1);
+            if ((timer.dueMinute >> shift) == (currentMinute >> shift)) {
+                slots.get(slotIndex(level, timer.dueMinute)).add(timer);
+                return;
+            }
+        }
+        overflow.add(timer);
+    }
+
+    private static int slotIndex(int level, long minute) {
+        return level * SLOTS + (int) ((minute >> (SLOT_BITS * level)) & (SLOTS - 1));
+    }
+}
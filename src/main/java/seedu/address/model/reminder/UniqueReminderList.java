@@ -3,15 +3,29 @@ package seedu.address.model.reminder;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.function.Predicate;
-import java.util.logging.Logger;
+import java.util.stream.LongStream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.reminder.exceptions.DuplicateReminderException;
 import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
 
@@ -24,28 +38,97 @@ import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
  * that the reminder with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * The list is always kept in display order: upcoming reminders first, then past ones, each by due date ascending
+ * and then by description. Every {@link DueDate} carries its due time as a precomputed epoch minute, so a reminder
+ * is placed by binary search on that number instead of by sorting the list, and duplicates are found in a hash set.
+ * When the clock passes the due time of the earliest upcoming reminders, only those reminders move, from the front
+ * of the list to the end of the past ones.
+ * <p>
+ * The {@link UnmodifiableReminder}s derived from each student are also kept grouped by {@link StudentId}, so
+ * {@link #setDerivedReminders(StudentId, List)} can bring one student's reminders up to date without touching
+ * those of any other student.
  *
  * @see Reminder#equals(Object)
  */
 public class UniqueReminderList implements Iterable<Reminder> {
-    private static final Logger logger = LogsCenter.getLogger(UniqueReminderList.class);
+    // a homework reminder shows while fewer than this many minutes remain until the homework is due
+    private static final long HOMEWORK_REMINDER_MINUTES = Duration.ofDays(2).toMinutes();
+
+    private static final Comparator<Reminder> BY_DUE_DATE = Comparator
+            .comparingLong((Reminder reminder) -> reminder.getDueDate().toEpochMinute())
+            .thenComparing(reminder -> reminder.getDescription().toString(), String.CASE_INSENSITIVE_ORDER);
+
     private final ObservableList<Reminder> internalList = FXCollections.observableArrayList();
     private final ObservableList<Reminder> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Reminder> members = new HashSet<>();
+    private final Map<StudentId, Set<UnmodifiableReminder>> derivedByStudent = new HashMap<>();
+    private final Clock clock;
+    // reminders due before this epoch minute are ordered as past ones
+    private long pastBefore;
+
+    public UniqueReminderList() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an empty list that tells past reminders from upcoming ones by the time on {@code clock}.
+     */
+    UniqueReminderList(Clock clock) {
+        this.clock = requireNonNull(clock);
+        this.pastBefore = currentPastBefore();
+    }
 
     /**
      * Returns true if the list contains an equivalent reminder as the given argument.
      */
     public boolean contains(Reminder toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return members.contains(toCheck);
     }
 
     /**
-     * Sorts the reminder list based on upcoming due date
+     * Brings the order of the list up to date with the clock: reminders that have fallen due since the list was
+     * last sorted are moved behind the other past reminders.
      */
     public void sort() {
-        internalList.sort(Reminder::compareTo);
+        long previous = pastBefore;
+        pastBefore = currentPastBefore();
+        if (pastBefore < previous) {
+            // the clock was set back, so reminders may have to move from past to upcoming too
+            List<Reminder> sorted = new ArrayList<>(internalList);
+            sorted.sort(this::compareInList);
+            internalList.setAll(sorted);
+            return;
+        }
+
+        // the newly past reminders lead the list, and fall due after every reminder that was already past
+        int newlyPast = 0;
+        while (newlyPast < internalList.size()) {
+            long due = internalList.get(newlyPast).getDueDate().toEpochMinute();
+            if (due < previous || due >= pastBefore) {
+                break;
+            }
+            newlyPast++;
+        }
+        if (newlyPast > 0) {
+            List<Reminder> moved = new ArrayList<>(internalList.subList(0, newlyPast));
+            internalList.remove(0, newlyPast);
+            internalList.addAll(moved);
+        }
+    }
+
+    /**
+     * Returns the due epoch minute of the earliest upcoming reminder, which is the next time {@link #sort()} will
+     * move a reminder, or an empty result if no reminder is upcoming.
+     */
+    public OptionalLong getNextDueMinute() {
+        if (internalList.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        long due = internalList.get(0).getDueDate().toEpochMinute();
+        return due < pastBefore ? OptionalLong.empty() : OptionalLong.of(due);
     }
 
     /**
@@ -57,7 +140,10 @@ public class UniqueReminderList implements Iterable<Reminder> {
         if (contains(toAdd)) {
             throw new DuplicateReminderException();
         }
-        internalList.add(toAdd);
+        sort();
+        internalList.add(-(search(toAdd) + 1), toAdd);
+        members.add(toAdd);
+        track(toAdd);
     }
 
     /**
@@ -68,8 +154,7 @@ public class UniqueReminderList implements Iterable<Reminder> {
     public void setReminder(Reminder target, Reminder editedReminder) {
         requireAllNonNull(target, editedReminder);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!contains(target)) {
             throw new ReminderNotFoundException();
         }
 
@@ -77,7 +162,8 @@ public class UniqueReminderList implements Iterable<Reminder> {
             throw new DuplicateReminderException();
         }
 
-        internalList.set(index, editedReminder);
+        remove(target);
+        add(editedReminder);
     }
 
     /**
@@ -86,9 +172,10 @@ public class UniqueReminderList implements Iterable<Reminder> {
      */
     public void remove(Reminder toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!members.remove(toRemove)) {
             throw new ReminderNotFoundException();
         }
+        untrack(internalList.remove(search(toRemove)));
     }
 
     /**
@@ -96,12 +183,40 @@ public class UniqueReminderList implements Iterable<Reminder> {
      */
     public void removeIf(Predicate<Reminder> predicate) {
         requireNonNull(predicate);
-        internalList.removeIf(predicate);
+        internalList.removeIf(reminder -> {
+            if (!predicate.test(reminder)) {
+                return false;
+            }
+            members.remove(reminder);
+            untrack(reminder);
+            return true;
+        });
+    }
+
+    /**
+     * Replaces the reminders derived from the student with {@code studentId} with {@code derived}.
+     * Reminders the student still has are kept in place, and only those that went away or are new are
+     * removed or added. No other reminder in the list is looked at.
+     *
+     * @throws DuplicateReminderException if a new reminder is the same as one already in the list.
+     */
+    public void setDerivedReminders(StudentId studentId, List<? extends UnmodifiableReminder> derived) {
+        requireNonNull(studentId);
+        requireAllNonNull(derived);
+        Set<UnmodifiableReminder> current = derivedByStudent.getOrDefault(studentId, Collections.emptySet());
+        Set<UnmodifiableReminder> stale = new HashSet<>(current);
+        derived.forEach(stale::remove);
+        stale.forEach(this::remove);
+        for (UnmodifiableReminder reminder : derived) {
+            if (!current.contains(reminder)) {
+                add(reminder);
+            }
+        }
     }
 
     public void setReminders(UniqueReminderList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setReminders(new ArrayList<>(replacement.internalList));
     }
 
     /**
@@ -114,15 +229,20 @@ public class UniqueReminderList implements Iterable<Reminder> {
             throw new DuplicateReminderException();
         }
 
-        internalList.setAll(reminders);
+        pastBefore = currentPastBefore();
+        List<Reminder> sorted = new ArrayList<>(reminders);
+        sorted.sort(this::compareInList);
+        internalList.setAll(sorted);
+        members.clear();
+        members.addAll(reminders);
+        retrack();
     }
 
     /**
      * Returns the sorted backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Reminder> asUnmodifiableObservableList() {
-        logger.info("--- Sorting reminder list ---");
-        this.sort();
+        sort();
         return internalUnmodifiableList;
     }
 
@@ -156,15 +276,71 @@ public class UniqueReminderList implements Iterable<Reminder> {
         return internalList.toString();
     }
 
+    /**
+     * Orders upcoming reminders before past ones, as of {@code pastBefore}, and by due date within each.
+     */
+    private int compareInList(Reminder first, Reminder second) {
+        boolean isFirstPast = first.getDueDate().toEpochMinute() < pastBefore;
+        boolean isSecondPast = second.getDueDate().toEpochMinute() < pastBefore;
+        if (isFirstPast != isSecondPast) {
+            return isFirstPast ? 1 : -1;
+        }
+        return BY_DUE_DATE.compare(first, second);
+    }
+
+    /**
+     * Returns the position of {@code reminder} in the list, or {@code -(insertion point) - 1} if it is not there.
+     */
+    private int search(Reminder reminder) {
+        return Collections.binarySearch(internalList, reminder, this::compareInList);
+    }
+
+    /**
+     * Returns the first epoch minute whose reminders are not yet past, i.e. the current minute if the clock is
+     * exactly on it, and the next minute otherwise.
+     */
+    private long currentPastBefore() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        long minute = DueDate.epochMinuteOf(now);
+        return now.equals(now.truncatedTo(ChronoUnit.MINUTES)) ? minute : minute + 1;
+    }
+
+    private void track(Reminder reminder) {
+        studentIdOf(reminder).ifPresent(id ->
+                derivedByStudent.computeIfAbsent(id, unused -> new HashSet<>()).add((UnmodifiableReminder) reminder));
+    }
+
+    private void untrack(Reminder reminder) {
+        studentIdOf(reminder).ifPresent(id -> {
+            Set<UnmodifiableReminder> derived = derivedByStudent.get(id);
+            if (derived != null && derived.remove(reminder) && derived.isEmpty()) {
+                derivedByStudent.remove(id);
+            }
+        });
+    }
+
+    private void retrack() {
+        derivedByStudent.clear();
+        internalList.forEach(this::track);
+    }
+
+    /**
+     * Returns the id of the student {@code reminder} was derived from, if it is a derived reminder that records it.
+     */
+    private static Optional<StudentId> studentIdOf(Reminder reminder) {
+        return reminder instanceof UnmodifiableReminder
+                ? ((UnmodifiableReminder) reminder).getStudentId()
+                : Optional.empty();
+    }
+
     /**
      * Returns true if {@code reminders} contains only unique reminders.
      */
     private boolean remindersAreUnique(List<Reminder> reminders) {
-        for (int i = 0; i < reminders.size() - 1; i++) {
-            for (int j = i + 1; j < reminders.size(); j++) {
-                if (reminders.get(i).equals(reminders.get(j))) {
-                    return false;
-                }
+        Set<Reminder> seen = new HashSet<>();
+        for (Reminder reminder : reminders) {
+            if (!seen.add(reminder)) {
+                return false;
             }
         }
         return true;
@@ -176,6 +352,12 @@ public class UniqueReminderList implements Iterable<Reminder> {
      * @return A list of UnmodifiableHwReminder instances for undone homework.
      */
     public static List<UnmodifiableHwReminder> createHomeworkReminder(Person person) {
+        LocalDate today = LocalDate.now();
+        // the history of a student with no homework due soon is left in storage
+        if (person.getUndoneHomeworkDeadlines().stream()
+                .noneMatch(deadline -> !deadline.isBefore(today) && !deadline.isAfter(today.plusDays(2)))) {
+            return List.of();
+        }
         return person.getHomeworkList().stream()
                 .filter(homework -> !homework.isDone())
                 .map(homework -> UnmodifiableHwReminder.of(person, homework))
@@ -183,4 +365,18 @@ public class UniqueReminderList implements Iterable<Reminder> {
                         -> homework.daysUntilDueDate() <= 1 && homework.daysUntilDueDate() >= 0)
                 .toList();
     }
+
+    /**
+     * Returns the first epoch minute after {@code afterMinute} at which the homework reminders
+     * {@link #createHomeworkReminder(Person)} gives for {@code person} will be different, i.e. when a homework comes
+     * within 1 day of its deadline or its deadline passes, or an empty result if that will not happen.
+     */
+    public static OptionalLong nextHomeworkReminderChange(Person person, long afterMinute) {
+        return person.getUndoneHomeworkDeadlines().stream()
+                .mapToLong(deadline -> DueDate.epochMinuteOf(deadline.atStartOfDay()))
+                // each minute is the first whole minute after the change, so the change has surely happened
+                .flatMap(due -> LongStream.of(due - HOMEWORK_REMINDER_MINUTES + 1, due + 1))
+                .filter(minute -> minute > afterMinute)
+                .min();
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.reminder;
 
 import seedu.address.model.homework.Homework;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * Represents an unmodifiable homework reminder in the address book.
@@ -19,9 +20,10 @@ public class UnmodifiableHwReminder extends UnmodifiableReminder {
      *
      * @param dueDate     The due date of the reminder.
      * @param description The description of the reminder.
+     * @param studentId   The id of the student the reminder is for, or null if not known.
      */
-    private UnmodifiableHwReminder(DueDate dueDate, Description description) {
-        super(dueDate, description);
+    private UnmodifiableHwReminder(DueDate dueDate, Description description, StudentId studentId) {
+        super(dueDate, description, studentId);
     }
 
     /**
@@ -34,14 +36,14 @@ public class UnmodifiableHwReminder extends UnmodifiableReminder {
     public static UnmodifiableHwReminder of(Person person, Homework homework) {
         DueDate dueDate = new DueDate(homework.getDeadline().format(DueDate.VALID_INPUT_DATE_FORMAT));
         Description description = parseDescription(person, homework);
-        return new UnmodifiableHwReminder(dueDate, description);
+        return new UnmodifiableHwReminder(dueDate, description, person.getId());
     }
 
     /**
      * Creates an unmodifiable reminder with the specified due date and description.
      */
     public static UnmodifiableHwReminder of(DueDate dueDate, Description description) {
-        return new UnmodifiableHwReminder(dueDate, description);
+        return new UnmodifiableHwReminder(dueDate, description, null);
     }
 
     /**
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * Represents an unmodifiable payment reminder in the address book.
@@ -21,9 +22,10 @@ public class UnmodifiablePaymentReminder extends UnmodifiableReminder {
      *
      * @param dueDate     The due date of the reminder.
      * @param description The description of the reminder.
+     * @param studentId   The id of the student the reminder is for, or null if not known.
      */
-    private UnmodifiablePaymentReminder(DueDate dueDate, Description description) {
-        super(dueDate, description);
+    private UnmodifiablePaymentReminder(DueDate dueDate, Description description, StudentId studentId) {
+        super(dueDate, description, studentId);
     }
 
     /**
@@ -37,14 +39,14 @@ public class UnmodifiablePaymentReminder extends UnmodifiableReminder {
     public static UnmodifiablePaymentReminder of(int month, Person personToUpdate, String monthName) {
         DueDate dueDate = parseDueDate(month);
         Description description = parseDescription(personToUpdate, monthName);
-        return new UnmodifiablePaymentReminder(dueDate, description);
+        return new UnmodifiablePaymentReminder(dueDate, description, personToUpdate.getId());
     }
 
     /**
      * Creates an unmodifiable reminder with the specified due date and description.
      */
     public static UnmodifiablePaymentReminder of(DueDate dueDate, Description description) {
-        return new UnmodifiablePaymentReminder(dueDate, description);
+        return new UnmodifiablePaymentReminder(dueDate, description, null);
     }
 
     /**
@@ -1,20 +1,35 @@
 package seedu.address.model.reminder;
 
 import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.person.StudentId;
 
 /**
  * Represents an unmodifiable reminder in the reminder list.
  * An unmodifiable reminder cannot be changed or deleted once created.
  */
 public abstract class UnmodifiableReminder extends Reminder {
+    private final StudentId studentId;
+
     /**
      * Constructs a {@code UnmodifiableReminder} with the given due date and description.
      *
      * @param dueDate     The due date of the reminder.
      * @param description The description of the reminder.
+     * @param studentId   The id of the student the reminder was derived from, or null if not known.
      */
-    protected UnmodifiableReminder(DueDate dueDate, Description description) {
+    protected UnmodifiableReminder(DueDate dueDate, Description description, StudentId studentId) {
         super(dueDate, description);
+        this.studentId = studentId;
+    }
+
+    /**
+     * Returns the id of the student this reminder was derived from. Reminders read from storage do not
+     * record it, and are derived again from the students when loaded.
+     */
+    public Optional<StudentId> getStudentId() {
+        return Optional.ofNullable(studentId);
     }
 
     /**
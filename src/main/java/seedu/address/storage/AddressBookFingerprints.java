@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import java.util.BitSet;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.LessonTime;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * 64-bit FNV-1a fingerprints of the parts of an address book that are saved, used by storages to detect
+ * which parts changed since the last save without keeping a copy of the saved data.
+ */
+final class AddressBookFingerprints {
+
+    static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private AddressBookFingerprints() {}
+
+    /**
+     * Returns the fingerprint of everything saved for {@code person}.
+     */
+    static long ofPerson(Person person) {
+        long h = FNV_OFFSET_BASIS;
+        h = mix(h, person.getName().fullName);
+        h = mix(h, person.getPhone().value);
+        // lesson times are kept in a HashSet, so combine them independently of iteration order
+        long lessonTimes = 0;
+        for (LessonTime lt : person.getLessonTime()) {
+            lessonTimes += mix(FNV_OFFSET_BASIS, lt.toInputString());
+        }
+        h = mix(h, lessonTimes);
+        BitSet paymentStatus = person.getPaymentStatusBitSet();
+        for (long word : paymentStatus.toLongArray()) {
+            h = mix(h, word);
+        }
+        for (Homework hw : person.getHomeworkList()) {
+            h = mix(h, hw.getDescription());
+            h = mix(h, hw.getDeadline().toEpochDay());
+            h = mix(h, hw.isDone() ? 1 : 0);
+        }
+        for (ParticipationRecord record : person.getParticipation().asList()) {
+            h = mix(h, record.getDate().toEpochDay());
+            h = mix(h, record.getScore());
+        }
+        return h;
+    }
+
+    /**
+     * Returns the fingerprint of the groups of {@code addressBook} and their members.
+     */
+    static long ofGroups(ReadOnlyAddressBook addressBook) {
+        long h = FNV_OFFSET_BASIS;
+        for (Group group : addressBook.getGroups()) {
+            h = mix(h, group.getName().toString());
+            long members = 0;
+            for (int member : group.getMembers().stream().toArray()) {
+                members += mix(FNV_OFFSET_BASIS, member);
+            }
+            h = mix(h, members);
+        }
+        return h;
+    }
+
+    /**
+     * Returns the fingerprint of the reminders of {@code addressBook} that are saved.
+     */
+    static long ofReminders(ReadOnlyAddressBook addressBook) {
+        long h = FNV_OFFSET_BASIS;
+        for (Reminder reminder : JsonSerializableAddressBook.getPersistedReminders(addressBook)) {
+            h = mix(h, reminder.getDueDate().toInputString());
+            h = mix(h, reminder.getDescription().toString());
+        }
+        return h;
+    }
+
+    /**
+     * Returns {@code h} updated with the characters of {@code s}.
+     */
+    static long mix(long h, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * FNV_PRIME;
+        }
+        // terminate each field so that ("ab", "c") and ("a", "bc") differ
+        return (h ^ 0xff) * FNV_PRIME;
+    }
+
+    /**
+     * Returns {@code h} updated with the bytes of {@code value}.
+     */
+    static long mix(long h, long value) {
+        for (int i = 0; i < 8; i++) {
+            h = (h ^ (value & 0xff)) * FNV_PRIME;
+            value >>>= 8;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * A frozen copy of an address book that can be written out on another thread.
+ * <p>
+ * Students are mutated in place by several commands (homework, payment and participation), so the copy
+ * holds copies of the students rather than sharing them with the live model. Nothing changes those copies, so a
+ * student whose modification stamp has not moved since the previous snapshot reuses the copy made then, and each
+ * snapshot only copies the students that changed. Groups and reminders are immutable and are shared.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Group> groups;
+    private final ObservableList<Reminder> reminders;
+
+    private AddressBookSnapshot(List<Person> persons, List<Group> groups, List<Reminder> reminders) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.groups = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(groups));
+        this.reminders = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(reminders));
+    }
+
+    /**
+     * Returns a copy of {@code source} that is not affected by later changes to {@code source}.
+     * The copies of the students are taken from {@code copies}, which should be passed to every snapshot of the
+     * same address book.
+     */
+    static AddressBookSnapshot of(ReadOnlyAddressBook source, StampedPersonCache<Person> copies) {
+        List<Person> persons = new ArrayList<>(source.getPersonList().size());
+        for (Person person : source.getPersonList()) {
+            persons.add(copies.get(person));
+        }
+        copies.evictUnused();
+
+        // groups are immutable, so they are shared with the source
+        List<Group> groups = new ArrayList<>(source.getGroups());
+
+        return new AddressBookSnapshot(persons, groups, new ArrayList<>(source.getReminderList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Group> getGroups() {
+        return groups;
+    }
+
+    @Override
+    public ObservableList<Reminder> getReminderList() {
+        return reminders;
+    }
+}
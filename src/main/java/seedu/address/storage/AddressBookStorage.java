@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits for any data this storage is still writing in the background to be written.
+     *
+     * @throws IOException if a write made in the background failed.
+     */
+    default void flush() throws IOException {
+    }
+
 }
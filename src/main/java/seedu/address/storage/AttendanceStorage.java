@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.attendance.AttendanceLoader;
+
+/**
+ * Represents a storage for the attendance in {@link AttendanceIndex}, kept separately for each year.
+ */
+public interface AttendanceStorage {
+
+    /**
+     * Returns the directory holding the attendance data.
+     */
+    Path getAttendanceDirectoryPath();
+
+    /**
+     * Returns a loader that reads each year of attendance from storage when it is first needed.
+     */
+    AttendanceLoader readAttendance();
+
+    /**
+     * Saves the years of {@code attendance} that changed since they were last saved, and marks them as saved.
+     * @param attendance cannot be null.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveAttendance(AttendanceIndex attendance) throws IOException;
+
+}
@@ -0,0 +1,578 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.LessonTime;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetailsLoader;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by three dictionaries
+ * (lesson times, homework descriptions and monthly payment bitmaps) and then the students, groups and
+ * reminders. Students refer to dictionary entries by index, and all integers are varints.
+ * Each student record consists of a header (name, phone, student id, lesson times and payment bitmap) followed
+ * by a length-prefixed block holding the student's homework and participation history, so that a reader can
+ * skip the history without decoding it. The payment bitmaps are the legacy per-student payment months, which
+ * are only kept until they are migrated into the separately saved payment ledger. Files of version 1 have no
+ * student ids; their students are given new ids when loaded.
+ * <p>
+ * Records are decoded into the same adapted objects as the JSON format, so both formats apply exactly
+ * the same validation when loading.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_BINARY = "Not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Data file format version %d is newer than the supported version %d.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Data file refers to a missing %s entry.";
+
+    static final byte[] MAGIC = {'C', 'C', 'A', 'B'};
+    static final int FORMAT_VERSION = 2;
+    static final int FIRST_VERSION_WITH_IDS = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int MONTHS = 12;
+    private static final int NO_MEMBER_INDEX = 0;
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        JsonSerializableAddressBook adapted;
+        try {
+            BinaryRecordReader reader = new BinaryRecordReader(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+            int version = readHeader(reader);
+            adapted = decode(reader, version);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        try {
+            return Optional.of(adapted.toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is written to a temporary file first, so an interrupted save leaves the old file intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Channels.newOutputStream(FileChannel.open(tempFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)))) {
+            BinaryRecordWriter writer = new BinaryRecordWriter(out);
+            writer.writeBytes(MAGIC, 0, MAGIC.length);
+            writer.writeVarInt(FORMAT_VERSION);
+            encode(addressBook, writer);
+        }
+        FileUtil.moveReplacing(tempFile, filePath);
+    }
+
+    /**
+     * Returns true if {@code file} starts with the binary address book header.
+     */
+    public static boolean isBinaryFile(Path file) throws IOException {
+        requireNonNull(file);
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(MAGIC.length);
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // keep reading until the header is filled or the file ends
+            }
+            return !header.hasRemaining() && Arrays.equals(header.array(), MAGIC);
+        }
+    }
+
+    /**
+     * Converts the JSON address book at {@code jsonFile}, including any journal written by
+     * {@link JournaledAddressBookStorage}, into a binary snapshot at {@code binaryFile}.
+     * If both are the same file, the JSON data is kept next to it in a file named with {@code .bak} appended
+     * (e.g. {@code addressbook.json.bak}), and the journal is removed once the snapshot has been written.
+     *
+     * @return false if there is no JSON data to convert.
+     * @throws DataLoadingException if the JSON data could not be loaded.
+     */
+    public static boolean convertFromJson(Path jsonFile, Path binaryFile) throws DataLoadingException, IOException {
+        requireNonNull(jsonFile);
+        requireNonNull(binaryFile);
+
+        Optional<ReadOnlyAddressBook> data = new JournaledAddressBookStorage(jsonFile).readAddressBook();
+        if (data.isEmpty()) {
+            return false;
+        }
+
+        boolean isInPlace = jsonFile.toAbsolutePath().normalize().equals(binaryFile.toAbsolutePath().normalize());
+        if (isInPlace) {
+            Path backup = jsonFile.resolveSibling(jsonFile.getFileName() + ".bak");
+            new JsonAddressBookStorage(backup).saveAddressBook(data.get());
+        }
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(data.get());
+        if (isInPlace) {
+            JournaledAddressBookStorage.deleteJournal(jsonFile);
+        }
+        logger.info("Converted " + jsonFile + " to binary file " + binaryFile);
+        return true;
+    }
+
+    //// encoding
+
+    private static void encode(ReadOnlyAddressBook addressBook, BinaryRecordWriter writer) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> lessonTimes = new LinkedHashMap<>();
+        Map<String, Integer> descriptions = new LinkedHashMap<>();
+        Map<Integer, Integer> paymentBitmaps = new LinkedHashMap<>();
+        // the history of students that were never loaded is copied from the file it was read from
+        EncodedDetailsLoader[] encodedDetails = new EncodedDetailsLoader[persons.size()];
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            for (LessonTime lessonTime : person.getLessonTime()) {
+                lessonTimes.putIfAbsent(lessonTime.toInputString(), lessonTimes.size());
+            }
+            encodedDetails[i] = encodedDetailsOf(person, descriptions);
+            if (encodedDetails[i] == null) {
+                for (Homework hw : person.getHomeworkList()) {
+                    descriptions.putIfAbsent(hw.getDescription(), descriptions.size());
+                }
+            }
+            paymentBitmaps.putIfAbsent(paymentBitmapOf(person), paymentBitmaps.size());
+        }
+
+        writer.writeVarInt(lessonTimes.size());
+        for (String lessonTime : lessonTimes.keySet()) {
+            writer.writeString(lessonTime);
+        }
+        writer.writeVarInt(descriptions.size());
+        for (String description : descriptions.keySet()) {
+            writer.writeString(description);
+        }
+        writer.writeVarInt(paymentBitmaps.size());
+        for (int bitmap : paymentBitmaps.keySet()) {
+            writer.writeVarInt(bitmap);
+        }
+
+        Map<StudentId, Integer> personIndex = new HashMap<>();
+        ByteArrayOutputStream details = new ByteArrayOutputStream();
+        BinaryRecordWriter detailWriter = new BinaryRecordWriter(details);
+        writer.writeVarInt(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            personIndex.put(person.getId(), personIndex.size());
+            writer.writeString(person.getName().fullName);
+            writer.writeString(person.getPhone().value);
+            writer.writeVarInt(person.getId().value);
+            writer.writeVarInt(person.getLessonTime().size());
+            for (LessonTime lessonTime : person.getLessonTime()) {
+                writer.writeVarInt(lessonTimes.get(lessonTime.toInputString()));
+            }
+            writer.writeVarInt(paymentBitmaps.get(paymentBitmapOf(person)));
+
+            details.reset();
+            if (encodedDetails[i] != null) {
+                copyDetails(encodedDetails[i], descriptions, detailWriter);
+            } else {
+                writeDetails(person, descriptions, detailWriter);
+            }
+            writer.writeVarInt(details.size());
+            writer.writeBytes(details.toByteArray(), 0, details.size());
+        }
+
+        writer.writeVarInt(addressBook.getGroups().size());
+        for (Group group : addressBook.getGroups()) {
+            writer.writeString(group.getName().toString());
+            // members are written as the positions of their records, so they are resolved by name when read
+            int[] memberIndices = group.getMembers().stream()
+                    .mapToObj(id -> personIndex.get(StudentId.keyOf(id)))
+                    .filter(Objects::nonNull)
+                    .mapToInt(index -> index + 1)
+                    .toArray();
+            writer.writeVarInt(memberIndices.length);
+            for (int index : memberIndices) {
+                writer.writeVarInt(index);
+            }
+        }
+
+        List<Reminder> reminders = JsonSerializableAddressBook.getPersistedReminders(addressBook);
+        writer.writeVarInt(reminders.size());
+        for (Reminder reminder : reminders) {
+            JsonAdaptedReminder adapted = new JsonAdaptedReminder(reminder);
+            writer.writeString(adapted.getDueDate());
+            writer.writeString(adapted.getDescription());
+            writer.writeByte(adapted.isModifiable() ? 1 : 0);
+        }
+    }
+
+    private static void writeDetails(Person person, Map<String, Integer> descriptions, BinaryRecordWriter writer)
+            throws IOException {
+        List<Homework> homeworks = person.getHomeworkList();
+        writer.writeVarInt(homeworks.size());
+        for (Homework hw : homeworks) {
+            writer.writeVarInt(descriptions.get(hw.getDescription()));
+            writer.writeSignedVarLong(hw.getDeadline().toEpochDay());
+            writer.writeByte(hw.isDone() ? 1 : 0);
+        }
+        List<ParticipationRecord> participation = person.getParticipation().asList();
+        writer.writeVarInt(participation.size());
+        for (ParticipationRecord record : participation) {
+            writer.writeSignedVarLong(record.getDate().toEpochDay());
+            writer.writeVarInt(record.getScore());
+        }
+    }
+
+    /**
+     * Returns the loader of the person's history if it has not been loaded and can be copied from the file it
+     * was read from, after adding the homework descriptions it refers to to {@code descriptions}.
+     * Returns null if the history has to be written from the person instead.
+     */
+    private static EncodedDetailsLoader encodedDetailsOf(Person person, Map<String, Integer> descriptions) {
+        Optional<EncodedDetailsLoader> loader = person.getPendingDetails()
+                .filter(EncodedDetailsLoader.class::isInstance)
+                .map(EncodedDetailsLoader.class::cast);
+        if (loader.isEmpty()) {
+            return null;
+        }
+
+        List<String> used = new ArrayList<>();
+        try {
+            BinaryRecordReader reader = loader.get().openDetails();
+            Dictionaries dictionaries = loader.get().getDictionaries();
+            int homeworkCount = reader.readCount(3);
+            for (int j = 0; j < homeworkCount; j++) {
+                used.add(lookup(dictionaries.descriptions, reader.readVarInt(), "homework description"));
+                reader.readSignedVarLong();
+                reader.readByte();
+            }
+        } catch (IOException ioe) {
+            // the loader reports the unreadable history when the person is written from its loaded data
+            return null;
+        }
+        used.forEach(description -> descriptions.putIfAbsent(description, descriptions.size()));
+        return loader.get();
+    }
+
+    /**
+     * Copies a history block from the file {@code source} was read from, renumbering its homework descriptions
+     * to their positions in {@code descriptions}.
+     */
+    private static void copyDetails(EncodedDetailsLoader source, Map<String, Integer> descriptions,
+                                    BinaryRecordWriter writer) throws IOException {
+        BinaryRecordReader reader = source.openDetails();
+        List<String> sourceDescriptions = source.getDictionaries().descriptions;
+        int homeworkCount = reader.readCount(3);
+        writer.writeVarInt(homeworkCount);
+        for (int j = 0; j < homeworkCount; j++) {
+            writer.writeVarInt(descriptions.get(sourceDescriptions.get(reader.readVarInt())));
+            writer.writeSignedVarLong(reader.readSignedVarLong());
+            writer.writeByte(reader.readByte());
+        }
+        int participationCount = reader.readCount(2);
+        writer.writeVarInt(participationCount);
+        for (int j = 0; j < participationCount; j++) {
+            writer.writeSignedVarLong(reader.readSignedVarLong());
+            writer.writeVarInt(reader.readVarInt());
+        }
+    }
+
+    /**
+     * Returns the person's legacy payment months as a 12-bit bitmap. Payments of every year are kept in the
+     * {@code PaymentLedger}, which is saved to its own file; this field only holds payments that have not yet
+     * been migrated into the ledger, so a single year of months is enough.
+     */
+    private static int paymentBitmapOf(Person person) {
+        long[] words = person.getPaymentStatusBitSet().toLongArray();
+        return words.length == 0 ? 0 : (int) (words[0] & ((1 << MONTHS) - 1));
+    }
+
+    //// decoding
+
+    /**
+     * Reads the magic number and format version, and returns the version.
+     */
+    static int readHeader(BinaryRecordReader reader) throws IOException {
+        for (byte b : MAGIC) {
+            if (reader.readByte() != (b & 0xFF)) {
+                throw new IOException(MESSAGE_NOT_BINARY);
+            }
+        }
+        int version = reader.readVarInt();
+        if (version > FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version, FORMAT_VERSION));
+        }
+        return version;
+    }
+
+    private static JsonSerializableAddressBook decode(BinaryRecordReader reader, int version) throws IOException {
+        Dictionaries dictionaries = Dictionaries.read(reader);
+
+        int personCount = reader.readCount(1);
+        List<JsonAdaptedPerson> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            PersonHeader header = PersonHeader.read(reader, dictionaries, version);
+            int detailsLength = reader.readVarInt();
+            int detailsEnd = reader.position() + detailsLength;
+            List<JsonAdaptedHomework> homeworks = new ArrayList<>();
+            List<JsonAdaptedParticipationRecord> participation = new ArrayList<>();
+            readDetails(reader, dictionaries, homeworks, participation);
+            // skip anything a newer minor revision may have appended to the block
+            reader.position(detailsEnd);
+            persons.add(header.toAdapted(homeworks, participation));
+        }
+
+        List<String> names = persons.stream().map(JsonAdaptedPerson::getName).toList();
+        return new JsonSerializableAddressBook(persons, readGroups(reader, names), readReminders(reader));
+    }
+
+    /**
+     * Reads the homework and participation history of one student, which starts at the reader's position.
+     */
+    static void readDetails(BinaryRecordReader reader, Dictionaries dictionaries,
+                            List<JsonAdaptedHomework> homeworks, List<JsonAdaptedParticipationRecord> participation)
+            throws IOException {
+        int homeworkCount = reader.readCount(3);
+        for (int j = 0; j < homeworkCount; j++) {
+            String description = lookup(dictionaries.descriptions, reader.readVarInt(), "homework description");
+            LocalDate deadline = LocalDate.ofEpochDay(reader.readSignedVarLong());
+            boolean isDone = reader.readByte() != 0;
+            homeworks.add(new JsonAdaptedHomework(description, deadline.toString(), isDone));
+        }
+        int participationCount = reader.readCount(2);
+        for (int j = 0; j < participationCount; j++) {
+            LocalDate date = LocalDate.ofEpochDay(reader.readSignedVarLong());
+            participation.add(new JsonAdaptedParticipationRecord(date.toString(), reader.readVarInt()));
+        }
+    }
+
+    /**
+     * Returns the deadlines of the undone homework in the history block at the reader's position, without
+     * decoding the rest of the block.
+     */
+    static List<LocalDate> readUndoneDeadlines(BinaryRecordReader reader) throws IOException {
+        int homeworkCount = reader.readCount(3);
+        List<LocalDate> deadlines = new ArrayList<>();
+        for (int j = 0; j < homeworkCount; j++) {
+            reader.readVarInt();
+            long deadline = reader.readSignedVarLong();
+            if (reader.readByte() == 0) {
+                deadlines.add(LocalDate.ofEpochDay(deadline));
+            }
+        }
+        return deadlines;
+    }
+
+    /**
+     * Reads the groups section, resolving member references against the names of the students in file order.
+     */
+    static List<JsonAdaptedGroup> readGroups(BinaryRecordReader reader, List<String> personNames)
+            throws IOException {
+        int groupCount = reader.readCount(1);
+        List<JsonAdaptedGroup> groups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            String name = reader.readString();
+            int memberCount = reader.readCount(1);
+            List<String> members = new ArrayList<>(memberCount);
+            for (int j = 0; j < memberCount; j++) {
+                int index = reader.readVarInt();
+                members.add(index == NO_MEMBER_INDEX
+                        ? reader.readString()
+                        : lookup(personNames, index - 1, "student"));
+            }
+            groups.add(new JsonAdaptedGroup(name, members));
+        }
+        return groups;
+    }
+
+    static List<JsonAdaptedReminder> readReminders(BinaryRecordReader reader) throws IOException {
+        int reminderCount = reader.readCount(3);
+        List<JsonAdaptedReminder> reminders = new ArrayList<>(reminderCount);
+        for (int i = 0; i < reminderCount; i++) {
+            String dueDate = reader.readString();
+            String description = reader.readString();
+            boolean isModifiable = reader.readByte() != 0;
+            reminders.add(new JsonAdaptedReminder(dueDate, description, isModifiable));
+        }
+        return reminders;
+    }
+
+    private static String paymentStatusOf(int bitmap) {
+        char[] months = new char[MONTHS];
+        for (int i = 0; i < MONTHS; i++) {
+            months[i] = (bitmap & (1 << i)) != 0 ? '1' : '0';
+        }
+        return new String(months);
+    }
+
+    private static <T> T lookup(List<T> dictionary, int index, String kind) throws IOException {
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IOException(String.format(MESSAGE_INVALID_REFERENCE, kind));
+        }
+        return dictionary.get(index);
+    }
+
+    /**
+     * A {@code PersonDetailsLoader} that reads a student's history block from a binary file, so that saving the
+     * student can copy the block instead of loading it.
+     */
+    interface EncodedDetailsLoader extends PersonDetailsLoader {
+
+        /**
+         * Returns a new reader positioned at the start of the student's history block.
+         */
+        BinaryRecordReader openDetails();
+
+        /**
+         * Returns the dictionaries of the file the history block is in.
+         */
+        Dictionaries getDictionaries();
+    }
+
+    /**
+     * The dictionaries at the start of a binary file, already decoded.
+     */
+    static class Dictionaries {
+        private final List<JsonAdaptedLessonTime> lessonTimes;
+        private final List<String> descriptions;
+        private final List<String> paymentStatuses;
+
+        private Dictionaries(List<JsonAdaptedLessonTime> lessonTimes, List<String> descriptions,
+                             List<String> paymentStatuses) {
+            this.lessonTimes = lessonTimes;
+            this.descriptions = descriptions;
+            this.paymentStatuses = paymentStatuses;
+        }
+
+        static Dictionaries read(BinaryRecordReader reader) throws IOException {
+            int lessonTimeCount = reader.readCount(1);
+            List<JsonAdaptedLessonTime> lessonTimes = new ArrayList<>(lessonTimeCount);
+            for (int i = 0; i < lessonTimeCount; i++) {
+                lessonTimes.add(new JsonAdaptedLessonTime(reader.readString()));
+            }
+            int descriptionCount = reader.readCount(1);
+            List<String> descriptions = new ArrayList<>(descriptionCount);
+            for (int i = 0; i < descriptionCount; i++) {
+                descriptions.add(reader.readString());
+            }
+            int bitmapCount = reader.readCount(1);
+            List<String> paymentStatuses = new ArrayList<>(bitmapCount);
+            for (int i = 0; i < bitmapCount; i++) {
+                paymentStatuses.add(paymentStatusOf(reader.readVarInt()));
+            }
+            return new Dictionaries(lessonTimes, descriptions, paymentStatuses);
+        }
+    }
+
+    /**
+     * The part of a student record that precedes the history block: name, phone, id, lesson times and payments.
+     */
+    static class PersonHeader {
+        private final String name;
+        private final String phone;
+        private final Integer id;
+        private final List<JsonAdaptedLessonTime> lessonTimes;
+        private final String paymentStatus;
+
+        private PersonHeader(String name, String phone, Integer id, List<JsonAdaptedLessonTime> lessonTimes,
+                             String paymentStatus) {
+            this.name = name;
+            this.phone = phone;
+            this.id = id;
+            this.lessonTimes = lessonTimes;
+            this.paymentStatus = paymentStatus;
+        }
+
+        static PersonHeader read(BinaryRecordReader reader, Dictionaries dictionaries, int version)
+                throws IOException {
+            String name = reader.readString();
+            String phone = reader.readString();
+            Integer id = version >= FIRST_VERSION_WITH_IDS ? reader.readVarInt() : null;
+            int lessonTimeCount = reader.readCount(1);
+            List<JsonAdaptedLessonTime> lessonTimes = new ArrayList<>(lessonTimeCount);
+            for (int j = 0; j < lessonTimeCount; j++) {
+                lessonTimes.add(lookup(dictionaries.lessonTimes, reader.readVarInt(), "lesson time"));
+            }
+            String paymentStatus = lookup(dictionaries.paymentStatuses, reader.readVarInt(), "payment status");
+            return new PersonHeader(name, phone, id, lessonTimes, paymentStatus);
+        }
+
+        JsonAdaptedPerson toAdapted(List<JsonAdaptedHomework> homeworks,
+                                    List<JsonAdaptedParticipationRecord> participation) {
+            return new JsonAdaptedPerson(id, name, phone, lessonTimes, homeworks, paymentStatus, participation);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the values written by {@link BinaryRecordWriter} from a {@code ByteBuffer}.
+ */
+class BinaryRecordReader {
+
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final ByteBuffer buffer;
+
+    BinaryRecordReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    int position() {
+        return buffer.position();
+    }
+
+    void position(int newPosition) throws IOException {
+        if (newPosition < 0 || newPosition > buffer.limit()) {
+            throw new EOFException("Record extends past the end of the file");
+        }
+        buffer.position(newPosition);
+    }
+
+    int readByte() throws IOException {
+        ensureRemaining(1);
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * Reads a varint that must fit in a non-negative int.
+     */
+    int readVarInt() throws IOException {
+        long value = readVarLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Value out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    long readVarLong() throws IOException {
+        long value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    long readSignedVarLong() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    String readString() throws IOException {
+        int length = readVarInt();
+        ensureRemaining(length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count that prefixes {@code minBytesPerItem}-byte items, rejecting counts the remaining data
+     * cannot hold so that a corrupt count does not cause a huge allocation.
+     */
+    int readCount(int minBytesPerItem) throws IOException {
+        int count = readVarInt();
+        if ((long) count * minBytesPerItem > buffer.remaining()) {
+            throw new EOFException("Count " + count + " exceeds the remaining data");
+        }
+        return count;
+    }
+
+    private void ensureRemaining(int length) throws IOException {
+        if (buffer.remaining() < length) {
+            throw new EOFException("Unexpected end of file");
+        }
+    }
+}
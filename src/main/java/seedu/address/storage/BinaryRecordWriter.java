@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the primitive values used by the binary address book format.
+ * Integers are written as unsigned LEB128 varints, so small values take a single byte.
+ */
+class BinaryRecordWriter {
+
+    private final OutputStream out;
+
+    BinaryRecordWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    void writeByte(int value) throws IOException {
+        out.write(value);
+    }
+
+    void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+        out.write(bytes, offset, length);
+    }
+
+    /**
+     * Writes a non-negative int as a varint.
+     */
+    void writeVarInt(int value) throws IOException {
+        assert value >= 0 : "varints are unsigned";
+        writeVarLong(value);
+    }
+
+    /**
+     * Writes {@code value} as an unsigned varint.
+     */
+    void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Writes a possibly negative long as a zigzag-encoded varint, so values close to zero stay short.
+     */
+    void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes {@code value} as its UTF-8 byte length followed by the bytes.
+     */
+    void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+}
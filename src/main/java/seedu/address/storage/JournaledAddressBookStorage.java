@@ -0,0 +1,453 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * Every save compares the address book against the last persisted state and appends a single
+ * {@link JsonAdaptedJournalEntry} line containing only the students that were added, changed or removed
+ * (and the group/reminder lists if those changed) to the journal, so the cost of a save scales with the
+ * size of the change rather than the size of the address book.
+ * Once the journal grows past a fraction of the snapshot size, a new snapshot is written in the background
+ * and the journal segments it supersedes are deleted. If that write fails, the old snapshot and segments still
+ * hold the data, and the failure is reported by the next save or {@link #flush()}. On startup the journal
+ * segments are replayed over the last snapshot.
+ * <p>
+ * The snapshot uses the same format as {@link JsonAddressBookStorage}. Journal segments are stored next to
+ * it as {@code <data file name>.journal.<segment number>}, one entry per line.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Journals smaller than this are never compacted, regardless of the snapshot size. */
+    static final long MIN_COMPACTION_THRESHOLD_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String JOURNAL_SUFFIX = ".journal.";
+
+    private final Path filePath;
+    private final long minCompactionThresholdBytes;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "addressbook-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // State of the data as last persisted to filePath; only accessed by the thread that saves.
+    private boolean hasBaseline = false;
+    private Map<String, Long> personFingerprints = new LinkedHashMap<>();
+    private final StampedPersonCache<Long> fingerprintCache =
+            new StampedPersonCache<>(AddressBookFingerprints::ofPerson);
+    private long groupsFingerprint;
+    private long remindersFingerprint;
+    private int activeSegment = 0;
+    private long journalBytes = 0;
+    private volatile long snapshotBytes = 0;
+    private Future<?> pendingCompaction;
+    // Copies of the students in the latest background snapshot; only used by the thread that saves.
+    private final StampedPersonCache<Person> snapshotCopies = new StampedPersonCache<>(Person::deepCopy);
+    // Serialized students of the latest snapshot written; used by one snapshot write at a time.
+    private final StampedPersonCache<RawValue> personCache =
+            new StampedPersonCache<>(JsonSerializableAddressBook.toPersonFragment(false));
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, MIN_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a journaled storage that does not compact journals smaller than {@code minCompactionThresholdBytes}.
+     */
+    JournaledAddressBookStorage(Path filePath, long minCompactionThresholdBytes) {
+        this.filePath = filePath;
+        this.minCompactionThresholdBytes = minCompactionThresholdBytes;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Loads the snapshot at {@code filePath} and replays any journal segments found next to it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        List<Integer> segments;
+        try {
+            segments = listSegments(filePath);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        ReadOnlyAddressBook addressBook;
+        if (segments.isEmpty()) {
+            // Nothing to replay, so the snapshot can be streamed straight into the model.
+            Optional<ReadOnlyAddressBook> snapshot = new JsonAddressBookStorage(filePath).readAddressBook();
+            if (snapshot.isEmpty()) {
+                return Optional.empty();
+            }
+            addressBook = snapshot.get();
+        } else {
+            addressBook = replay(filePath, segments);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // Start a fresh segment so that new entries never follow a torn line.
+            activeSegment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1) + 1;
+            journalBytes = sizeOfSegments(filePath, segments);
+            snapshotBytes = sizeOf(filePath);
+            recordBaseline(addressBook);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Loads the snapshot at {@code filePath}, if any, and applies the given journal segments to it in order.
+     */
+    private ReadOnlyAddressBook replay(Path filePath, List<Integer> segments) throws DataLoadingException {
+        Optional<JsonSerializableAddressBook> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<JsonAdaptedGroup> groups = new ArrayList<>();
+        List<JsonAdaptedReminder> reminders = new ArrayList<>();
+        snapshot.ifPresent(s -> {
+            persons.addAll(s.getPersons());
+            groups.addAll(s.getGroups());
+            reminders.addAll(s.getReminders());
+        });
+
+        for (int i = 0; i < segments.size(); i++) {
+            boolean isLastSegment = i == segments.size() - 1;
+            replaySegment(segmentPath(filePath, segments.get(i)), isLastSegment, persons, groups, reminders);
+        }
+
+        try {
+            return new JsonSerializableAddressBook(persons, groups, reminders).toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's own file path always writes a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        throwFailedCompaction();
+
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.createIfMissing(filePath);
+            JsonSerializableAddressBook.writeModel(addressBook, filePath, false);
+            return;
+        }
+
+        if (!hasBaseline) {
+            compactNow(addressBook);
+            return;
+        }
+
+        Optional<JsonAdaptedJournalEntry> entry = diffAgainstBaseline(addressBook);
+        if (entry.isEmpty()) {
+            // The order of the students changed in a way a journal entry cannot express.
+            compactNow(addressBook);
+            return;
+        }
+        if (entry.get().isEmpty()) {
+            return;
+        }
+
+        byte[] line = (JsonUtil.toCompactJsonString(entry.get()) + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8);
+        Path segment = segmentPath(filePath, activeSegment);
+        FileUtil.createParentDirsOfFile(segment);
+        Files.write(segment, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalBytes += line.length;
+        recordBaseline(addressBook);
+
+        if (journalBytes > Math.max(minCompactionThresholdBytes, snapshotBytes / 2) && !isCompacting()) {
+            compactInBackground(addressBook);
+        }
+    }
+
+    /**
+     * Blocks until any snapshot currently being written in the background has been written.
+     *
+     * @throws IOException if the background write failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitCompaction();
+    }
+
+    /**
+     * Blocks until any snapshot currently being written in the background has been written.
+     * A failure is only reported once.
+     *
+     * @throws IOException if the background write failed.
+     */
+    void awaitCompaction() throws IOException {
+        Future<?> compaction = pendingCompaction;
+        if (compaction == null) {
+            return;
+        }
+        pendingCompaction = null;
+        try {
+            compaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for snapshot to be written", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Throws the failure of a snapshot that was written in the background and has finished, if it failed.
+     */
+    private void throwFailedCompaction() throws IOException {
+        if (pendingCompaction != null && pendingCompaction.isDone()) {
+            awaitCompaction();
+        }
+    }
+
+    private boolean isCompacting() {
+        return pendingCompaction != null && !pendingCompaction.isDone();
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} and discards all journal segments on the calling thread.
+     * The baseline only moves to {@code addressBook} once the snapshot is on disk, so a failed write leaves the
+     * next save to diff against what is actually persisted.
+     */
+    private void compactNow(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+        int lastCoveredSegment = activeSegment;
+        writeSnapshot(addressBook, lastCoveredSegment);
+        activeSegment = lastCoveredSegment + 1;
+        journalBytes = 0;
+        recordBaseline(addressBook);
+    }
+
+    /**
+     * Captures a snapshot of {@code addressBook} on the calling thread and writes it on the compactor thread.
+     * Only the students changed since the previous snapshot are copied, and only those changed since the
+     * previous snapshot was written are serialized again.
+     * New journal entries go to a fresh segment, so the segments covered by the snapshot can be deleted
+     * once the snapshot is on disk. {@code addressBook} must already be persisted in the journal, so the
+     * baseline is unaffected if the snapshot fails to be written.
+     */
+    private void compactInBackground(ReadOnlyAddressBook addressBook) {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, snapshotCopies);
+        int lastCoveredSegment = activeSegment;
+        activeSegment++;
+        journalBytes = 0;
+        recordBaseline(addressBook);
+
+        pendingCompaction = compactor.submit(() -> {
+            writeSnapshot(snapshot, lastCoveredSegment);
+            return null;
+        });
+    }
+
+    private void writeSnapshot(ReadOnlyAddressBook snapshot, int lastCoveredSegment) throws IOException {
+        long start = System.nanoTime();
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createIfMissing(tempFile);
+        JsonSerializableAddressBook.writeModel(snapshot, tempFile, false, personCache);
+        FileUtil.moveReplacing(tempFile, filePath);
+        snapshotBytes = sizeOf(filePath);
+
+        for (int segment : listSegments(filePath)) {
+            if (segment <= lastCoveredSegment) {
+                Files.deleteIfExists(segmentPath(filePath, segment));
+            }
+        }
+        logger.fine("Compacted " + filePath + " in " + (System.nanoTime() - start) / 1_000_000 + "ms");
+    }
+
+    /**
+     * Returns the journal entry that turns the baseline into {@code addressBook},
+     * or {@code Optional.empty()} if the students common to both appear in a different relative order.
+     */
+    private Optional<JsonAdaptedJournalEntry> diffAgainstBaseline(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Person> current = new HashMap<>();
+        for (Person person : persons) {
+            current.put(JsonAdaptedJournalEntry.nameKey(person.getName().fullName), person);
+        }
+
+        List<String> removed = new ArrayList<>();
+        List<String> survivorsInOldOrder = new ArrayList<>();
+        for (String key : personFingerprints.keySet()) {
+            if (current.containsKey(key)) {
+                survivorsInOldOrder.add(key);
+            } else {
+                removed.add(key);
+            }
+        }
+
+        List<JsonAdaptedJournalEntry.Upsert> upserts = new ArrayList<>();
+        int survivorIndex = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            String key = JsonAdaptedJournalEntry.nameKey(person.getName().fullName);
+            Long oldFingerprint = personFingerprints.get(key);
+            if (oldFingerprint != null) {
+                if (!survivorsInOldOrder.get(survivorIndex++).equals(key)) {
+                    return Optional.empty();
+                }
+                if (oldFingerprint == fingerprintCache.get(person)) {
+                    continue;
+                }
+            }
+            upserts.add(new JsonAdaptedJournalEntry.Upsert(i, new JsonAdaptedPerson(person)));
+        }
+
+        List<JsonAdaptedGroup> groups = AddressBookFingerprints.ofGroups(addressBook) == groupsFingerprint
+                ? null
+                : addressBook.getGroups().stream().map(JsonAdaptedGroup::new).toList();
+        List<JsonAdaptedReminder> reminders = AddressBookFingerprints.ofReminders(addressBook) == remindersFingerprint
+                ? null
+                : JsonSerializableAddressBook.getPersistedReminders(addressBook).stream()
+                        .map(JsonAdaptedReminder::new).toList();
+
+        return Optional.of(new JsonAdaptedJournalEntry(removed, upserts, groups, reminders));
+    }
+
+    private void recordBaseline(ReadOnlyAddressBook addressBook) {
+        Map<String, Long> fingerprints = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            fingerprints.put(JsonAdaptedJournalEntry.nameKey(person.getName().fullName),
+                    fingerprintCache.get(person));
+        }
+        fingerprintCache.evictUnused();
+        personFingerprints = fingerprints;
+        groupsFingerprint = AddressBookFingerprints.ofGroups(addressBook);
+        remindersFingerprint = AddressBookFingerprints.ofReminders(addressBook);
+        hasBaseline = true;
+    }
+
+    private void replaySegment(Path segment, boolean isLastSegment, List<JsonAdaptedPerson> persons,
+                               List<JsonAdaptedGroup> groups, List<JsonAdaptedReminder> reminders)
+            throws DataLoadingException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(segment, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (isLastSegment && i == lines.size() - 1) {
+                    // The application stopped while this entry was being appended; the entry was never saved.
+                    logger.warning("Ignoring incomplete journal entry at the end of " + segment);
+                    return;
+                }
+                logger.warning("Error reading journal " + segment + " at line " + (i + 1) + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+            entry.applyTo(persons, groups, reminders);
+        }
+    }
+
+    /**
+     * Deletes all journal segments belonging to {@code dataFile}.
+     */
+    static void deleteJournal(Path dataFile) throws IOException {
+        for (int segment : listSegments(dataFile)) {
+            Files.deleteIfExists(segmentPath(dataFile, segment));
+        }
+    }
+
+    private static Path segmentPath(Path dataFile, int segment) {
+        return dataFile.resolveSibling(dataFile.getFileName() + JOURNAL_SUFFIX + segment);
+    }
+
+    /**
+     * Returns the numbers of the journal segments belonging to {@code dataFile}, in ascending order.
+     */
+    private static List<Integer> listSegments(Path dataFile) throws IOException {
+        Path dir = dataFile.toAbsolutePath().getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            return List.of();
+        }
+        String prefix = dataFile.getFileName() + JOURNAL_SUFFIX;
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.substring(prefix.length()).matches("\\d+"))
+                    .map(name -> Integer.parseInt(name.substring(prefix.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long sizeOfSegments(Path dataFile, List<Integer> segments) {
+        return segments.stream().mapToLong(segment -> sizeOf(segmentPath(dataFile, segment))).sum();
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException ioe) {
+            return 0;
+        }
+    }
+}
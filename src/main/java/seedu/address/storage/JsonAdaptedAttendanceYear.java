@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.attendance.YearAttendance;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Jackson-friendly version of the attendance of every student over one year, keyed by student id.
+ * <p>
+ * Each student's {@link YearAttendance} is written as the Base64 encoding of its packed words in little-endian
+ * byte order, without trailing zero bytes, so a year takes at most 123 characters per student.
+ */
+class JsonAdaptedAttendanceYear {
+
+    public static final String MESSAGE_INVALID_DAYS = "Attendance of student %s in %d is not valid Base64";
+    public static final String MESSAGE_INVALID_STUDENT = "Attendance in %d refers to the invalid student id %s";
+
+    private final int year;
+    private final Map<String, String> students = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAttendanceYear} with the given year and encoded attendance.
+     */
+    @JsonCreator
+    public JsonAdaptedAttendanceYear(@JsonProperty("year") int year,
+                                     @JsonProperty("students") Map<String, String> students) {
+        this.year = year;
+        if (students != null) {
+            this.students.putAll(students);
+        }
+    }
+
+    /**
+     * Converts the attendance recorded in {@code year} of the given {@code source} for use by Jackson.
+     */
+    public JsonAdaptedAttendanceYear(AttendanceIndex source, int year) {
+        this.year = year;
+        source.getYear(year).forEach((id, attendance) -> {
+            if (!attendance.isEmpty()) {
+                students.put(id.toString(), encode(attendance));
+            }
+        });
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public Map<String, String> getStudents() {
+        return students;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into the attendance of each student, keyed by id.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted object.
+     */
+    public Map<StudentId, YearAttendance> toModelType() throws IllegalValueException {
+        Map<StudentId, YearAttendance> attendance = new HashMap<>();
+        for (Map.Entry<String, String> student : students.entrySet()) {
+            attendance.put(parseId(student.getKey()), decode(student.getKey(), student.getValue()));
+        }
+        return attendance;
+    }
+
+    private StudentId parseId(String id) throws IllegalValueException {
+        try {
+            return StudentId.of(Integer.parseInt(id));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STUDENT, year, id));
+        }
+    }
+
+    private static String encode(YearAttendance attendance) {
+        long[] words = attendance.toWords();
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(words);
+        byte[] bytes = buffer.array();
+        int length = bytes.length;
+        while (length > 0 && bytes[length - 1] == 0) {
+            length--;
+        }
+        return Base64.getEncoder().withoutPadding().encodeToString(Arrays.copyOf(bytes, length));
+    }
+
+    private YearAttendance decode(String id, String days) throws IllegalValueException {
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(days);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DAYS, id, year));
+        }
+        if (bytes.length > YearAttendance.WORDS * Long.BYTES) {
+            throw new IllegalValueException(YearAttendance.MESSAGE_CONSTRAINTS);
+        }
+        // the trailing zero bytes left out by encode() are restored by padding to whole words
+        long[] words = new long[YearAttendance.WORDS];
+        ByteBuffer.wrap(Arrays.copyOf(bytes, words.length * Long.BYTES)).order(ByteOrder.LITTLE_ENDIAN)
+                .asLongBuffer().get(words);
+        if (!YearAttendance.isValidWords(words)) {
+            throw new IllegalValueException(YearAttendance.MESSAGE_CONSTRAINTS);
+        }
+        return new YearAttendance(words);
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -13,7 +12,8 @@ import seedu.address.model.group.GroupName;
 
 /**
  * Jackson-friendly version of {@code Group}.
- * Members are stored by student name (String) and resolved on load.
+ * Members are stored by student id and resolved on load. Files saved by older versions list members by student
+ * name instead, which are resolved the same way.
  */
 public class JsonAdaptedGroup {
 
@@ -21,21 +21,28 @@ public class JsonAdaptedGroup {
 
     private final String name;
     private final List<String> members;
+    private final List<Integer> memberIds;
 
     /** Create from JSON properties. */
     @JsonCreator
     public JsonAdaptedGroup(@JsonProperty("name") String name,
-                            @JsonProperty("members") List<String> members) {
+                            @JsonProperty("members") List<String> members,
+                            @JsonProperty("memberIds") List<Integer> memberIds) {
         this.name = name;
         this.members = members != null ? members : new ArrayList<>();
+        this.memberIds = memberIds != null ? memberIds : new ArrayList<>();
+    }
+
+    /** Create with members given by name. */
+    public JsonAdaptedGroup(String name, List<String> members) {
+        this(name, members, null);
     }
 
     /** Create from model group (serialize). */
     public JsonAdaptedGroup(Group source) {
         this.name = source.getName().toString();
-        this.members = source.getMembers().stream()
-                .map(p -> p.getName().fullName)
-                .collect(Collectors.toList());
+        this.members = new ArrayList<>();
+        this.memberIds = source.getMembers().stream().boxed().toList();
     }
 
     /** Group name as string (for later resolution). */
@@ -48,6 +55,11 @@ public class JsonAdaptedGroup {
         return members;
     }
 
+    /** Member student ids (for later resolution). */
+    public List<Integer> getMemberIds() {
+        return memberIds;
+    }
+
     /**
      * Convert to a model Group (name only; members are linked later after persons are loaded).
      */
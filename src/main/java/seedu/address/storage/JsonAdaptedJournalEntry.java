@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of the changes made to an address book by a single save.
+ * <p>
+ * An entry lists the students that were removed (by name), the students that were added or changed
+ * (together with their position in the student list), and, only if they changed, the complete
+ * group and reminder lists. Entries are applied in order on top of the last full snapshot.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final List<String> removed = new ArrayList<>();
+    private final List<Upsert> upserts = new ArrayList<>();
+    private final List<JsonAdaptedGroup> groups;
+    private final List<JsonAdaptedReminder> reminders;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     * {@code groups} and {@code reminders} may be null to indicate that they are unchanged.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("removed") List<String> removed,
+                                   @JsonProperty("upserts") List<Upsert> upserts,
+                                   @JsonProperty("groups") List<JsonAdaptedGroup> groups,
+                                   @JsonProperty("reminders") List<JsonAdaptedReminder> reminders) {
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (upserts != null) {
+            this.upserts.addAll(upserts);
+        }
+        this.groups = groups;
+        this.reminders = reminders;
+    }
+
+    /**
+     * Returns true if this entry does not change anything.
+     */
+    boolean isEmpty() {
+        return removed.isEmpty() && upserts.isEmpty() && groups == null && reminders == null;
+    }
+
+    /**
+     * Applies this entry to the given mutable lists, which hold the state of the address book
+     * as of the previous entry (or the snapshot).
+     * Applying an entry to a state that already contains its changes leaves that state unchanged.
+     */
+    void applyTo(List<JsonAdaptedPerson> persons, List<JsonAdaptedGroup> groupList,
+                 List<JsonAdaptedReminder> reminderList) {
+        for (String name : removed) {
+            int index = indexOf(persons, name);
+            if (index != -1) {
+                persons.remove(index);
+            }
+        }
+
+        for (Upsert upsert : upserts) {
+            int existing = indexOf(persons, upsert.person.getName());
+            if (existing != -1) {
+                persons.remove(existing);
+            }
+            persons.add(Math.max(0, Math.min(upsert.index, persons.size())), upsert.person);
+        }
+
+        if (groups != null) {
+            groupList.clear();
+            groupList.addAll(groups);
+        }
+        if (reminders != null) {
+            reminderList.clear();
+            reminderList.addAll(reminders);
+        }
+    }
+
+    /**
+     * Returns the key used to match students across journal entries.
+     */
+    static String nameKey(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int indexOf(List<JsonAdaptedPerson> persons, String name) {
+        String key = nameKey(name);
+        for (int i = 0; i < persons.size(); i++) {
+            if (nameKey(persons.get(i).getName()).equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A student that was added or changed, and the position it occupies in the student list.
+     */
+    static class Upsert {
+        private final int index;
+        private final JsonAdaptedPerson person;
+
+        @JsonCreator
+        Upsert(@JsonProperty("index") int index, @JsonProperty("person") JsonAdaptedPerson person) {
+            this.index = index;
+            this.person = person;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashSet;
@@ -15,6 +17,7 @@ import seedu.address.model.person.LessonTime;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -22,6 +25,7 @@ import seedu.address.model.person.Phone;
 class JsonAdaptedPerson {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Student's %s field is missing!";
 
+    private final Integer id;
     private final String name;
     private final String phone;
     private final String paymentStatus;
@@ -32,14 +36,17 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * A student saved without an id, by an older version, is given a new one when converted.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name,
+    public JsonAdaptedPerson(@JsonProperty("id") Integer id,
+                            @JsonProperty("name") String name,
                             @JsonProperty("phone") String phone,
                             @JsonProperty("lessonTime") List<JsonAdaptedLessonTime> lessonTime,
                             @JsonProperty("homeworks") List<JsonAdaptedHomework> homeworks,
                             @JsonProperty("paymentStatus") String paymentStatus,
                             @JsonProperty("participation") List<JsonAdaptedParticipationRecord> participation) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.paymentStatus = paymentStatus;
@@ -54,13 +61,23 @@ class JsonAdaptedPerson {
         }
     }
 
+    // Back-compat convenience ctor for students saved without an id
+    public JsonAdaptedPerson(String name,
+                            String phone,
+                            List<JsonAdaptedLessonTime> lessonTime,
+                            List<JsonAdaptedHomework> homeworks,
+                            String paymentStatus,
+                            List<JsonAdaptedParticipationRecord> participation) {
+        this(null, name, phone, lessonTime, homeworks, paymentStatus, participation);
+    }
+
     // Back-compat convenience ctor used by existing tests (no participation provided)
     public JsonAdaptedPerson(String name,
                             String phone,
                             List<JsonAdaptedLessonTime> lessonTime,
                             List<JsonAdaptedHomework> homeworks,
                             String paymentStatus) {
-        this(name, phone, lessonTime, homeworks, paymentStatus, null);
+        this(null, name, phone, lessonTime, homeworks, paymentStatus, null);
     }
 
 
@@ -68,6 +85,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
 
@@ -86,12 +104,50 @@ class JsonAdaptedPerson {
 
     }
 
+    /** Student name as stored (unvalidated). */
+    String getName() {
+        return name;
+    }
+
+    /** Returns true if the student was saved with an id. */
+    boolean hasId() {
+        return id != null;
+    }
+
+    /**
+     * Makes sure that the ids {@link StudentId#next()} gives out from now on are larger than the saved id of
+     * this student, if it has a valid one.
+     */
+    void reserveId() {
+        if (id != null && StudentId.isValidId(id)) {
+            StudentId.of(id);
+        }
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * A student saved without an id is given a new one.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        if (id != null && !StudentId.isValidId(id)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        return toPerson(id == null ? StudentId.next() : StudentId.of(id));
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, for a student saved without an id: gives it {@code newId} instead of a
+     * new one, so that such students can be given their ids in file order before they are converted.
+     */
+    Person toModelType(StudentId newId) throws IllegalValueException {
+        requireNonNull(newId);
+        assert !hasId() : "student already has an id";
+        return toPerson(newId);
+    }
+
+    private Person toPerson(StudentId modelId) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -130,7 +186,7 @@ class JsonAdaptedPerson {
             }
         }
 
-        final Person person = new Person(modelName, modelPhone, modelLessonTime, modelPaymentStatus);
+        final Person person = new Person(modelId, modelName, modelPhone, modelLessonTime, modelPaymentStatus);
 
         List<Homework> hwList = new ArrayList<>();
         for (JsonAdaptedHomework jhw : homeworks) {
@@ -52,6 +52,10 @@ class JsonAdaptedReminder {
         }
     }
 
+    public String getDueDate() {
+        return dueDate;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a {@link ShardedAddressBookStorage} directory.
+ * <p>
+ * The manifest names the file holding each student shard, the groups and the reminders.
+ * It is the only file that is ever replaced in place, so the files it names always form a consistent
+ * address book. The generation number increases by one with every save that changed something.
+ */
+class JsonAdaptedShardManifest {
+
+    private final long generation;
+    private final List<String> studentShards = new ArrayList<>();
+    private final String groups;
+    private final String reminders;
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given generation and file names.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("generation") long generation,
+                                    @JsonProperty("studentShards") List<String> studentShards,
+                                    @JsonProperty("groups") String groups,
+                                    @JsonProperty("reminders") String reminders) {
+        this.generation = generation;
+        if (studentShards != null) {
+            this.studentShards.addAll(studentShards);
+        }
+        this.groups = groups;
+        this.reminders = reminders;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    /** Returns the file names of the student shards, indexed by shard number. */
+    List<String> getStudentShards() {
+        return Collections.unmodifiableList(studentShards);
+    }
+
+    String getGroups() {
+        return groups;
+    }
+
+    String getReminders() {
+        return reminders;
+    }
+
+    /** Returns the names of every file this manifest refers to. */
+    List<String> getFileNames() {
+        List<String> fileNames = new ArrayList<>(studentShards);
+        fileNames.add(groups);
+        fileNames.add(reminders);
+        return fileNames;
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.attendance.AttendanceLoader;
+import seedu.address.model.attendance.YearAttendance;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A class to access attendance stored in the hard disk as one json file per year, named {@code <year>.json}.
+ * <p>
+ * Years are read only when they are first looked at, and only the years that changed are written.
+ * A year without any attendance has no file.
+ */
+public class JsonAttendanceStorage implements AttendanceStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAttendanceStorage.class);
+    private static final Pattern YEAR_FILE_NAME = Pattern.compile("(\\d{1,9})\\.json");
+
+    private final Path directory;
+
+    public JsonAttendanceStorage(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the directory used to store the attendance belonging to the address book at {@code dataPath}:
+     * a sibling named {@code attendance}.
+     */
+    public static Path directoryFor(Path dataPath) {
+        return dataPath.resolveSibling("attendance");
+    }
+
+    @Override
+    public Path getAttendanceDirectoryPath() {
+        return directory;
+    }
+
+    @Override
+    public AttendanceLoader readAttendance() {
+        return new AttendanceLoader() {
+            @Override
+            public Set<Integer> getSavedYears() {
+                return readSavedYears();
+            }
+
+            @Override
+            public Map<StudentId, YearAttendance> loadYear(int year) {
+                return readYear(year);
+            }
+        };
+    }
+
+    @Override
+    public void saveAttendance(AttendanceIndex attendance) throws IOException {
+        requireNonNull(attendance);
+
+        for (int year : attendance.getUnsavedYears()) {
+            JsonAdaptedAttendanceYear adapted = new JsonAdaptedAttendanceYear(attendance, year);
+            Path yearFile = fileOf(year);
+            if (adapted.getStudents().isEmpty()) {
+                Files.deleteIfExists(yearFile);
+            } else {
+                Path tempFile = yearFile.resolveSibling(yearFile.getFileName() + ".tmp");
+                FileUtil.createIfMissing(tempFile);
+                JsonUtil.saveJsonFile(adapted, tempFile);
+                FileUtil.moveReplacing(tempFile, yearFile);
+            }
+            attendance.markSaved(year);
+        }
+    }
+
+    private Path fileOf(int year) {
+        return directory.resolve(year + ".json");
+    }
+
+    private Set<Integer> readSavedYears() {
+        Set<Integer> years = new TreeSet<>();
+        if (!Files.isDirectory(directory)) {
+            return years;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = YEAR_FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    years.add(Integer.parseInt(matcher.group(1)));
+                }
+            });
+        } catch (IOException ioe) {
+            logger.warning("Attendance directory " + directory + " could not be listed: " + ioe);
+        }
+        return years;
+    }
+
+    private Map<StudentId, YearAttendance> readYear(int year) {
+        Path yearFile = fileOf(year);
+        try {
+            Optional<JsonAdaptedAttendanceYear> adapted =
+                    JsonUtil.readJsonFile(yearFile, JsonAdaptedAttendanceYear.class);
+            if (adapted.isEmpty()) {
+                return Map.of();
+            }
+            if (adapted.get().getYear() != year) {
+                throw new IllegalValueException("Attendance file " + yearFile + " holds the year "
+                        + adapted.get().getYear());
+            }
+            return adapted.get().toModelType();
+        } catch (DataLoadingException | IllegalValueException e) {
+            logger.warning("Attendance in " + yearFile + " could not be loaded."
+                    + " Will be starting with no attendance for " + year + ": " + e);
+            return Map.of();
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.payment.PaymentLedger;
+
+/**
+ * A class to access the payment ledger stored in the hard disk as a json file.
+ * <p>
+ * The file is only written when the ledger changed since it was last saved.
+ */
+public class JsonPaymentStorage implements PaymentStorage {
+
+    private final Path filePath;
+
+    public JsonPaymentStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the file used to store the payments belonging to the address book at {@code dataPath}:
+     * a sibling named {@code payments.json}.
+     */
+    public static Path fileFor(Path dataPath) {
+        return dataPath.resolveSibling("payments.json");
+    }
+
+    @Override
+    public Path getPaymentFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<PaymentLedger> readPayments() throws DataLoadingException {
+        Optional<JsonSerializablePaymentLedger> adapted =
+                JsonUtil.readJsonFile(filePath, JsonSerializablePaymentLedger.class);
+        if (adapted.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(adapted.get().toModelType());
+        } catch (IllegalValueException ive) {
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void savePayments(PaymentLedger payments) throws IOException {
+        requireNonNull(payments);
+        if (!payments.hasUnsavedChanges()) {
+            return;
+        }
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createIfMissing(tempFile);
+        JsonUtil.saveJsonFile(new JsonSerializablePaymentLedger(payments), tempFile);
+        FileUtil.moveReplacing(tempFile, filePath);
+        payments.markSaved();
+    }
+
+}
@@ -1,18 +1,38 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.JsonUtil.ArrayElementHandler;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.reminder.Reminder;
 
 /**
@@ -21,6 +41,7 @@ import seedu.address.model.reminder.Reminder;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Students list contains duplicate student(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Students list contains duplicate student id(s).";
     public static final String MESSAGE_DUPLICATE_GROUP = "Groups list contains duplicate group(s).";
     public static final String MESSAGE_DUPLICATE_REMINDER = "Reminders list contains duplicate reminder(s).";
     public static final String MESSAGE_UNKNOWN_MEMBER = "Group '%s' refers to unknown member '%s'.";
@@ -55,7 +76,28 @@ class JsonSerializableAddressBook {
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).toList());
         this.groups.addAll(source.getGroups().stream().map(JsonAdaptedGroup::new).toList());
-        reminders.addAll(source.getReminderList().stream().map(JsonAdaptedReminder::new).toList());
+        reminders.addAll(getPersistedReminders(source).stream().map(JsonAdaptedReminder::new).toList());
+    }
+
+    /**
+     * Returns the reminders of {@code source} that are saved to storage.
+     * Reminders derived from student data (payment and homework reminders) are left out, as they are
+     * regenerated by {@code AddressBook#refreshUnmodifiableReminders()} once the data has been loaded.
+     */
+    static List<Reminder> getPersistedReminders(ReadOnlyAddressBook source) {
+        return source.getReminderList().stream().filter(Reminder::isModifiable).toList();
+    }
+
+    List<JsonAdaptedPerson> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    List<JsonAdaptedGroup> getGroups() {
+        return Collections.unmodifiableList(groups);
+    }
+
+    List<JsonAdaptedReminder> getReminders() {
+        return Collections.unmodifiableList(reminders);
     }
 
     /**
@@ -64,60 +106,297 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        ModelBuilder builder = new ModelBuilder();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            builder.addPerson(jsonAdaptedPerson);
+        }
+        for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
+            builder.addGroup(jsonAdaptedGroup);
+        }
+        for (JsonAdaptedReminder jsonAdaptedReminder : reminders) {
+            builder.addReminder(jsonAdaptedReminder);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads the address book in {@code filePath} and converts it into the model's {@code AddressBook} object.
+     * Records are converted one at a time as they are read, so the file is never held in memory as a whole.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readModel(Path filePath) throws IOException, IllegalValueException {
+        ModelBuilder builder = new ModelBuilder();
+        Map<String, ArrayElementHandler<?>> handlers = Map.of(
+                "persons", ArrayElementHandler.of(JsonAdaptedPerson.class, builder::addPerson),
+                "groups", ArrayElementHandler.of(JsonAdaptedGroup.class, builder::addGroup),
+                "reminders", ArrayElementHandler.of(JsonAdaptedReminder.class, builder::addReminder));
+        JsonUtil.readJsonArrays(filePath, handlers);
+        return builder.build();
+    }
+
+    /**
+     * Writes {@code source} to {@code filePath} in the same format as this class,
+     * converting one record at a time as it is written.
+     *
+     * @param isCompact whether to write the file on a single line instead of pretty-printing it.
+     */
+    static void writeModel(ReadOnlyAddressBook source, Path filePath, boolean isCompact) throws IOException {
+        Iterable<JsonAdaptedPerson> persons = () -> source.getPersonList().stream()
+                .map(JsonAdaptedPerson::new).iterator();
+        writeModel(source, persons, filePath, isCompact);
+    }
+
+    /**
+     * Similar to {@link #writeModel(ReadOnlyAddressBook, Path, boolean)}, but takes each student's serialized
+     * form from {@code personCache}, so only students changed since the previous save are serialized again.
+     * The cache must produce fragments from {@link JsonUtil#toArrayElementFragment(Object, boolean)} with the
+     * same {@code isCompact}.
+     */
+    static void writeModel(ReadOnlyAddressBook source, Path filePath, boolean isCompact,
+                           StampedPersonCache<RawValue> personCache) throws IOException {
+        Iterable<RawValue> persons = () -> source.getPersonList().stream()
+                .map(personCache::get).iterator();
+        try {
+            writeModel(source, persons, filePath, isCompact);
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        } finally {
+            personCache.evictUnused();
+        }
+    }
+
+    /**
+     * Returns a function converting a student into the fragment expected by
+     * {@link #writeModel(ReadOnlyAddressBook, Path, boolean, StampedPersonCache)}.
+     */
+    static Function<Person, RawValue> toPersonFragment(boolean isCompact) {
+        return person -> {
+            try {
+                return JsonUtil.toArrayElementFragment(new JsonAdaptedPerson(person), isCompact);
+            } catch (JsonProcessingException jpe) {
+                throw new UncheckedIOException(jpe);
+            }
+        };
+    }
+
+    private static void writeModel(ReadOnlyAddressBook source, Iterable<?> persons, Path filePath,
+                                   boolean isCompact) throws IOException {
+        Iterable<JsonAdaptedGroup> groups = () -> source.getGroups().stream()
+                .map(JsonAdaptedGroup::new).iterator();
+        Iterable<JsonAdaptedReminder> reminders = () -> getPersistedReminders(source).stream()
+                .map(JsonAdaptedReminder::new).iterator();
+
+        Map<String, Iterable<?>> arrays = new LinkedHashMap<>();
+        arrays.put("persons", persons);
+        arrays.put("groups", groups);
+        arrays.put("reminders", reminders);
+        JsonUtil.saveJsonArrays(filePath, arrays, isCompact);
+    }
+
+    /**
+     * Builds an {@code AddressBook} from adapted records supplied one at a time.
+     * Group members are resolved once all students have been added.
+     * <p>
+     * Duplicates are detected with hash sets and members are resolved through a name index built once,
+     * so loading takes time linear in the number of records rather than quadratic.
+     * <p>
+     * Students are converted in chunks on the common {@link ForkJoinPool} while the rest of the file is being
+     * read. The chunks are merged in file order, so the resulting list and the first error reported are the
+     * same as for a sequential load.
+     * <p>
+     * Students saved without an id, by versions that did not save ids, are given new ids in file order during
+     * the merge, so the chunks from the first of them on are held back until then and converted in parallel
+     * afterwards. The saved ids of all students are reserved as they are read, before any new id is given out,
+     * so that a new id never clashes with a saved one.
+     */
+    private static class ModelBuilder {
+        private static final int CONVERSION_CHUNK_SIZE = 256;
+
+        private final List<Person> persons = new ArrayList<>();
+        private final Set<Name> personNames = new HashSet<>();
+        private final Map<StudentId, Person> personsById = new HashMap<>();
+        private final Map<String, Person> personsByFullName = new HashMap<>();
+        private final List<Group> groups = new ArrayList<>();
+        private final List<JsonAdaptedGroup> adaptedGroups = new ArrayList<>();
+        private final Set<GroupName> groupNames = new HashSet<>();
+        private final List<Reminder> reminders = new ArrayList<>();
+        private final Set<Reminder> uniqueReminders = new HashSet<>();
+
+        private List<JsonAdaptedPerson> unconvertedPersons = new ArrayList<>(CONVERSION_CHUNK_SIZE);
+        private final List<ForkJoinTask<ConvertedChunk>> pendingChunks = new ArrayList<>();
+        // Chunks from the first student saved without an id on, held back until every saved id is reserved.
+        private final List<List<JsonAdaptedPerson>> chunksAwaitingIds = new ArrayList<>();
+        private boolean isAwaitingIds = false;
+
+        void addPerson(JsonAdaptedPerson jsonAdaptedPerson) {
+            jsonAdaptedPerson.reserveId();
+            isAwaitingIds |= !jsonAdaptedPerson.hasId();
+            unconvertedPersons.add(jsonAdaptedPerson);
+            if (unconvertedPersons.size() == CONVERSION_CHUNK_SIZE) {
+                List<JsonAdaptedPerson> chunk = unconvertedPersons;
+                if (isAwaitingIds) {
+                    chunksAwaitingIds.add(chunk);
+                } else {
+                    pendingChunks.add(ForkJoinPool.commonPool().submit(() -> ConvertedChunk.convert(chunk,
+                            List.of())));
+                }
+                unconvertedPersons = new ArrayList<>(CONVERSION_CHUNK_SIZE);
             }
-            addressBook.addPerson(person);
         }
 
-        for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
-            Group group = jsonAdaptedGroup.toModelType();
-            if (addressBook.hasGroup(group.getName())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
+        /**
+         * Gives the students saved without an id their ids in file order, and submits the chunks held back for
+         * them. Every saved id has been reserved by now, so the new ids clash with none of them.
+         */
+        private void submitChunksAwaitingIds() {
+            for (List<JsonAdaptedPerson> chunk : chunksAwaitingIds) {
+                List<StudentId> newIds = new ArrayList<>();
+                for (JsonAdaptedPerson jsonAdaptedPerson : chunk) {
+                    if (!jsonAdaptedPerson.hasId()) {
+                        newIds.add(StudentId.next());
+                    }
+                }
+                pendingChunks.add(ForkJoinPool.commonPool().submit(() -> ConvertedChunk.convert(chunk, newIds)));
             }
-            addressBook.addGroup(group);
+            chunksAwaitingIds.clear();
+            isAwaitingIds = false;
         }
 
-        for (JsonAdaptedGroup jag : groups) {
-            GroupName gName = GroupName.of(jag.getName());
-            List<Person> resolved = new ArrayList<>();
-            for (String memberName : jag.getMemberNames()) {
-                Person p = findByFullName(addressBook, memberName);
-                if (p == null) {
-                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER, gName, memberName));
+        /**
+         * Waits for every submitted chunk and adds its students in file order,
+         * stopping at the first invalid or duplicate student.
+         */
+        private void mergePersons() throws IllegalValueException {
+            if (!unconvertedPersons.isEmpty() && isAwaitingIds) {
+                chunksAwaitingIds.add(unconvertedPersons);
+                unconvertedPersons = new ArrayList<>();
+            }
+            submitChunksAwaitingIds();
+            if (!unconvertedPersons.isEmpty()) {
+                // the last, partial chunk is converted on this thread
+                List<JsonAdaptedPerson> chunk = unconvertedPersons;
+                ForkJoinTask<ConvertedChunk> task = ForkJoinTask.adapt(() -> ConvertedChunk.convert(chunk,
+                        List.of()));
+                task.invoke();
+                pendingChunks.add(task);
+                unconvertedPersons = new ArrayList<>();
+            }
+            try {
+                for (ForkJoinTask<ConvertedChunk> task : pendingChunks) {
+                    ConvertedChunk chunk = task.join();
+                    for (Person person : chunk.persons) {
+                        if (!personNames.add(person.getName())) {
+                            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                        }
+                        if (personsById.putIfAbsent(person.getId(), person) != null) {
+                            throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+                        }
+                        persons.add(person);
+                        personsByFullName.putIfAbsent(toNameKey(person.getName().fullName), person);
+                    }
+                    if (chunk.failure != null) {
+                        throw chunk.failure;
+                    }
                 }
-                resolved.add(p);
+            } finally {
+                pendingChunks.forEach(task -> task.cancel(false));
+                pendingChunks.clear();
             }
-            if (!resolved.isEmpty()) {
-                addressBook.addMembers(gName, resolved);
+        }
+
+        void addGroup(JsonAdaptedGroup jsonAdaptedGroup) throws IllegalValueException {
+            mergePersons();
+            Group group = jsonAdaptedGroup.toModelType();
+            if (!groupNames.add(group.getName())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
             }
+            groups.add(group);
+            adaptedGroups.add(jsonAdaptedGroup);
         }
 
-        for (JsonAdaptedReminder jsonAdaptedReminder : reminders) {
+        void addReminder(JsonAdaptedReminder jsonAdaptedReminder) throws IllegalValueException {
+            mergePersons();
+            if (!jsonAdaptedReminder.isModifiable()) {
+                // derived reminders saved by older versions are regenerated instead
+                return;
+            }
             Reminder reminder = jsonAdaptedReminder.toModelType();
-            if (addressBook.hasReminder(reminder)) {
+            if (!uniqueReminders.add(reminder)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_REMINDER);
             }
-            addressBook.addReminder(reminder);
+            reminders.add(reminder);
+        }
+
+        AddressBook build() throws IllegalValueException {
+            mergePersons();
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            addressBook.setGroups(groups);
+            addressBook.setReminders(reminders);
+
+            for (JsonAdaptedGroup jag : adaptedGroups) {
+                GroupName gName = GroupName.of(jag.getName());
+                List<Person> resolved = new ArrayList<>();
+                for (String memberName : jag.getMemberNames()) {
+                    Person p = memberName == null ? null : personsByFullName.get(toNameKey(memberName));
+                    if (p == null) {
+                        throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER, gName, memberName));
+                    }
+                    resolved.add(p);
+                }
+                for (Integer memberId : jag.getMemberIds()) {
+                    Person p = memberId == null || !StudentId.isValidId(memberId)
+                            ? null : personsById.get(StudentId.keyOf(memberId));
+                    if (p == null) {
+                        throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER, gName, memberId));
+                    }
+                    resolved.add(p);
+                }
+                if (!resolved.isEmpty()) {
+                    addressBook.addMembers(gName, resolved);
+                }
+            }
+            addressBook.sortReminder();
+            return addressBook;
         }
-        addressBook.sortReminder();
 
-        return addressBook;
+        /** Members are matched by exact full name, ignoring case and surrounding whitespace. */
+        private static String toNameKey(String name) {
+            return name.trim().toLowerCase(Locale.ROOT);
+        }
     }
 
-    /** Helper: find person by exact full name (case-insensitive, trimmed). */
-    private static Person findByFullName(AddressBook ab, String name) {
-        if (name == null) {
-            return null;
+    /**
+     * The students converted from one chunk of the file, up to the first one that failed to convert.
+     */
+    private static class ConvertedChunk {
+        private final List<Person> persons;
+        private final IllegalValueException failure;
+
+        private ConvertedChunk(List<Person> persons, IllegalValueException failure) {
+            this.persons = persons;
+            this.failure = failure;
+        }
+
+        /**
+         * Converts {@code chunk}, giving its students saved without an id the ids in {@code newIds} in order.
+         */
+        static ConvertedChunk convert(List<JsonAdaptedPerson> chunk, List<StudentId> newIds) {
+            List<Person> persons = new ArrayList<>(chunk.size());
+            Iterator<StudentId> nextNewId = newIds.iterator();
+            for (JsonAdaptedPerson jsonAdaptedPerson : chunk) {
+                try {
+                    persons.add(jsonAdaptedPerson.hasId()
+                            ? jsonAdaptedPerson.toModelType()
+                            : jsonAdaptedPerson.toModelType(nextNewId.next()));
+                } catch (IllegalValueException ive) {
+                    return new ConvertedChunk(persons, ive);
+                }
+            }
+            return new ConvertedChunk(persons, null);
         }
-        String needle = name.trim().toLowerCase();
-        return ab.getPersonList().stream()
-                .filter(p -> p.getName().fullName.trim().toLowerCase().equals(needle))
-                .findFirst()
-                .orElse(null);
     }
 
 }
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Jackson-friendly version of a {@link PaymentLedger}: each month, written as {@code YYYY-MM}, mapped to the ids
+ * of the students who paid for it, in increasing order.
+ */
+class JsonSerializablePaymentLedger {
+
+    public static final String MESSAGE_INVALID_MONTH = "Payments refer to the invalid month %s";
+    public static final String MESSAGE_INVALID_STUDENT = "Payments for %s refer to an invalid student id";
+
+    private final Map<String, List<Integer>> months = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializablePaymentLedger} with the given months.
+     */
+    @JsonCreator
+    public JsonSerializablePaymentLedger(@JsonProperty("months") Map<String, List<Integer>> months) {
+        if (months != null) {
+            this.months.putAll(months);
+        }
+    }
+
+    /**
+     * Converts the given {@code source} into this class for Jackson use.
+     */
+    public JsonSerializablePaymentLedger(PaymentLedger source) {
+        source.asMap().forEach((month, paid) -> months.put(month.toString(), paid.stream().boxed().toList()));
+    }
+
+    /**
+     * Converts this payment ledger into the model's {@code PaymentLedger} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public PaymentLedger toModelType() throws IllegalValueException {
+        PaymentLedger ledger = new PaymentLedger();
+        for (Map.Entry<String, List<Integer>> entry : months.entrySet()) {
+            YearMonth month = parseMonth(entry.getKey());
+            if (entry.getValue() == null
+                    || !entry.getValue().stream().allMatch(id -> id != null && StudentId.isValidId(id))) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_STUDENT, entry.getKey()));
+            }
+            ledger.markPaid(MemberBitmap.of(entry.getValue().stream().mapToInt(Integer::intValue).toArray()), month);
+        }
+        ledger.markSaved();
+        return ledger;
+    }
+
+    private static YearMonth parseMonth(String month) throws IllegalValueException {
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, month));
+        }
+    }
+}
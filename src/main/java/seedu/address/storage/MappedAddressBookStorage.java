@@ -0,0 +1,260 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetailsLoader;
+import seedu.address.storage.BinaryAddressBookStorage.Dictionaries;
+import seedu.address.storage.BinaryAddressBookStorage.PersonHeader;
+
+/**
+ * A class to access AddressBook data stored in the {@link BinaryAddressBookStorage} format, reading it through
+ * a memory-mapped buffer.
+ * <p>
+ * Only the dictionaries, the student headers (name, phone, lesson times and payments), the groups and the
+ * reminders are decoded when the file is read. Each student's homework and participation history is
+ * skipped using the length prefix of its block, and is decoded from the mapped file the first time it is
+ * accessed (see {@link Person#setDetailsLoader(PersonDetailsLoader)}). Load time therefore depends on the
+ * number of students rather than on how much history each of them has.
+ * <p>
+ * The data file itself is never mapped: it is copied to a new file next to it when it is read, and the copy is
+ * mapped instead. Saving writes a regular binary snapshot that replaces the data file, which not every platform
+ * allows while the file is mapped. The history of students that are still pending is copied from the mapped
+ * copy as it is, without being decoded, and they keep reading it from there, so each read maps one file for
+ * as long as it is used however many times the data is saved. Copies left behind are deleted by later reads.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+    private static final String MAPPED_COPY_SUFFIX = ".mapped";
+
+    private final Path filePath;
+    private final BinaryAddressBookStorage writer;
+
+    /**
+     * Creates a {@code MappedAddressBookStorage} for the binary data file at {@code filePath}.
+     */
+    public MappedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.writer = new BinaryAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found, mapping a copy of it into memory.");
+
+        Path mappedFile;
+        ByteBuffer buffer;
+        try {
+            mappedFile = copyForMapping(filePath);
+            buffer = map(mappedFile);
+        } catch (IOException ioe) {
+            logger.warning("Error mapping binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        try {
+            return Optional.of(decode(mappedFile, buffer));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Students whose history is still pending keep reading it from the copy mapped when they were read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        writer.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Copies {@code filePath} to a new file next to it, to be mapped in its place.
+     * Copies left by earlier reads are deleted first, except those that are still mapped where that prevents it.
+     */
+    private static Path copyForMapping(Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        String copyPrefix = filePath.getFileName() + ".";
+        deleteMappedCopies(directory, copyPrefix);
+
+        Path copy = Files.createTempFile(directory, copyPrefix, MAPPED_COPY_SUFFIX);
+        Files.copy(filePath, copy, StandardCopyOption.REPLACE_EXISTING);
+        copy.toFile().deleteOnExit();
+        return copy;
+    }
+
+    private static void deleteMappedCopies(Path directory, String copyPrefix) throws IOException {
+        try (DirectoryStream<Path> copies = Files.newDirectoryStream(directory, file -> {
+            String fileName = file.getFileName().toString();
+            return fileName.startsWith(copyPrefix) && fileName.endsWith(MAPPED_COPY_SUFFIX);
+        })) {
+            for (Path copy : copies) {
+                try {
+                    Files.deleteIfExists(copy);
+                } catch (IOException ioe) {
+                    logger.fine("Mapped copy " + copy + " is still in use: " + ioe);
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer map(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static AddressBook decode(Path filePath, ByteBuffer buffer) throws IOException, IllegalValueException {
+        BinaryRecordReader reader = new BinaryRecordReader(buffer);
+        int version = BinaryAddressBookStorage.readHeader(reader);
+        Dictionaries dictionaries = Dictionaries.read(reader);
+
+        int personCount = reader.readCount(1);
+        List<JsonAdaptedPerson> headers = new ArrayList<>(personCount);
+        int[] detailOffsets = new int[personCount];
+        for (int i = 0; i < personCount; i++) {
+            headers.add(PersonHeader.read(reader, dictionaries, version).toAdapted(List.of(), List.of()));
+            int detailsLength = reader.readVarInt();
+            detailOffsets[i] = reader.position();
+            reader.position(detailOffsets[i] + detailsLength);
+        }
+
+        List<String> names = headers.stream().map(JsonAdaptedPerson::getName).toList();
+        AddressBook addressBook = new JsonSerializableAddressBook(headers,
+                BinaryAddressBookStorage.readGroups(reader, names),
+                BinaryAddressBookStorage.readReminders(reader)).toModelType();
+
+        List<Person> persons = addressBook.getPersonList();
+        for (int i = 0; i < personCount; i++) {
+            persons.get(i).setDetailsLoader(new MappedDetailsLoader(
+                    new MappedBlock(filePath, buffer, dictionaries, detailOffsets[i])));
+        }
+        return addressBook;
+    }
+
+    /**
+     * The location of one student's history block in a mapped file.
+     */
+    private static class MappedBlock {
+        private final Path filePath;
+        private final ByteBuffer buffer;
+        private final Dictionaries dictionaries;
+        private final int offset;
+
+        MappedBlock(Path filePath, ByteBuffer buffer, Dictionaries dictionaries, int offset) {
+            this.filePath = filePath;
+            this.buffer = buffer;
+            this.dictionaries = dictionaries;
+            this.offset = offset;
+        }
+
+        BinaryRecordReader open() {
+            // a duplicate has its own position, so concurrent reads do not interfere
+            ByteBuffer duplicate = buffer.duplicate();
+            duplicate.position(offset);
+            return new BinaryRecordReader(duplicate);
+        }
+    }
+
+    /**
+     * Decodes one student's history block from the mapped file.
+     */
+    private static class MappedDetailsLoader implements BinaryAddressBookStorage.EncodedDetailsLoader {
+        private final MappedBlock block;
+
+        MappedDetailsLoader(MappedBlock block) {
+            this.block = block;
+        }
+
+        @Override
+        public BinaryRecordReader openDetails() {
+            return block.open();
+        }
+
+        @Override
+        public Dictionaries getDictionaries() {
+            return block.dictionaries;
+        }
+
+        @Override
+        public Optional<List<LocalDate>> readUndoneDeadlines() {
+            try {
+                return Optional.of(BinaryAddressBookStorage.readUndoneDeadlines(block.open()));
+            } catch (IOException ioe) {
+                // loading the history reports the unreadable block
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public void load(List<Homework> homeworks, List<ParticipationRecord> participation) {
+            List<JsonAdaptedHomework> adaptedHomeworks = new ArrayList<>();
+            List<JsonAdaptedParticipationRecord> adaptedParticipation = new ArrayList<>();
+            try {
+                BinaryAddressBookStorage.readDetails(block.open(), block.dictionaries, adaptedHomeworks,
+                        adaptedParticipation);
+            } catch (IOException ioe) {
+                logger.severe("Student history at offset " + block.offset + " of " + block.filePath
+                        + " could not be read: " + ioe);
+                return;
+            }
+            adaptedHomeworks.forEach(hw -> homeworks.add(hw.toModelType()));
+            adaptedParticipation.forEach(record -> participation.add(record.toModelType()));
+        }
+    }
+}
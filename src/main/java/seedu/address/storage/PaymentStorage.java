@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.payment.PaymentLedger;
+
+/**
+ * Represents a storage for the payments in a {@link PaymentLedger}.
+ */
+public interface PaymentStorage {
+
+    /**
+     * Returns the file path of the payments data file.
+     */
+    Path getPaymentFilePath();
+
+    /**
+     * Returns the saved payments, or {@code Optional.empty()} if none have been saved yet.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<PaymentLedger> readPayments() throws DataLoadingException;
+
+    /**
+     * Saves {@code payments} if it changed since it was last saved, and marks it as saved.
+     * @param payments cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void savePayments(PaymentLedger payments) throws IOException;
+
+}
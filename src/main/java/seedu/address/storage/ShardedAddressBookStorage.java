@@ -0,0 +1,393 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.JsonUtil.ArrayElementHandler;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a directory of small json files.
+ * <p>
+ * Students are spread over shards of about {@value #SHARD_SIZE} students by a hash of their name, and the
+ * groups and the user-created reminders each have a file of their own. Every save compares each part with
+ * what was last saved and writes only the parts that changed, so editing one student rewrites one shard.
+ * <p>
+ * Changed parts are written to new files named after the save's generation number, and then the
+ * {@value #MANIFEST_FILE} naming the current files is replaced atomically. An interrupted save therefore
+ * leaves the previous generation intact, and files that did not change keep their names, so the directory
+ * can be backed up incrementally.
+ * <p>
+ * Each student is saved with a rank that only needs to increase along the student list, so removing or
+ * adding a student does not change the rank of any other student.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    static final String MANIFEST_FILE = "manifest.json";
+    static final int SHARD_SIZE = 512;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final long RANK_GAP = 1 << 16;
+    private static final Pattern DATA_FILE_PATTERN = Pattern.compile("(students-\\d+|groups|reminders)-\\d+\\.json");
+
+    private final Path directory;
+
+    // State of the data as last persisted to directory; only accessed by the thread that saves.
+    private boolean hasBaseline = false;
+    private JsonAdaptedShardManifest manifest;
+    private Map<String, Long> ranks = new HashMap<>();
+    private long[] shardFingerprints;
+    private final StampedPersonCache<Long> fingerprintCache =
+            new StampedPersonCache<>(AddressBookFingerprints::ofPerson);
+    private long groupsFingerprint;
+    private long remindersFingerprint;
+
+    public ShardedAddressBookStorage(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the directory used to store the data of {@code filePath} in shards:
+     * a sibling named after the file without its extension.
+     */
+    public static Path directoryFor(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return filePath.resolveSibling(extension > 0 ? fileName.substring(0, extension) : fileName + ".d");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directory);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directory location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+
+        Optional<JsonAdaptedShardManifest> readManifest =
+                JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE), JsonAdaptedShardManifest.class);
+        if (readManifest.isEmpty()) {
+            return Optional.empty();
+        }
+        JsonAdaptedShardManifest manifest = readManifest.get();
+
+        List<RankedStudent> students = new ArrayList<>();
+        List<JsonAdaptedGroup> groups = new ArrayList<>();
+        List<JsonAdaptedReminder> reminders = new ArrayList<>();
+        AddressBook addressBook;
+        try {
+            for (String shard : manifest.getStudentShards()) {
+                readShard(directory.resolve(shard), students);
+            }
+            JsonUtil.readJsonArrays(directory.resolve(manifest.getGroups()),
+                    Map.of("groups", ArrayElementHandler.of(JsonAdaptedGroup.class, groups::add)));
+            JsonUtil.readJsonArrays(directory.resolve(manifest.getReminders()),
+                    Map.of("reminders", ArrayElementHandler.of(JsonAdaptedReminder.class, reminders::add)));
+
+            students.sort(Comparator.comparingLong(student -> student.rank));
+            List<JsonAdaptedPerson> persons = students.stream().map(student -> student.person).toList();
+            addressBook = new JsonSerializableAddressBook(persons, groups, reminders).toModelType();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from sharded data in " + directory + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (directory.equals(this.directory)) {
+            long[] loadedRanks = students.stream().mapToLong(student -> student.rank).toArray();
+            recordBaseline(addressBook, loadedRanks, manifest, fingerprintShards(addressBook.getPersonList(),
+                    loadedRanks, manifest.getStudentShards().size()));
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards that changed since the last save to {@code directory} are written.
+     *
+     * @param directory location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+
+        boolean isIncremental = hasBaseline && directory.equals(this.directory);
+        List<Person> persons = addressBook.getPersonList();
+        long[] newRanks = assignRanks(persons, isIncremental ? ranks : Map.of());
+
+        int shardCount = isIncremental ? manifest.getStudentShards().size() : 0;
+        if (shardCount == 0 || persons.size() > shardCount * SHARD_SIZE * 2) {
+            shardCount = shardCountFor(persons.size());
+        }
+        boolean isResharded = !isIncremental || shardCount != manifest.getStudentShards().size();
+        long[] newFingerprints = fingerprintShards(persons, newRanks, shardCount);
+        long generation = (isIncremental ? manifest.getGeneration() : readGeneration(directory)) + 1;
+        Files.createDirectories(directory);
+
+        boolean hasChanged = isResharded;
+        List<String> shardFiles = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (!isResharded && newFingerprints[shard] == shardFingerprints[shard]) {
+                shardFiles.add(manifest.getStudentShards().get(shard));
+                continue;
+            }
+            String fileName = "students-" + shard + "-" + generation + ".json";
+            writeShard(directory.resolve(fileName), persons, newRanks, shard, shardCount);
+            shardFiles.add(fileName);
+            hasChanged = true;
+        }
+
+        long newGroupsFingerprint = AddressBookFingerprints.ofGroups(addressBook);
+        String groupsFile;
+        if (isIncremental && newGroupsFingerprint == groupsFingerprint) {
+            groupsFile = manifest.getGroups();
+        } else {
+            groupsFile = "groups-" + generation + ".json";
+            Iterable<JsonAdaptedGroup> groups = () -> addressBook.getGroups().stream()
+                    .map(JsonAdaptedGroup::new).iterator();
+            writeArrays(directory.resolve(groupsFile), Map.of("groups", groups));
+            hasChanged = true;
+        }
+
+        long newRemindersFingerprint = AddressBookFingerprints.ofReminders(addressBook);
+        String remindersFile;
+        if (isIncremental && newRemindersFingerprint == remindersFingerprint) {
+            remindersFile = manifest.getReminders();
+        } else {
+            remindersFile = "reminders-" + generation + ".json";
+            Iterable<JsonAdaptedReminder> reminders = () -> JsonSerializableAddressBook
+                    .getPersistedReminders(addressBook).stream().map(JsonAdaptedReminder::new).iterator();
+            writeArrays(directory.resolve(remindersFile), Map.of("reminders", reminders));
+            hasChanged = true;
+        }
+
+        if (!hasChanged) {
+            return;
+        }
+        JsonAdaptedShardManifest newManifest =
+                new JsonAdaptedShardManifest(generation, shardFiles, groupsFile, remindersFile);
+        Path manifestPath = directory.resolve(MANIFEST_FILE);
+        Path tempFile = manifestPath.resolveSibling(MANIFEST_FILE + ".tmp");
+        JsonUtil.saveJsonFile(newManifest, tempFile);
+        FileUtil.moveReplacing(tempFile, manifestPath);
+        deleteUnreferencedFiles(directory, newManifest);
+
+        if (directory.equals(this.directory)) {
+            recordBaseline(addressBook, newRanks, newManifest, newFingerprints);
+        }
+    }
+
+    /**
+     * Saves the data in {@code dataFile}, which may be a json or binary data file, to {@code directory},
+     * unless {@code directory} already holds sharded data. {@code dataFile} is left as it is.
+     *
+     * @return true if the data was converted.
+     */
+    public static boolean convertFrom(Path dataFile, Path directory) throws DataLoadingException, IOException {
+        requireNonNull(dataFile);
+        requireNonNull(directory);
+        if (Files.exists(directory.resolve(MANIFEST_FILE))) {
+            return false;
+        }
+
+        AddressBookStorage source = BinaryAddressBookStorage.isBinaryFile(dataFile)
+                ? new BinaryAddressBookStorage(dataFile)
+                : new JournaledAddressBookStorage(dataFile);
+        Optional<ReadOnlyAddressBook> data = source.readAddressBook();
+        if (data.isEmpty()) {
+            return false;
+        }
+        new ShardedAddressBookStorage(directory).saveAddressBook(data.get());
+        logger.info("Converted " + dataFile + " to sharded data in " + directory);
+        return true;
+    }
+
+    private void recordBaseline(ReadOnlyAddressBook addressBook, long[] savedRanks,
+                                JsonAdaptedShardManifest savedManifest, long[] savedFingerprints) {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Long> newRanks = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            newRanks.put(keyOf(persons.get(i)), savedRanks[i]);
+        }
+        ranks = newRanks;
+        manifest = savedManifest;
+        shardFingerprints = savedFingerprints;
+        groupsFingerprint = AddressBookFingerprints.ofGroups(addressBook);
+        remindersFingerprint = AddressBookFingerprints.ofReminders(addressBook);
+        hasBaseline = true;
+    }
+
+    /**
+     * Returns a rank for each of {@code persons} that increases along the list, keeping the rank in
+     * {@code knownRanks} wherever that is still in order.
+     */
+    private static long[] assignRanks(List<Person> persons, Map<String, Long> knownRanks) {
+        long[] result = new long[persons.size()];
+        long previous = -RANK_GAP;
+        for (int i = 0; i < persons.size(); i++) {
+            Long rank = knownRanks.get(keyOf(persons.get(i)));
+            if (rank == null || rank <= previous) {
+                Long next = i + 1 < persons.size() ? knownRanks.get(keyOf(persons.get(i + 1))) : null;
+                rank = next != null && next - previous > 1
+                        ? previous + (next - previous) / 2
+                        : previous + RANK_GAP;
+            }
+            result[i] = rank;
+            previous = rank;
+        }
+        return result;
+    }
+
+    private long[] fingerprintShards(List<Person> persons, long[] personRanks, int shardCount) {
+        long[] fingerprints = new long[shardCount];
+        Arrays.fill(fingerprints, AddressBookFingerprints.FNV_OFFSET_BASIS);
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            int shard = shardOf(person, shardCount);
+            fingerprints[shard] = AddressBookFingerprints.mix(fingerprints[shard], personRanks[i]);
+            fingerprints[shard] = AddressBookFingerprints.mix(fingerprints[shard], fingerprintCache.get(person));
+        }
+        fingerprintCache.evictUnused();
+        return fingerprints;
+    }
+
+    private static int shardCountFor(int personCount) {
+        int shardCount = 1;
+        while (shardCount * SHARD_SIZE < personCount) {
+            shardCount *= 2;
+        }
+        return shardCount;
+    }
+
+    private static int shardOf(Person person, int shardCount) {
+        return Math.floorMod(keyOf(person).hashCode(), shardCount);
+    }
+
+    private static String keyOf(Person person) {
+        return JsonAdaptedJournalEntry.nameKey(person.getName().fullName);
+    }
+
+    private static void writeShard(Path file, List<Person> persons, long[] personRanks, int shard, int shardCount)
+            throws IOException {
+        List<Long> shardRanks = new ArrayList<>();
+        List<JsonAdaptedPerson> shardPersons = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (shardOf(persons.get(i), shardCount) == shard) {
+                shardRanks.add(personRanks[i]);
+                shardPersons.add(new JsonAdaptedPerson(persons.get(i)));
+            }
+        }
+        Map<String, Iterable<?>> arrays = new LinkedHashMap<>();
+        arrays.put("ranks", shardRanks);
+        arrays.put("students", shardPersons);
+        writeArrays(file, arrays);
+    }
+
+    private static void readShard(Path file, List<RankedStudent> students) throws IOException, IllegalValueException {
+        List<Long> shardRanks = new ArrayList<>();
+        List<JsonAdaptedPerson> shardPersons = new ArrayList<>();
+        JsonUtil.readJsonArrays(file, Map.of(
+                "ranks", ArrayElementHandler.of(Long.class, shardRanks::add),
+                "students", ArrayElementHandler.of(JsonAdaptedPerson.class, shardPersons::add)));
+        if (shardRanks.size() != shardPersons.size()) {
+            throw new IllegalValueException("Student shard " + file.getFileName() + " is corrupted.");
+        }
+        for (int i = 0; i < shardPersons.size(); i++) {
+            students.add(new RankedStudent(shardRanks.get(i), shardPersons.get(i)));
+        }
+    }
+
+    /**
+     * Writes {@code arrays} to {@code file} through a temporary file, so that {@code file} is never seen half-written.
+     */
+    private static void writeArrays(Path file, Map<String, ? extends Iterable<?>> arrays) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        JsonUtil.saveJsonArrays(tempFile, arrays, false);
+        FileUtil.moveReplacing(tempFile, file);
+    }
+
+    private static long readGeneration(Path directory) {
+        try {
+            return JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE), JsonAdaptedShardManifest.class)
+                    .map(JsonAdaptedShardManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataLoadingException e) {
+            logger.warning("Manifest in " + directory + " could not be read, starting from generation 0: " + e);
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the data files of earlier generations that {@code manifest} no longer refers to.
+     * Failures are only logged, as the files are harmless apart from the space they take.
+     */
+    private static void deleteUnreferencedFiles(Path directory, JsonAdaptedShardManifest manifest) {
+        Set<String> referenced = new HashSet<>(manifest.getFileNames());
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (DATA_FILE_PATTERN.matcher(name).matches() && !referenced.contains(name)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not delete old data files in " + directory + ": " + ioe);
+        }
+    }
+
+    /**
+     * A saved student together with its rank in the student list.
+     */
+    private static class RankedStudent {
+        private final long rank;
+        private final JsonAdaptedPerson person;
+
+        RankedStudent(long rank, JsonAdaptedPerson person) {
+            this.rank = rank;
+            this.person = person;
+        }
+    }
+}
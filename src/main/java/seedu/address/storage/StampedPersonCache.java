@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Caches a value derived from each person, such as its serialized form, for as long as the person is unchanged.
+ * <p>
+ * Values are keyed by {@link Person#getModificationStamp()}, which changes whenever the person changes and is
+ * kept by the copies in {@link AddressBookSnapshot}. A value is dropped once its person has not been looked up
+ * between two calls to {@link #evictUnused()}, so the cache never outgrows the address book.
+ */
+final class StampedPersonCache<V> {
+
+    private final Function<Person, V> compute;
+    private Map<Long, V> used = new HashMap<>();
+    private Map<Long, V> unused = new HashMap<>();
+    private long computeCount = 0;
+
+    StampedPersonCache(Function<Person, V> compute) {
+        this.compute = compute;
+    }
+
+    /**
+     * Returns the value for {@code person}, computing it only if the person changed since it was last computed.
+     */
+    synchronized V get(Person person) {
+        long stamp = person.getModificationStamp();
+        V value = used.get(stamp);
+        if (value != null) {
+            return value;
+        }
+        value = unused.remove(stamp);
+        if (value == null) {
+            value = compute.apply(person);
+            computeCount++;
+        }
+        used.put(stamp, value);
+        return value;
+    }
+
+    /**
+     * Drops the values of persons that were not looked up since the previous call.
+     */
+    synchronized void evictUnused() {
+        unused = used;
+        used = new HashMap<>();
+    }
+
+    /** Returns the number of values computed so far. */
+    synchronized long getComputeCount() {
+        return computeCount;
+    }
+}
@@ -8,11 +8,13 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.payment.PaymentLedger;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, AttendanceStorage, PaymentStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -29,4 +31,24 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void saveAttendance(AttendanceIndex attendance) throws IOException;
+
+    @Override
+    void savePayments(PaymentLedger payments) throws IOException;
+
+    /**
+     * Writes any address book saves that are still pending and waits for them, and for anything the
+     * address book storage writes in the background, to complete.
+     *
+     * @throws IOException if a pending save, or an earlier save made in the background, failed.
+     */
+    @Override
+    void flush() throws IOException;
+
+    /**
+     * Returns the current statistics of the background writer used for address book saves.
+     */
+    WriteBehindMetrics getWriteBehindMetrics();
+
 }
@@ -1,8 +1,19 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,22 +21,94 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.attendance.AttendanceLoader;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * By default every save is written before it returns. In write-behind mode (a positive flush interval), a save
+ * only takes a snapshot of the address book, of the attendance years changed since they were last saved, or of
+ * the payments; the snapshots are written in that order by a single background writer once the flush interval
+ * has passed, and any saves requested in the meantime are coalesced into the latest ones. A failed background
+ * write is reported by the next save or by {@link #flush()}, and failed attendance years and payments are
+ * taken again by the next save of them.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AttendanceStorage attendanceStorage;
+    private PaymentStorage paymentStorage;
+
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService writer;
+
+    // Guarded by this. Latest unwritten snapshot per target file, in the order they were first requested.
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new LinkedHashMap<>();
+    // Guarded by this. Latest unwritten attendance and payments, and what failed writes of them left unsaved.
+    private AttendanceIndex pendingAttendance;
+    private PaymentLedger pendingPayments;
+    private final Set<Integer> unwrittenAttendanceYears = new TreeSet<>();
+    private boolean hasUnwrittenPayments = false;
+    private boolean isFlushScheduled = false;
+    private int queueDepth = 0;
+    private long flushCount = 0;
+    private long coalescedSaveCount = 0;
+    private long lastFlushLatencyNanos = 0;
+    private long maxFlushLatencyNanos = 0;
+    private long totalFlushLatencyNanos = 0;
+    private IOException deferredException;
+
+    // Copies of the students in the latest snapshot; only used by the thread that requests saves
+    private final StampedPersonCache<Person> snapshotCopies = new StampedPersonCache<>(Person::deepCopy);
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that writes address book saves in the background at most once every {@code flushIntervalMillis}.
+     * A {@code flushIntervalMillis} of 0 writes every save immediately.
+     * Attendance is stored next to the address book, in {@link JsonAttendanceStorage#directoryFor(Path)}, and
+     * so are payments, in {@link JsonPaymentStorage#fileFor(Path)}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long flushIntervalMillis) {
+        this(addressBookStorage, userPrefsStorage, new JsonAttendanceStorage(
+                JsonAttendanceStorage.directoryFor(addressBookStorage.getAddressBookFilePath())),
+                new JsonPaymentStorage(JsonPaymentStorage.fileFor(addressBookStorage.getAddressBookFilePath())),
+                flushIntervalMillis);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given storages, that writes address book saves in the background
+     * at most once every {@code flushIntervalMillis}, together with attendance and payments.
+     * A {@code flushIntervalMillis} of 0 writes every save immediately.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          AttendanceStorage attendanceStorage, PaymentStorage paymentStorage,
+                          long flushIntervalMillis) {
+        if (flushIntervalMillis < 0) {
+            throw new IllegalArgumentException("Flush interval must not be negative");
+        }
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.attendanceStorage = attendanceStorage;
+        this.paymentStorage = paymentStorage;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.writer = flushIntervalMillis == 0 ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // ================ UserPrefs methods ==============================
@@ -46,6 +129,90 @@ public class StorageManager implements Storage {
     }
 
 
+    // ================ Attendance methods ==============================
+
+    @Override
+    public Path getAttendanceDirectoryPath() {
+        return attendanceStorage.getAttendanceDirectoryPath();
+    }
+
+    @Override
+    public AttendanceLoader readAttendance() {
+        return attendanceStorage.readAttendance();
+    }
+
+    /**
+     * Saves the years of {@code attendance} changed since they were last saved.
+     * In write-behind mode those years are copied and marked saved, and the copy is written later on the
+     * background writer; this method then throws the {@code IOException} of an earlier background write that
+     * failed, if any.
+     */
+    @Override
+    public void saveAttendance(AttendanceIndex attendance) throws IOException {
+        requireNonNull(attendance);
+        if (writer == null) {
+            logger.fine("Attempting to write attendance to: " + getAttendanceDirectoryPath());
+            attendanceStorage.saveAttendance(attendance);
+            return;
+        }
+
+        synchronized (this) {
+            // years already copied for a write that has not happened yet, or that failed, are copied again
+            Set<Integer> years = attendance.getUnsavedYears();
+            years.addAll(unwrittenAttendanceYears);
+            if (pendingAttendance != null) {
+                years.addAll(pendingAttendance.getUnsavedYears());
+            }
+            if (!years.isEmpty()) {
+                pendingAttendance = attendance.copyYears(years);
+                years.forEach(attendance::markSaved);
+                unwrittenAttendanceYears.clear();
+                scheduleFlush();
+            }
+        }
+        throwDeferredException();
+    }
+
+
+    // ================ Payment methods ==============================
+
+    @Override
+    public Path getPaymentFilePath() {
+        return paymentStorage.getPaymentFilePath();
+    }
+
+    @Override
+    public Optional<PaymentLedger> readPayments() throws DataLoadingException {
+        return paymentStorage.readPayments();
+    }
+
+    /**
+     * Saves {@code payments} if they changed since they were last saved.
+     * In write-behind mode the ledger is copied and marked saved, and the copy is written later on the
+     * background writer; this method then throws the {@code IOException} of an earlier background write that
+     * failed, if any.
+     */
+    @Override
+    public void savePayments(PaymentLedger payments) throws IOException {
+        requireNonNull(payments);
+        if (writer == null) {
+            logger.fine("Attempting to write payments to: " + getPaymentFilePath());
+            paymentStorage.savePayments(payments);
+            return;
+        }
+
+        synchronized (this) {
+            if (payments.hasUnsavedChanges() || hasUnwrittenPayments) {
+                pendingPayments = new PaymentLedger(payments);
+                payments.markSaved();
+                hasUnwrittenPayments = false;
+                scheduleFlush();
+            }
+        }
+        throwDeferredException();
+    }
+
+
     // ================ AddressBook methods ==============================
 
     @Override
@@ -61,7 +228,22 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        if (writer == null) {
+            return addressBookStorage.readAddressBook(filePath);
+        }
+
+        // Read on the writer thread after any pending saves, so that the read sees them.
+        try {
+            return runOnWriter(() -> {
+                writePendingSavesQuietly();
+                return addressBookStorage.readAddressBook(filePath);
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw new DataLoadingException(e);
+        }
     }
 
     @Override
@@ -69,10 +251,160 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Saves the given {@code addressBook} to {@code filePath}.
+     * In write-behind mode the write happens later on the background writer, and this method throws
+     * the {@code IOException} of an earlier background write that failed, if any.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (writer == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, snapshotCopies);
+        synchronized (this) {
+            if (pendingSaves.put(filePath, snapshot) != null) {
+                coalescedSaveCount++;
+            }
+            queueDepth++;
+            scheduleFlush();
+        }
+        throwDeferredException();
+    }
+
+    /**
+     * Writes all pending saves and waits for them, and for anything the address book storage writes in the
+     * background, to complete.
+     *
+     * @throws IOException if a pending save, or an earlier background save, failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (writer == null) {
+            addressBookStorage.flush();
+            return;
+        }
+        try {
+            runOnWriter(() -> {
+                writePendingSavesQuietly();
+                addressBookStorage.flush();
+                return null;
+            });
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+        throwDeferredException();
+    }
+
+    @Override
+    public synchronized WriteBehindMetrics getWriteBehindMetrics() {
+        return new WriteBehindMetrics(queueDepth, flushCount, coalescedSaveCount,
+                lastFlushLatencyNanos, maxFlushLatencyNanos, totalFlushLatencyNanos);
+    }
+
+    private <T> T runOnWriter(Callable<T> task) throws ExecutionException {
+        try {
+            return writer.submit(task).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException(ie);
+        }
+    }
+
+    /**
+     * Schedules the pending saves to be written once the flush interval has passed, unless they already are.
+     * Must be called holding the lock on this.
+     */
+    private void scheduleFlush() {
+        assert Thread.holdsLock(this);
+        if (!isFlushScheduled) {
+            isFlushScheduled = true;
+            writer.schedule(this::writePendingSavesQuietly, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void throwDeferredException() throws IOException {
+        IOException e = deferredException;
+        deferredException = null;
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    /**
+     * Writes every pending save: the address books, then the attendance, then the payments.
+     * Must only be called on the writer thread. A failure is kept to be reported by the next save or flush.
+     */
+    private void writePendingSavesQuietly() {
+        Map<Path, ReadOnlyAddressBook> toWrite;
+        AttendanceIndex attendance;
+        PaymentLedger payments;
+        synchronized (this) {
+            isFlushScheduled = false;
+            if (pendingSaves.isEmpty() && pendingAttendance == null && pendingPayments == null) {
+                return;
+            }
+            toWrite = new LinkedHashMap<>(pendingSaves);
+            pendingSaves.clear();
+            queueDepth = 0;
+            attendance = pendingAttendance;
+            pendingAttendance = null;
+            payments = pendingPayments;
+            pendingPayments = null;
+        }
+
+        long start = System.nanoTime();
+        IOException failure = null;
+        for (Map.Entry<Path, ReadOnlyAddressBook> save : toWrite.entrySet()) {
+            logger.fine("Attempting to write to data file: " + save.getKey());
+            try {
+                addressBookStorage.saveAddressBook(save.getValue(), save.getKey());
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (attendance != null) {
+            logger.fine("Attempting to write attendance to: " + getAttendanceDirectoryPath());
+            try {
+                attendanceStorage.saveAttendance(attendance);
+            } catch (IOException e) {
+                failure = e;
+                synchronized (this) {
+                    unwrittenAttendanceYears.addAll(attendance.getUnsavedYears());
+                }
+            }
+        }
+        if (payments != null) {
+            logger.fine("Attempting to write payments to: " + getPaymentFilePath());
+            try {
+                paymentStorage.savePayments(payments);
+            } catch (IOException e) {
+                failure = e;
+                synchronized (this) {
+                    hasUnwrittenPayments = true;
+                }
+            }
+        }
+        long latency = System.nanoTime() - start;
+
+        if (failure != null) {
+            logger.warning("Failed to write data in the background: " + failure.getMessage());
+        }
+        synchronized (this) {
+            // recorded together with the flush count so that observers never see one without the other
+            if (failure != null) {
+                deferredException = failure;
+            }
+            flushCount++;
+            lastFlushLatencyNanos = latency;
+            maxFlushLatencyNanos = Math.max(maxFlushLatencyNanos, latency);
+            totalFlushLatencyNanos += latency;
+        }
     }
 
 }
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A point-in-time view of the background writer used by {@link StorageManager} in write-behind mode.
+ */
+public class WriteBehindMetrics {
+
+    private final int queueDepth;
+    private final long flushCount;
+    private final long coalescedSaveCount;
+    private final long lastFlushLatencyNanos;
+    private final long maxFlushLatencyNanos;
+    private final long totalFlushLatencyNanos;
+
+    /**
+     * Creates a {@code WriteBehindMetrics} with the given values.
+     */
+    public WriteBehindMetrics(int queueDepth, long flushCount, long coalescedSaveCount,
+                              long lastFlushLatencyNanos, long maxFlushLatencyNanos, long totalFlushLatencyNanos) {
+        this.queueDepth = queueDepth;
+        this.flushCount = flushCount;
+        this.coalescedSaveCount = coalescedSaveCount;
+        this.lastFlushLatencyNanos = lastFlushLatencyNanos;
+        this.maxFlushLatencyNanos = maxFlushLatencyNanos;
+        this.totalFlushLatencyNanos = totalFlushLatencyNanos;
+    }
+
+    /** Returns the number of saves requested since the last flush that have not been written yet. */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /** Returns the number of flushes that wrote data to disk. */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /** Returns the number of requested saves that were absorbed into a later save instead of being written. */
+    public long getCoalescedSaveCount() {
+        return coalescedSaveCount;
+    }
+
+    public double getLastFlushLatencyMillis() {
+        return lastFlushLatencyNanos / 1e6;
+    }
+
+    public double getMaxFlushLatencyMillis() {
+        return maxFlushLatencyNanos / 1e6;
+    }
+
+    /** Returns the mean time taken per flush, or 0 if nothing has been flushed. */
+    public double getAverageFlushLatencyMillis() {
+        return flushCount == 0 ? 0 : totalFlushLatencyNanos / 1e6 / flushCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("queueDepth", queueDepth)
+                .add("flushCount", flushCount)
+                .add("coalescedSaveCount", coalescedSaveCount)
+                .add("lastFlushLatencyMillis", getLastFlushLatencyMillis())
+                .add("maxFlushLatencyMillis", getMaxFlushLatencyMillis())
+                .add("averageFlushLatencyMillis", getAverageFlushLatencyMillis())
+                .toString();
+    }
+}
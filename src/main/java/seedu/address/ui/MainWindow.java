@@ -2,6 +2,9 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -13,6 +16,7 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
@@ -122,11 +126,12 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        seedu.address.ui.UiAttendanceAccess.install((name, date) ->
-                logic.peekModel().getAttendanceIndex().get(name, date).orElse(null), () ->
+        seedu.address.ui.UiAttendanceAccess.install((id, date) ->
+                logic.peekModel().getAttendanceIndex().lookup(id, date), () ->
                 logic.peekModel().getAttendanceIndex().getCurrentUiDate());
 
         seedu.address.ui.UiGroupAccess.install(logic::getGroupsOf);
+        UiPaymentAccess.install((id, year) -> logic.peekModel().getPaymentLedger().getPaidMonths(id, year));
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
@@ -190,6 +195,18 @@ public class MainWindow extends UiPart<Stage> {
         // (Optional) Better placeholder on dark UI
         groupFilterBox.setPromptText("Filter by group…");
 
+        startReminderClock();
+    }
+
+    /**
+     * Lets the model apply the reminder changes that fall due as time passes, checking once a minute, so the
+     * reminder panel stays correct while the app is left open.
+     */
+    private void startReminderClock() {
+        Timeline reminderClock = new Timeline(new KeyFrame(Duration.minutes(1), event ->
+                logic.peekModel().advanceReminderClock()));
+        reminderClock.setCycleCount(Animation.INDEFINITE);
+        reminderClock.play();
     }
 
     /**
@@ -1,8 +1,13 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
+import java.time.Month;
 import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 import javafx.fxml.FXML;
@@ -14,6 +19,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
 import seedu.address.model.group.GroupName;
@@ -144,7 +150,33 @@ public class PersonCard extends UiPart<Region> {
         title.getStyleClass().add("payment-status-title");
         paymentStatusContainer.getChildren().add(title);
 
-        HBox rectangles = person.getPaymentStatusRectangles();
-        paymentStatusContainer.getChildren().add(rectangles);
+        BitSet paidMonths = UiPaymentAccess.paidMonthsOf(person.getId(), LocalDate.now().getYear());
+        paymentStatusContainer.getChildren().add(createPaymentRectangles(paidMonths));
+    }
+
+    /**
+     * Returns a row with a column per month: the month's name above a rectangle that is green if
+     * {@code paidMonths}, where bit 0 is January, holds the month and red otherwise.
+     */
+    private static HBox createPaymentRectangles(BitSet paidMonths) {
+        HBox container = new HBox(4);
+
+        for (Month month : Month.values()) {
+            VBox monthColumn = new VBox(3);
+            monthColumn.setAlignment(Pos.CENTER);
+
+            Text monthLabel = new Text(month.getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+            monthLabel.setStyle("-fx-font-family: \"Segoe UI\"; -fx-font-size: 16px; -fx-fill: white;");
+
+            Rectangle rect = new Rectangle(24, 24);
+            rect.setFill(paidMonths.get(month.ordinal()) ? Color.GREEN : Color.RED);
+            rect.setStroke(Color.BLACK);
+            rect.setStrokeWidth(1);
+
+            monthColumn.getChildren().addAll(monthLabel, rect);
+            container.getChildren().add(monthColumn);
+        }
+
+        return container;
     }
 }
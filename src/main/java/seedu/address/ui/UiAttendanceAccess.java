@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
+import seedu.address.model.person.StudentId;
+
 /**
  * Provides a simple bridge for UI components to access attendance information
  * without requiring direct references to the {@code Model}.
@@ -16,7 +18,7 @@ import java.util.function.Supplier;
  */
 public final class UiAttendanceAccess {
     /** Function that returns the student's attendance status (true = present, false = absent, null = not recorded). */
-    private static BiFunction<String, LocalDate, Boolean> attendanceFn = (n, d) -> null;
+    private static BiFunction<StudentId, LocalDate, Boolean> attendanceFn = (n, d) -> null;
 
     /** Supplier that provides the current date used for attendance lookup. */
     private static Supplier<LocalDate> currentDateSupplier = LocalDate::now;
@@ -27,10 +29,10 @@ public final class UiAttendanceAccess {
     /**
      * Installs the function and date supplier used by UI elements to query attendance.
      *
-     * @param fn a function mapping (student name, date) → attendance status
+     * @param fn a function mapping (student id, date) → attendance status
      * @param dateSupplier a supplier providing the current date to query
      */
-    public static void install(BiFunction<String, LocalDate, Boolean> fn,
+    public static void install(BiFunction<StudentId, LocalDate, Boolean> fn,
                                Supplier<LocalDate> dateSupplier) {
         attendanceFn = fn;
         currentDateSupplier = dateSupplier;
@@ -39,10 +41,10 @@ public final class UiAttendanceAccess {
     /**
      * Returns the attendance status for the given student on the current UI date.
      *
-     * @param name the student's name
+     * @param id the student's id
      * @return {@code true} if present, {@code false} if absent, or {@code null} if not recorded
      */
-    public static Boolean getStatus(String name) {
-        return attendanceFn.apply(name, currentDateSupplier.get());
+    public static Boolean getStatus(StudentId id) {
+        return attendanceFn.apply(id, currentDateSupplier.get());
     }
 }
@@ -0,0 +1,35 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.BiFunction;
+
+import seedu.address.model.person.StudentId;
+
+/**
+ * Minimal bridge so UI nodes (e.g., PersonCard) can obtain payment info
+ * without threading the Logic reference through every node.
+ *
+ * Install once from MainWindow:
+ *   UiPaymentAccess.install((id, year) -> ...);
+ */
+public final class UiPaymentAccess {
+
+    private static BiFunction<StudentId, Integer, BitSet> paidMonthsFn = (id, year) -> new BitSet(12);
+
+    private UiPaymentAccess() {}
+
+    /**
+     * Installs the function used by UI nodes to fetch the months of a year a student has paid for,
+     * as a set of bits where bit 0 is January.
+     */
+    public static void install(BiFunction<StudentId, Integer, BitSet> paidMonths) {
+        paidMonthsFn = requireNonNull(paidMonths);
+    }
+
+    /** Returns the months of {@code year} the given student has paid for, where bit 0 is January. */
+    public static BitSet paidMonthsOf(StudentId id, int year) {
+        return paidMonthsFn.apply(requireNonNull(id), year);
+    }
+}
@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil.ArrayElementHandler;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +47,55 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_singleLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, true);
+
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertFalse(json.contains("\n"));
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), json);
+    }
+
+    @Test
+    public void saveAndReadJsonArrays_elementsInOrder() throws Exception {
+        Map<String, List<Integer>> arrays = new LinkedHashMap<>();
+        arrays.put("odd", List.of(1, 3, 5));
+        arrays.put("skipped", List.of(7));
+        arrays.put("even", List.of(2, 4));
+        JsonUtil.saveJsonArrays(SERIALIZATION_FILE, arrays, false);
+
+        List<Integer> odd = new ArrayList<>();
+        List<Integer> even = new ArrayList<>();
+        JsonUtil.readJsonArrays(SERIALIZATION_FILE, Map.of(
+                "odd", ArrayElementHandler.of(Integer.class, odd::add),
+                "even", ArrayElementHandler.of(Integer.class, even::add)));
+
+        assertEquals(List.of(1, 3, 5), odd);
+        assertEquals(List.of(2, 4), even);
+    }
+
+    @Test
+    public void readJsonArrays_handlerRejectsElement_throwsIllegalValueException() throws Exception {
+        JsonUtil.saveJsonArrays(SERIALIZATION_FILE, Map.of("values", List.of(1, -1)), true);
+
+        assertThrows(IllegalValueException.class, "negative", () -> JsonUtil.readJsonArrays(SERIALIZATION_FILE,
+                Map.of("values", ArrayElementHandler.of(Integer.class, value -> {
+                    if (value < 0) {
+                        throw new IllegalValueException("negative");
+                    }
+                }))));
+    }
+
+    @Test
+    public void readJsonArrays_notJsonObject_throwsIOException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ 1, 2 ]");
+
+        assertThrows(IOException.class, () -> JsonUtil.readJsonArrays(SERIALIZATION_FILE, Map.of()));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
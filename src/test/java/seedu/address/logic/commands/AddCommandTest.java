@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,6 +32,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.attendance.AttendanceIndex;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.reminder.UnmodifiablePaymentReminder;
@@ -205,6 +211,66 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void refreshRemindersOf(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void advanceReminderClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MemberBitmap searchPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> suggestPersonNames(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByName(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(String phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByLessonTime(String lessonTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPersonShown(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addHomework(Person person, Homework homework) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteHomework(Person person, Homework homework) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setHomeworkDone(Person person, Homework homework, boolean isDone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public HomeworkDeadlineIndex getHomeworkIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public AttendanceIndex getAttendanceIndex() {
             return new AttendanceIndex(); // harmless default for existing add tests
@@ -250,6 +316,21 @@ public class AddCommandTest {
         public Set<GroupName> getGroupsOf(Person person) {
             return Collections.emptySet();
         }
+
+        @Override
+        public MemberBitmap getMembersOf(GroupName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PaymentLedger getPaymentLedger() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPaymentStatus(List<Person> persons, YearMonth month, boolean isPaid) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -305,6 +386,16 @@ public class AddCommandTest {
                 }
             }
         }
+
+        @Override
+        public void refreshRemindersOf(Person person) {
+            int currentMonth = LocalDate.now().getMonth().getValue();
+            UnmodifiablePaymentReminder reminder =
+                    UnmodifiablePaymentReminder.of(currentMonth, person, getMonthName(currentMonth));
+            if (!reminderAdded.contains(reminder)) {
+                reminderAdded.add(reminder);
+            }
+        }
     }
 
 }
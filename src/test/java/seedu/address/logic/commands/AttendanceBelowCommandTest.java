@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttendanceBelowCommandTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 31);
+    private static final GroupName GROUP_A = GroupName.of("Group A");
+
+    private final Person alice = new PersonBuilder().withName("Alice Pauline").build();
+    private final Person benson = new PersonBuilder().withName("Benson Meier").withPhone("98765432").build();
+    private final Person carl = new PersonBuilder().withName("Carl Kurz").withPhone("95352563").build();
+    private final Person daniel = new PersonBuilder().withName("Daniel Meier").withPhone("87652533").build();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        for (Person person : List.of(alice, benson, carl, daniel)) {
+            model.addPerson(person);
+        }
+        model.createGroup(GROUP_A);
+        model.addToGroup(GROUP_A, List.of(alice, carl));
+
+        AttendanceIndex attendance = model.getAttendanceIndex();
+        // Alice: 1 of 4, Benson: 2 of 4, Carl: 4 of 4, Daniel: nothing recorded
+        for (int week = 0; week < 4; week++) {
+            attendance.put(alice.getId(), FROM.plusDays(week * 7), week == 0);
+            attendance.put(benson.getId(), FROM.plusDays(week * 7), week % 2 == 0);
+            attendance.put(carl.getId(), FROM.plusDays(week * 7), true);
+        }
+    }
+
+    @Test
+    public void execute_everyStudent_lowestRateFirst() throws Exception {
+        CommandResult result = new AttendanceBelowCommand(FROM, TO, 75, Optional.empty()).execute(model);
+
+        assertEquals(String.format(AttendanceBelowCommand.MESSAGE_SUCCESS, 2, "75", FROM, TO)
+                + "\n1. Alice Pauline: 25.0% (present 1 of 4), longest absence streak: 3"
+                + "\n2. Benson Meier: 50.0% (present 2 of 4), longest absence streak: 1",
+                result.getFeedbackToUser());
+        assertEquals(List.of(alice, benson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_group_onlyMembers() throws Exception {
+        CommandResult result = new AttendanceBelowCommand(FROM, TO, 100, Optional.of(GROUP_A)).execute(model);
+
+        assertEquals(String.format(AttendanceBelowCommand.MESSAGE_SUCCESS, 1, "100", FROM, TO)
+                + "\n1. Alice Pauline: 25.0% (present 1 of 4), longest absence streak: 3",
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidInput_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new AttendanceBelowCommand(TO, FROM, 50, Optional.empty())
+                .execute(model));
+        assertThrows(CommandException.class, () -> new AttendanceBelowCommand(FROM, TO, 101, Optional.empty())
+                .execute(model));
+        assertThrows(CommandException.class, () -> new AttendanceBelowCommand(FROM, TO, 50,
+                Optional.of(GroupName.of("Group B"))).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceBelowCommand below = new AttendanceBelowCommand(FROM, TO, 75, Optional.empty());
+
+        assertTrue(below.equals(new AttendanceBelowCommand(FROM, TO, 75, Optional.empty())));
+        assertFalse(below.equals(new AttendanceBelowCommand(FROM, TO, 80, Optional.empty())));
+        assertFalse(below.equals(new AttendanceBelowCommand(FROM, TO, 75, Optional.of(GROUP_A))));
+        assertFalse(below.equals(null));
+    }
+}
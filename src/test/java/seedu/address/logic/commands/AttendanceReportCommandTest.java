@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttendanceReportCommandTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 31);
+    private static final GroupName GROUP_A = GroupName.of("Group A");
+
+    private final Person alice = new PersonBuilder().withName("Alice Pauline").build();
+    private final Person benson = new PersonBuilder().withName("Benson Meier").withPhone("98765432").build();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(alice);
+        model.addPerson(benson);
+        model.createGroup(GROUP_A);
+        model.addToGroup(GROUP_A, List.of(benson));
+
+        AttendanceIndex attendance = model.getAttendanceIndex();
+        // Alice: 3 of 4, Benson: 1 of 4 with the last three absent
+        for (int week = 0; week < 4; week++) {
+            attendance.put(alice.getId(), FROM.plusDays(week * 7), week != 1);
+            attendance.put(benson.getId(), FROM.plusDays(week * 7), week == 0);
+        }
+        // outside the range
+        attendance.put(alice.getId(), TO.plusDays(1), false);
+    }
+
+    @Test
+    public void execute_oneStudent_reportsStudent() throws Exception {
+        CommandResult result = new AttendanceReportCommand(FROM, TO, Optional.of(Index.fromOneBased(1)),
+                Optional.empty()).execute(model);
+
+        assertEquals(String.format(AttendanceReportCommand.MESSAGE_HEADER, FROM, TO)
+                + "\nAlice Pauline: 75.0% (present 3 of 4), longest absence streak: 1",
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_group_reportsGroupAndMembers() throws Exception {
+        CommandResult result = new AttendanceReportCommand(FROM, TO, Optional.empty(), Optional.of(GROUP_A))
+                .execute(model);
+
+        assertEquals(String.format(AttendanceReportCommand.MESSAGE_HEADER, FROM, TO)
+                + "\nGroup A: 25.0% (present 1 of 4), longest absence streak: 3"
+                + "\n1. Benson Meier: 25.0% (present 1 of 4), longest absence streak: 3",
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_everyStudent_reportsTotalAndEachStudent() throws Exception {
+        CommandResult result = new AttendanceReportCommand(FROM, TO, Optional.empty(), Optional.empty())
+                .execute(model);
+
+        assertEquals(String.format(AttendanceReportCommand.MESSAGE_HEADER, FROM, TO)
+                + "\nAll students: 50.0% (present 4 of 8), longest absence streak: 3"
+                + "\n1. Alice Pauline: 75.0% (present 3 of 4), longest absence streak: 1"
+                + "\n2. Benson Meier: 25.0% (present 1 of 4), longest absence streak: 3",
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidInput_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new AttendanceReportCommand(TO, FROM, Optional.empty(),
+                Optional.empty()).execute(model));
+        assertThrows(CommandException.class, () -> new AttendanceReportCommand(FROM, TO,
+                Optional.of(Index.fromOneBased(3)), Optional.empty()).execute(model));
+        assertThrows(CommandException.class, () -> new AttendanceReportCommand(FROM, TO, Optional.empty(),
+                Optional.of(GroupName.of("Group B"))).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceReportCommand report = new AttendanceReportCommand(FROM, TO, Optional.empty(),
+                Optional.of(GROUP_A));
+
+        assertTrue(report.equals(report));
+        assertTrue(report.equals(new AttendanceReportCommand(FROM, TO, Optional.empty(), Optional.of(GROUP_A))));
+        assertFalse(report.equals(new AttendanceReportCommand(FROM, TO, Optional.empty(), Optional.empty())));
+        assertFalse(report.equals(new AttendanceReportCommand(FROM, FROM, Optional.empty(), Optional.of(GROUP_A))));
+        assertFalse(report.equals(null));
+    }
+}
@@ -17,6 +17,10 @@ import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -27,6 +31,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.group.GroupName;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -47,7 +52,7 @@ public class EditCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setPerson(model.getFilteredPersonList().get(0), editedPerson);
-        expectedModel.refreshReminders();
+        expectedModel.refreshRemindersOf(editedPerson);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
@@ -68,7 +73,7 @@ public class EditCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setPerson(lastPerson, editedPerson);
-        expectedModel.refreshReminders();
+        expectedModel.refreshRemindersOf(editedPerson);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
@@ -81,7 +86,7 @@ public class EditCommandTest {
         String expectedMessage = String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
-        expectedModel.refreshReminders();
+        expectedModel.refreshRemindersOf(editedPerson);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
@@ -99,7 +104,7 @@ public class EditCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setPerson(model.getFilteredPersonList().get(0), editedPerson);
-        expectedModel.refreshReminders();
+        expectedModel.refreshRemindersOf(editedPerson);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
@@ -216,4 +221,24 @@ public class EditCommandTest {
                 + "Edited Student: Amy Bee; Phone Number: 85355255; Lesson Time: 10:00 am Sat;";
         assertEquals(new CommandResult(expectedMessage), result);
     }
+
+    @Test
+    public void execute_renamePerson_keepsIdGroupsAndParticipation() throws CommandException {
+        Model model = new ModelManager();
+        Person person = new PersonBuilder().build();
+        person.getParticipation().add(LocalDate.of(2025, 10, 1), 4);
+        model.addPerson(person);
+        GroupName group = GroupName.of("Math");
+        model.createGroup(group);
+        model.addToGroup(group, List.of(person));
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
+        new EditCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        Person editedPerson = model.getFilteredPersonList().get(0);
+        assertEquals(VALID_NAME_BOB, editedPerson.getName().fullName);
+        assertEquals(person.getId(), editedPerson.getId());
+        assertEquals(Set.of(group), model.getGroupsOf(editedPerson));
+        assertEquals(person.getParticipation().asList(), editedPerson.getParticipation().asList());
+    }
 }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -23,6 +24,11 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.attendance.AttendanceIndex;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.testutil.PersonBuilder;
@@ -152,6 +158,21 @@ public class GroupAddCommandTest {
             return Set.of();
         }
 
+        @Override
+        public MemberBitmap getMembersOf(GroupName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PaymentLedger getPaymentLedger() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPaymentStatus(List<Person> persons, YearMonth month, boolean isPaid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // ----- Person list plumbing used by command -----
         @Override
         public ObservableList<Person> getFilteredPersonList() {
@@ -267,5 +288,65 @@ public class GroupAddCommandTest {
         public void refreshReminders() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void refreshRemindersOf(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void advanceReminderClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MemberBitmap searchPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> suggestPersonNames(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByName(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(String phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByLessonTime(String lessonTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPersonShown(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addHomework(Person person, Homework homework) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteHomework(Person person, Homework homework) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setHomeworkDone(Person person, Homework homework, boolean isDone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public HomeworkDeadlineIndex getHomeworkIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class GroupFilterCommandTest {
+
+    private static final GroupName MATH = GroupName.of("Sec3-Math");
+    private static final GroupName SCIENCE = GroupName.of("Sec3-Sci");
+    private static final GroupName ENGLISH = GroupName.of("Sec3-Eng");
+
+    private final Person alice = new PersonBuilder().withName("Alice Pauline").build();
+    private final Person benson = new PersonBuilder().withName("Benson Meier").withPhone("98765432").build();
+    private final Person carl = new PersonBuilder().withName("Carl Kurz").withPhone("95352563").build();
+    private final Person daniel = new PersonBuilder().withName("Daniel Meier").withPhone("87652533").build();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        for (Person person : List.of(alice, benson, carl, daniel)) {
+            model.addPerson(person);
+        }
+        for (GroupName group : List.of(MATH, SCIENCE, ENGLISH)) {
+            model.createGroup(group);
+        }
+        model.addToGroup(MATH, List.of(alice, benson, carl));
+        model.addToGroup(SCIENCE, List.of(benson, daniel));
+        model.addToGroup(ENGLISH, List.of(carl));
+    }
+
+    @Test
+    public void execute_difference_showsMatchingStudents() throws Exception {
+        CommandResult result = new GroupFilterCommand(List.of(MATH), List.of(), List.of(SCIENCE)).execute(model);
+
+        assertEquals(String.format(GroupFilterCommand.MESSAGE_SUCCESS, 2, "Sec3-Math and not Sec3-Sci"),
+                result.getFeedbackToUser());
+        assertEquals(List.of(alice, carl), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_intersection_showsMatchingStudents() throws Exception {
+        new GroupFilterCommand(List.of(MATH, SCIENCE), List.of(), List.of()).execute(model);
+        assertEquals(List.of(benson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unionAndDifference_showsMatchingStudents() throws Exception {
+        CommandResult result = new GroupFilterCommand(List.of(), List.of(SCIENCE, ENGLISH), List.of(MATH))
+                .execute(model);
+
+        assertEquals(String.format(GroupFilterCommand.MESSAGE_SUCCESS, 1, "(Sec3-Sci or Sec3-Eng) and not Sec3-Math"),
+                result.getFeedbackToUser());
+        assertEquals(List.of(daniel), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_membersEditedAfterJoining_stillMatched() throws Exception {
+        model.setPerson(alice, alice.withFields(new Name("Alice Tan"), new Phone("91111111"), alice.getLessonTime()));
+        new GroupFilterCommand(List.of(MATH), List.of(), List.of(SCIENCE)).execute(model);
+        assertEquals(2, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_unknownGroup_throwsCommandException() {
+        GroupName unknown = GroupName.of("Sec4-Math");
+        GroupFilterCommand command = new GroupFilterCommand(List.of(MATH), List.of(), List.of(unknown));
+        CommandException thrown = assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(String.format(GroupFilterCommand.MESSAGE_GROUP_NOT_FOUND, unknown), thrown.getMessage());
+    }
+
+    @Test
+    public void equals() {
+        GroupFilterCommand command = new GroupFilterCommand(List.of(MATH), List.of(), List.of(SCIENCE));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new GroupFilterCommand(List.of(MATH), List.of(), List.of(SCIENCE))));
+        assertFalse(command.equals(new GroupFilterCommand(List.of(MATH), List.of(SCIENCE), List.of())));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MarkAttendanceCommandTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 19);
+
+    private final Person alice = new PersonBuilder().withName("Alice Pauline").build();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(alice);
+    }
+
+    @Test
+    public void execute_absent_recordedAndReplacedLater() throws Exception {
+        CommandResult result = new MarkAttendanceCommand(Index.fromOneBased(1), DATE, false).execute(model);
+
+        assertEquals(String.format(MarkAttendanceCommand.MESSAGE_SUCCESS, "Alice Pauline", "absent", DATE),
+                result.getFeedbackToUser());
+        assertEquals(Optional.of(false), model.getAttendanceIndex().get(alice.getId(), DATE));
+
+        new MarkAttendanceCommand(Index.fromOneBased(1), DATE, true).execute(model);
+        assertEquals(Optional.of(true), model.getAttendanceIndex().get(alice.getId(), DATE));
+    }
+
+    @Test
+    public void execute_indexOutOfRange_throwsCommandException() {
+        CommandException e = assertThrows(CommandException.class, () ->
+                new MarkAttendanceCommand(Index.fromOneBased(2), DATE, true).execute(model));
+        assertEquals(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, e.getMessage());
+    }
+
+    @Test
+    public void equals() {
+        MarkAttendanceCommand command = new MarkAttendanceCommand(Index.fromOneBased(1), DATE, true);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new MarkAttendanceCommand(Index.fromOneBased(1), DATE, true)));
+        assertFalse(command.equals(new MarkAttendanceCommand(Index.fromOneBased(1), DATE, false)));
+        assertFalse(command.equals(new MarkAttendanceCommand(Index.fromOneBased(2), DATE, true)));
+        assertFalse(command.equals(new MarkAttendanceCommand(Index.fromOneBased(1), DATE.plusDays(1), true)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,7 +46,7 @@ public class MarkPaidCommandTest {
         MarkPaidCommand markPaidCommand = new MarkPaidCommand(index, month);
         markPaidCommand.execute(model);
 
-        assertTrue(model.getFilteredPersonList().get(0).isPaidForMonth(5));
+        assertTrue(isPaid(model, model.getFilteredPersonList().get(0), 5));
         assertEquals(1, model.getFilteredReminderList().size()); // payment not for current month
     }
 
@@ -71,7 +73,7 @@ public class MarkPaidCommandTest {
     @Test
     public void execute_alreadyPaid_throwsCommandException() throws Exception {
         Person personToMark = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        personToMark.setPaymentStatus(6, true);
+        model.setPaymentStatus(List.of(personToMark), YearMonth.of(LocalDate.now().getYear(), 6), true);
 
         MarkPaidCommand markPaidCommand = new MarkPaidCommand(INDEX_FIRST_PERSON, 6);
 
@@ -81,15 +83,51 @@ public class MarkPaidCommandTest {
         assertCommandFailure(markPaidCommand, model, expectedMessage);
     }
 
+    @Test
+    public void execute_severalStudents_allMarkedPaid() throws Exception {
+        Person first = model.getFilteredPersonList().get(0);
+        Person second = model.getFilteredPersonList().get(1);
+        YearMonth month = YearMonth.of(LocalDate.now().getYear(), 6);
+        model.setPaymentStatus(List.of(second), month, true);
+
+        MarkPaidCommand command = new MarkPaidCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(2),
+                Index.fromOneBased(3)), month);
+        CommandResult result = command.execute(model);
+
+        Person third = model.getFilteredPersonList().get(2);
+        assertEquals(String.format(MarkPaidCommand.MESSAGE_MARK_PAID_BULK_SUCCESS, 2, "June",
+                first.getName() + ", " + third.getName()), result.getFeedbackToUser());
+        assertTrue(isPaid(model, first, 6));
+        assertTrue(isPaid(model, third, 6));
+        assertTrue(model.getPaymentLedger().isPaid(third.getId(), month));
+
+        assertCommandFailure(command, model, String.format(MarkPaidCommand.MESSAGE_ALL_ALREADY_PAID, "June"));
+    }
+
+    @Test
+    public void execute_monthOfAnotherYear_thisYearUnchanged() throws Exception {
+        Person personToMark = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        YearMonth lastYear = YearMonth.of(LocalDate.now().getYear() - 1, 6);
+
+        new MarkPaidCommand(List.of(INDEX_FIRST_PERSON), lastYear).execute(model);
+        assertTrue(model.getPaymentLedger().isPaid(personToMark.getId(), lastYear));
+        assertFalse(isPaid(model, personToMark, 6));
+
+        // the same month of this year can still be marked
+        new MarkPaidCommand(INDEX_FIRST_PERSON, 6).execute(model);
+        assertTrue(isPaid(model, personToMark, 6));
+    }
+
     @Test
     public void execute_allMonths_success() throws Exception {
         for (int month = 1; month <= 12; month++) {
             Model testModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+            testModel.refreshReminders();
             Person personToMark = testModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
             MarkPaidCommand markPaidCommand = new MarkPaidCommand(INDEX_FIRST_PERSON, month);
 
             markPaidCommand.execute(testModel);
-            assertTrue(personToMark.isPaidForMonth(month));
+            assertTrue(isPaid(testModel, personToMark, month));
 
             int currentMonth = LocalDate.now().getMonth().getValue();
             int expectedSize = 11;
@@ -111,7 +149,7 @@ public class MarkPaidCommandTest {
 
         MarkPaidCommand markPaidCommand = new MarkPaidCommand(INDEX_FIRST_PERSON, currentMonth);
         markPaidCommand.execute(testModel);
-        assertTrue(personToMark.isPaidForMonth(currentMonth));
+        assertTrue(isPaid(testModel, personToMark, currentMonth));
         assertFalse(testModel.getFilteredReminderList().contains(reminder));
     }
 
@@ -149,4 +187,8 @@ public class MarkPaidCommandTest {
 
         assertFalse(markPaidFirst.equals(markPaidDifferentMonth));
     }
+
+    private static boolean isPaid(Model model, Person person, int month) {
+        return model.getPaymentLedger().isPaid(person.getId(), YearMonth.of(LocalDate.now().getYear(), month));
+    }
 }
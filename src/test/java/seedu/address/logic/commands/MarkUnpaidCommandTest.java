@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,13 +33,13 @@ public class MarkUnpaidCommandTest {
                 .withName("Alice Pauline")
                 .withPhone("94351253")
                 .withLessonTime("1000 Sat")
-                .withPaymentStatus("111111111111")
                 .build();
 
-        paidAlice.setPaymentStatus(5, true);
-
         Model model = new ModelManager();
         model.addPerson(paidAlice);
+        for (int paidMonth = 1; paidMonth <= 12; paidMonth++) {
+            model.setPaymentStatus(List.of(paidAlice), YearMonth.of(LocalDate.now().getYear(), paidMonth), true);
+        }
         model.refreshReminders();
 
         Index index = Index.fromOneBased(1);
@@ -45,8 +47,10 @@ public class MarkUnpaidCommandTest {
         MarkUnpaidCommand markUnpaidCommand = new MarkUnpaidCommand(index, month);
         markUnpaidCommand.execute(model);
 
-        assertFalse(model.getFilteredPersonList().get(0).isPaidForMonth(5));
-        assertEquals(1, model.getFilteredReminderList().size());
+        assertFalse(isPaid(model, model.getFilteredPersonList().get(0), 5));
+        // every other month is paid, so there is a payment reminder only if May is the current month
+        int expectedReminders = LocalDate.now().getMonthValue() == 5 ? 1 : 0;
+        assertEquals(expectedReminders, model.getFilteredReminderList().size());
     }
 
     @Test
@@ -73,7 +77,7 @@ public class MarkUnpaidCommandTest {
     public void execute_alreadyUnpaid_throwsCommandException() throws Exception {
         Person personToMark = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
 
-        personToMark.setPaymentStatus(6, false);
+        model.setPaymentStatus(List.of(personToMark), YearMonth.of(LocalDate.now().getYear(), 6), false);
 
         MarkUnpaidCommand markUnpaidCommand = new MarkUnpaidCommand(INDEX_FIRST_PERSON, 6);
 
@@ -89,13 +93,13 @@ public class MarkUnpaidCommandTest {
             Model testModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
             Person personToMark = testModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
 
-            personToMark.setPaymentStatus(month, true);
+            testModel.setPaymentStatus(List.of(personToMark), YearMonth.of(LocalDate.now().getYear(), month), true);
             testModel.refreshReminders();
 
             MarkUnpaidCommand markUnpaidCommand = new MarkUnpaidCommand(INDEX_FIRST_PERSON, month);
 
             markUnpaidCommand.execute(testModel);
-            assertFalse(personToMark.isPaidForMonth(month));
+            assertFalse(isPaid(testModel, personToMark, month));
             assertEquals(11, testModel.getFilteredReminderList().size());
         }
     }
@@ -106,7 +110,7 @@ public class MarkUnpaidCommandTest {
         Person personToMark = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
 
         int currentMonth = LocalDate.now().getMonth().getValue();
-        personToMark.setPaymentStatus(currentMonth, true);
+        model.setPaymentStatus(List.of(personToMark), YearMonth.now(), true);
         model.refreshReminders();
 
         MarkUnpaidCommand command = new MarkUnpaidCommand(INDEX_FIRST_PERSON, currentMonth);
@@ -140,4 +144,8 @@ public class MarkUnpaidCommandTest {
 
         assertFalse(markUnpaidFirst.equals(markUnpaidDifferentMonth));
     }
+
+    private static boolean isPaid(Model model, Person person, int month) {
+        return model.getPaymentLedger().isPaid(person.getId(), YearMonth.of(LocalDate.now().getYear(), month));
+    }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -24,6 +25,11 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.attendance.AttendanceIndex;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.ParticipationRecord;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
@@ -89,6 +95,11 @@ public class ParticipationCommandPersistenceTest {
             return norm(name).equals(norm(person.getName().fullName));
         }
 
+        @Override
+        public List<Person> findPersonsByName(String name) {
+            return hasPersonName(name) ? List.of(person) : List.of();
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             setPersonCalled = true;
@@ -97,6 +108,29 @@ public class ParticipationCommandPersistenceTest {
         // ===== Unused below (minimal stubs / defaults) =====
         @Override public void setUserPrefs(ReadOnlyUserPrefs userPrefs) { }
         @Override public void refreshReminders() {}
+        @Override public void refreshRemindersOf(Person person) {}
+        @Override public void advanceReminderClock() {}
+        @Override public MemberBitmap searchPersons(List<String> keywords) {
+            return MemberBitmap.EMPTY;
+        }
+        @Override public List<Name> suggestPersonNames(String name) {
+            return List.of();
+        }
+        @Override public List<Person> findPersonsByPhone(String phone) {
+            return List.of();
+        }
+        @Override public List<Person> findPersonsByLessonTime(String lessonTime) {
+            return List.of();
+        }
+        @Override public boolean isPersonShown(Person person) {
+            return true;
+        }
+        @Override public void addHomework(Person person, Homework homework) {}
+        @Override public void deleteHomework(Person person, Homework homework) {}
+        @Override public void setHomeworkDone(Person person, Homework homework, boolean isDone) {}
+        @Override public HomeworkDeadlineIndex getHomeworkIndex() {
+            return new HomeworkDeadlineIndex();
+        }
         @Override public ReadOnlyUserPrefs getUserPrefs() {
             return new UserPrefs();
         }
@@ -140,6 +174,19 @@ public class ParticipationCommandPersistenceTest {
         @Override public Set<GroupName> getGroupsOf(Person person) {
             return Collections.emptySet();
         }
+        @Override public MemberBitmap getMembersOf(GroupName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PaymentLedger getPaymentLedger() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPaymentStatus(List<Person> persons, YearMonth month, boolean isPaid) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     @Test
@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -23,6 +25,11 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.attendance.AttendanceIndex;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.ParticipationRecord;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
@@ -155,6 +162,16 @@ public class ParticipationCommandTest {
         assertEquals(LocalDate.parse("2025-09-24"), model.getAttendanceIndex().getCurrentUiDate());
     }
 
+    @Test
+    public void execute_success_studentMarkedPresent() throws Exception {
+        ModelStubWithPerson model = new ModelStubWithPerson("Alex Yeoh");
+        new ParticipationCommand("Alex Yeoh", "2025-09-24", "0").execute(model);
+
+        AttendanceIndex attendance = model.getAttendanceIndex();
+        assertEquals(Optional.of(true), attendance.get(model.person.getId(), LocalDate.parse("2025-09-24")));
+        assertEquals(Optional.empty(), attendance.get(model.person.getId(), LocalDate.parse("2025-09-25")));
+    }
+
     @Test
     public void execute_historyCapsAtFive_oldestDropped() throws Exception {
         ModelStubWithPerson model = new ModelStubWithPerson("Alex Yeoh");
@@ -218,6 +235,11 @@ public class ParticipationCommandTest {
             return norm(name).equals(norm(person.getName().fullName));
         }
 
+        @Override
+        public List<Person> findPersonsByName(String name) {
+            return hasPersonName(name) ? List.of(person) : List.of();
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             // Provide a tiny read-only view exposing just our person
@@ -349,6 +371,61 @@ public class ParticipationCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void refreshRemindersOf(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void advanceReminderClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MemberBitmap searchPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> suggestPersonNames(String name) {
+            return List.of();
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(String phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByLessonTime(String lessonTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPersonShown(Person person) {
+            return true;
+        }
+
+        @Override
+        public void addHomework(Person person, Homework homework) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteHomework(Person person, Homework homework) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setHomeworkDone(Person person, Homework homework, boolean isDone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public HomeworkDeadlineIndex getHomeworkIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // ===== Groups (no-op implementations for tests) =====
         @Override
         public boolean hasGroup(GroupName name) {
@@ -384,5 +461,20 @@ public class ParticipationCommandTest {
         public Set<GroupName> getGroupsOf(Person person) {
             return Collections.emptySet();
         }
+
+        @Override
+        public MemberBitmap getMembersOf(GroupName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PaymentLedger getPaymentLedger() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPaymentStatus(List<Person> persons, YearMonth month, boolean isPaid) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
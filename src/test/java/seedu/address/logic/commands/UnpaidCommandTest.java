@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class UnpaidCommandTest {
+    private static final YearMonth OCTOBER = YearMonth.of(2025, 10);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_oneMonth_showsStudentsWhoHaveNotPaid() {
+        List<Person> students = model.getFilteredPersonList();
+        model.setPaymentStatus(students.subList(1, students.size()), OCTOBER, true);
+
+        Person first = expectedModel.getFilteredPersonList().get(0);
+        expectedModel.updateFilteredPersonList(person -> person.getName().equals(first.getName()));
+        assertCommandSuccess(new UnpaidCommand(OCTOBER, 1), model,
+                String.format(UnpaidCommand.MESSAGE_SUCCESS, 1, Messages.format(OCTOBER)), expectedModel);
+    }
+
+    @Test
+    public void execute_severalMonths_paidInAnyMonthLeftOut() {
+        List<Person> students = List.copyOf(model.getFilteredPersonList());
+        int total = students.size();
+        model.setPaymentStatus(List.of(students.get(0)), OCTOBER.minusMonths(2), true);
+        model.setPaymentStatus(List.of(students.get(1)), OCTOBER.minusMonths(3), true);
+
+        new UnpaidCommand(OCTOBER, 3).execute(model);
+        assertEquals(total - 1, model.getFilteredPersonList().size());
+        assertFalse(model.getFilteredPersonList().contains(students.get(0)));
+
+        CommandResult result = new UnpaidCommand(OCTOBER, 4).execute(model);
+        assertEquals(String.format(UnpaidCommand.MESSAGE_SUCCESS_MONTHS, total - 2, 4, Messages.format(OCTOBER)),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        UnpaidCommand command = new UnpaidCommand(OCTOBER, 3);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new UnpaidCommand(OCTOBER, 3)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new UnpaidCommand(OCTOBER, 1)));
+        assertFalse(command.equals(new UnpaidCommand(OCTOBER.plusYears(1), 3)));
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.model.util.SampleDataUtil.getMonthName;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -30,7 +31,10 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.attendance.AttendanceIndex;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
 import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
 import seedu.address.model.person.LessonTime;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -108,6 +112,75 @@ public class AddHomeworkCommandTest {
             }
         }
 
+        @Override
+        public void refreshRemindersOf(Person person) {
+            int currentMonth = LocalDate.now().getMonth().getValue();
+            UnmodifiablePaymentReminder paymentReminder =
+                    UnmodifiablePaymentReminder.of(currentMonth, person, getMonthName(currentMonth));
+            if (!filteredReminders.contains(paymentReminder)) {
+                filteredReminders.add(paymentReminder);
+            }
+        }
+
+        @Override
+        public void advanceReminderClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MemberBitmap searchPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> suggestPersonNames(String name) {
+            return List.of();
+        }
+
+        @Override
+        public List<Person> findPersonsByName(String name) {
+            return filtered.stream().filter(p -> p.getName().fullName.equalsIgnoreCase(name)).toList();
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(String phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByLessonTime(String lessonTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPersonShown(Person person) {
+            return filtered.contains(person);
+        }
+
+        @Override
+        public void addHomework(Person person, Homework homework) {
+            person.addHomework(homework);
+        }
+
+        @Override
+        public void deleteHomework(Person person, Homework homework) {
+            person.removeHomework(homework);
+        }
+
+        @Override
+        public void setHomeworkDone(Person person, Homework homework, boolean isDone) {
+            if (isDone) {
+                homework.markDone();
+            } else {
+                homework.markUndone();
+            }
+        }
+
+        @Override
+        public HomeworkDeadlineIndex getHomeworkIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //These are methods not used by AddHomeworkCommand
 
         @Override
@@ -220,6 +293,21 @@ public class AddHomeworkCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public MemberBitmap getMembersOf(GroupName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PaymentLedger getPaymentLedger() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPaymentStatus(List<Person> persons, YearMonth month, boolean isPaid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void filterByGroup(GroupName name) {
             throw new AssertionError("This method should not be called.");
@@ -322,8 +410,8 @@ public class AddHomeworkCommandTest {
 
         assertTrue(marcus.getHomeworkList().contains(homework));
         assertFalse(john.getHomeworkList().contains(homework), "Unrelated student should not change");
-        // 2 payment due reminder but homework not due tomorrow
-        assertEquals(2, model.getFilteredReminderList().size());
+        // only the target's reminders are refreshed: 1 payment due reminder but homework not due tomorrow
+        assertEquals(1, model.getFilteredReminderList().size());
     }
 
     /**
@@ -0,0 +1,99 @@
+package seedu.address.logic.commands.homeworkcommandtests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.homeworkcommands.HomeworkDueCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Tests for {@link HomeworkDueCommand}.
+ */
+public class HomeworkDueCommandTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 10, 20);
+    private static final GroupName GROUP = GroupName.of("Sec3-Math");
+
+    private final Model model = new ModelManager(new AddressBook(), new UserPrefs());
+    private Person alice;
+    private Person benson;
+    private Homework essay;
+
+    @BeforeEach
+    public void setUp() {
+        alice = new PersonBuilder(ALICE).build();
+        benson = new PersonBuilder(BENSON).build();
+        model.addPerson(alice);
+        model.addPerson(benson);
+        essay = new Homework("Essay", TODAY.plusDays(2));
+        model.addHomework(alice, essay);
+        model.addHomework(benson, new Homework("Worksheet", TODAY.plusDays(5)));
+        model.addHomework(benson, new Homework("Quiz", TODAY.minusDays(1)));
+    }
+
+    @Test
+    public void execute_homeworkWithinDays_showsStudentsWithIt() throws Exception {
+        CommandResult result = new HomeworkDueCommand(TODAY, 3, Optional.empty()).execute(model);
+
+        assertEquals(String.format(HomeworkDueCommand.MESSAGE_SUCCESS, 1, 3,
+                "\n" + alice.getName() + ": Essay (due " + essay.getDeadline() + ")"), result.getFeedbackToUser());
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+
+        new HomeworkDueCommand(TODAY, 5, Optional.empty()).execute(model);
+        assertEquals(List.of(alice, benson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_homeworkDone_leftOut() throws Exception {
+        model.setHomeworkDone(alice, essay, true);
+        CommandResult result = new HomeworkDueCommand(TODAY, 3, Optional.empty()).execute(model);
+
+        assertEquals(String.format(HomeworkDueCommand.MESSAGE_SUCCESS, 0, 3, ""), result.getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_group_onlyMembersShown() throws Exception {
+        model.createGroup(GROUP);
+        model.addToGroup(GROUP, List.of(benson));
+
+        new HomeworkDueCommand(TODAY, 5, Optional.of(GROUP)).execute(model);
+        assertEquals(List.of(benson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownGroup_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new HomeworkDueCommand(TODAY, 3, Optional.of(GROUP))
+                .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        HomeworkDueCommand command = new HomeworkDueCommand(TODAY, 3, Optional.empty());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new HomeworkDueCommand(TODAY, 3, Optional.empty())));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new HomeworkDueCommand(TODAY, 4, Optional.empty())));
+        assertFalse(command.equals(new HomeworkDueCommand(TODAY, 3, Optional.of(GROUP))));
+    }
+}
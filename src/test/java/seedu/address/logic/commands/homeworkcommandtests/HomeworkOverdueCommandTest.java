@@ -0,0 +1,72 @@
+package seedu.address.logic.commands.homeworkcommandtests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.homeworkcommands.HomeworkOverdueCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Tests for {@link HomeworkOverdueCommand}.
+ */
+public class HomeworkOverdueCommandTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 10, 20);
+    private static final GroupName GROUP = GroupName.of("Sec3-Math");
+
+    private final Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_overdueByGroup_onlyMembersWithOverdueHomeworkShown() throws Exception {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        model.addPerson(alice);
+        model.addPerson(benson);
+        Homework quiz = new Homework("Quiz", TODAY.minusDays(1));
+        model.addHomework(alice, quiz);
+        model.addHomework(alice, new Homework("Essay", TODAY));
+        model.addHomework(benson, new Homework("Worksheet", TODAY.minusDays(3)));
+
+        CommandResult result = new HomeworkOverdueCommand(TODAY, Optional.empty()).execute(model);
+        assertEquals(String.format(HomeworkOverdueCommand.MESSAGE_SUCCESS, 2,
+                "\n" + benson.getName() + ": Worksheet (due " + TODAY.minusDays(3) + ")"
+                + "\n" + alice.getName() + ": Quiz (due " + quiz.getDeadline() + ")"), result.getFeedbackToUser());
+        assertEquals(List.of(alice, benson), model.getFilteredPersonList());
+
+        model.createGroup(GROUP);
+        model.addToGroup(GROUP, List.of(alice));
+        new HomeworkOverdueCommand(TODAY, Optional.of(GROUP)).execute(model);
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+
+        model.deleteHomework(alice, quiz);
+        new HomeworkOverdueCommand(TODAY, Optional.of(GROUP)).execute(model);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        HomeworkOverdueCommand command = new HomeworkOverdueCommand(TODAY, Optional.empty());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new HomeworkOverdueCommand(TODAY, Optional.empty())));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new HomeworkOverdueCommand(TODAY.plusDays(1), Optional.empty())));
+        assertFalse(command.equals(new HomeworkOverdueCommand(TODAY, Optional.of(GROUP))));
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.model.util.SampleDataUtil.getMonthName;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -22,17 +23,24 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.homeworkcommands.DeleteHomeworkCommand;
 import seedu.address.logic.commands.homeworkcommands.MarkDoneHwCommand;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.attendance.AttendanceIndex;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
 import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
 import seedu.address.model.person.LessonTime;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -101,6 +109,75 @@ public class MarkDoneHwCommandTest {
             }
         }
 
+        @Override
+        public void refreshRemindersOf(Person person) {
+            int currentMonth = LocalDate.now().getMonth().getValue();
+            UnmodifiablePaymentReminder paymentReminder =
+                    UnmodifiablePaymentReminder.of(currentMonth, person, getMonthName(currentMonth));
+            if (!filteredReminders.contains(paymentReminder)) {
+                filteredReminders.add(paymentReminder);
+            }
+        }
+
+        @Override
+        public void advanceReminderClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MemberBitmap searchPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> suggestPersonNames(String name) {
+            return List.of();
+        }
+
+        @Override
+        public List<Person> findPersonsByName(String name) {
+            return filtered.stream().filter(p -> p.getName().fullName.equalsIgnoreCase(name)).toList();
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(String phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByLessonTime(String lessonTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPersonShown(Person person) {
+            return filtered.contains(person);
+        }
+
+        @Override
+        public void addHomework(Person person, Homework homework) {
+            person.addHomework(homework);
+        }
+
+        @Override
+        public void deleteHomework(Person person, Homework homework) {
+            person.removeHomework(homework);
+        }
+
+        @Override
+        public void setHomeworkDone(Person person, Homework homework, boolean isDone) {
+            if (isDone) {
+                homework.markDone();
+            } else {
+                homework.markUndone();
+            }
+        }
+
+        @Override
+        public HomeworkDeadlineIndex getHomeworkIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Reminder> getFilteredReminderList() {
             return filteredReminders;
@@ -218,6 +295,21 @@ public class MarkDoneHwCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public MemberBitmap getMembersOf(GroupName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PaymentLedger getPaymentLedger() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPaymentStatus(List<Person> persons, YearMonth month, boolean isPaid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void filterByGroup(GroupName name) {
             throw new AssertionError("This method should not be called.");
@@ -289,6 +381,21 @@ public class MarkDoneHwCommandTest {
         assertEquals(0, model.getFilteredReminderList().size());
     }
 
+    /**
+     * Verifies that a misspelt name fails with the closest student names suggested.
+     */
+    @Test
+    public void execute_misspeltName_suggestsClosestStudents() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(marcus);
+        model.addPerson(john);
+        MarkDoneHwCommand cmd = new MarkDoneHwCommand(new Name("Marcos"), Index.fromOneBased(1));
+
+        CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
+        assertEquals(MarkDoneHwCommand.MESSAGE_NO_PERSON_FOUND + "\n"
+                + String.format(Messages.MESSAGE_DID_YOU_MEAN, "Marcus"), ex.getMessage());
+    }
+
     /**
      * Verifies that when the target student is not present in the current filtered list
      * (e.g., after a prior search), a {@link CommandException} is thrown with
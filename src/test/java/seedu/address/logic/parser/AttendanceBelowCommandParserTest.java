@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AttendanceBelowCommand;
+import seedu.address.model.group.GroupName;
+
+public class AttendanceBelowCommandParserTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceBelowCommand.MESSAGE_USAGE);
+
+    private final AttendanceBelowCommandParser parser = new AttendanceBelowCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " from/2025-01-01 to/2025-03-31 r/75",
+                new AttendanceBelowCommand(FROM, TO, 75, Optional.empty()));
+        assertParseSuccess(parser, " from/2025-01-01 to/2025-03-31 r/62.5% g/Group A",
+                new AttendanceBelowCommand(FROM, TO, 62.5, Optional.of(GroupName.of("Group A"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " from/2025-01-01 to/2025-03-31", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2025-01-01 r/75", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2025-01-01 to/2025-03-31 r/abc",
+                AttendanceBelowCommand.MESSAGE_INVALID_THRESHOLD);
+        assertParseFailure(parser, " from/2025-01-01 to/2025-03-31 r/-5",
+                AttendanceBelowCommand.MESSAGE_INVALID_THRESHOLD);
+    }
+}
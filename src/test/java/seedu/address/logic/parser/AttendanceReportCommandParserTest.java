@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendanceReportCommand;
+import seedu.address.model.group.GroupName;
+
+public class AttendanceReportCommandParserTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceReportCommand.MESSAGE_USAGE);
+
+    private final AttendanceReportCommandParser parser = new AttendanceReportCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " from/2025-01-01 to/2025-03-31",
+                new AttendanceReportCommand(FROM, TO, Optional.empty(), Optional.empty()));
+        assertParseSuccess(parser, " from/2025-01-01 to/2025-03-31 i/2",
+                new AttendanceReportCommand(FROM, TO, Optional.of(Index.fromOneBased(2)), Optional.empty()));
+        assertParseSuccess(parser, " to/2025-03-31 g/Group A from/2025-01-01",
+                new AttendanceReportCommand(FROM, TO, Optional.empty(), Optional.of(GroupName.of("Group A"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " from/2025-01-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " to/2025-03-31", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2025-01-01 to/2025-03-31 i/1 g/Group A", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " preamble from/2025-01-01 to/2025-03-31", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2025-01-01 to/2025-03-31 i/0", ParserUtil.MESSAGE_INVALID_INDEX);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.GroupFilterCommand;
+import seedu.address.model.group.GroupName;
+
+public class GroupFilterCommandParserTest {
+
+    private static final GroupName MATH = GroupName.of("Sec3-Math");
+    private static final GroupName SCIENCE = GroupName.of("Sec3-Sci");
+    private static final GroupName ENGLISH = GroupName.of("Sec3 English");
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupFilterCommand.MESSAGE_USAGE);
+
+    private final GroupFilterCommandParser parser = new GroupFilterCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " g/Sec3-Math not/Sec3-Sci",
+                new GroupFilterCommand(List.of(MATH), List.of(), List.of(SCIENCE)));
+        assertParseSuccess(parser, " any/Sec3-Math any/Sec3 English",
+                new GroupFilterCommand(List.of(), List.of(MATH, ENGLISH), List.of()));
+        assertParseSuccess(parser, " not/Sec3-Sci g/Sec3-Math g/Sec3 English any/Sec3-Sci",
+                new GroupFilterCommand(List.of(MATH, ENGLISH), List.of(SCIENCE), List.of(SCIENCE)));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " not/Sec3-Sci", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " Sec3-Math", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " g/Sec3_Math", GroupName.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MarkAttendanceCommand;
+
+public class MarkAttendanceCommandParserTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 19);
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkAttendanceCommand.MESSAGE_USAGE);
+
+    private final MarkAttendanceCommandParser parser = new MarkAttendanceCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " i/2 d/2025-09-19 s/present",
+                new MarkAttendanceCommand(Index.fromOneBased(2), DATE, true));
+        assertParseSuccess(parser, " s/ABSENT d/2025-09-19 i/1",
+                new MarkAttendanceCommand(Index.fromOneBased(1), DATE, false));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " d/2025-09-19 s/present", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " i/1 s/present", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " i/1 d/2025-09-19", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " preamble i/1 d/2025-09-19 s/present", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " i/0 d/2025-09-19 s/present", ParserUtil.MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, " i/1 d/2025-09-19 s/late", MarkAttendanceCommandParser.MESSAGE_INVALID_STATUS);
+    }
+}
@@ -4,6 +4,11 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +26,17 @@ public class MarkPaidCommandParserTest {
         assertParseSuccess(parser, " i/1 m/12", new MarkPaidCommand(INDEX_FIRST_PERSON, 12));
 
         assertParseSuccess(parser, " i/1 m/3", new MarkPaidCommand(INDEX_FIRST_PERSON, 3));
+
+        // month of another year
+        assertParseSuccess(parser, " i/1 m/2025-09",
+                new MarkPaidCommand(List.of(INDEX_FIRST_PERSON), YearMonth.of(2025, 9)));
+    }
+
+    @Test
+    public void parse_multipleIndices_success() {
+        assertParseSuccess(parser, " i/1 i/2 m/5",
+                new MarkPaidCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                        YearMonth.of(LocalDate.now().getYear(), 5)));
     }
 
     @Test
@@ -56,16 +72,15 @@ public class MarkPaidCommandParserTest {
 
         // invalid month
         assertParseFailure(parser, " i/1 m/-1", ParserUtil.MESSAGE_INVALID_MONTH);
+
+        // invalid month of another year
+        assertParseFailure(parser, " i/1 m/2025-13", ParserUtil.MESSAGE_INVALID_YEAR_MONTH);
     }
 
     @Test
     public void parse_duplicatePrefixes_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkPaidCommand.MESSAGE_USAGE);
 
-        // duplicate index prefix
-        assertParseFailure(parser, " i/1 i/2 m/5",
-                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_INDEX));
-
         // duplicate month prefix
         assertParseFailure(parser, " i/1 m/5 m/6",
                 Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_MONTH));
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.UnpaidCommand;
+
+public class UnpaidCommandParserTest {
+
+    private final UnpaidCommandParser parser = new UnpaidCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, "", new UnpaidCommand(YearMonth.now(), 1));
+        assertParseSuccess(parser, " m/10", new UnpaidCommand(YearMonth.of(LocalDate.now().getYear(), 10), 1));
+        assertParseSuccess(parser, " m/2026-10 for/3", new UnpaidCommand(YearMonth.of(2026, 10), 3));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " m/2026-13", ParserUtil.MESSAGE_INVALID_YEAR_MONTH);
+        assertParseFailure(parser, " for/0", UnpaidCommandParser.MESSAGE_INVALID_MONTHS);
+        assertParseFailure(parser, " for/three", UnpaidCommandParser.MESSAGE_INVALID_MONTHS);
+        assertParseFailure(parser, " 3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnpaidCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser.homeworkparsertests;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.homeworkcommands.HomeworkDueCommand;
+import seedu.address.logic.commands.homeworkcommands.HomeworkOverdueCommand;
+import seedu.address.logic.parser.homeworkparsers.HomeworkDueParser;
+import seedu.address.logic.parser.homeworkparsers.HomeworkOverdueParser;
+import seedu.address.model.group.GroupName;
+
+public class HomeworkDueParserTest {
+
+    private final HomeworkDueParser parser = new HomeworkDueParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, "", new HomeworkDueCommand(LocalDate.now(),
+                HomeworkDueCommand.DEFAULT_DAYS, Optional.empty()));
+        assertParseSuccess(parser, " days/7 g/Sec3-Math", new HomeworkDueCommand(LocalDate.now(), 7,
+                Optional.of(GroupName.of("Sec3-Math"))));
+        assertParseSuccess(new HomeworkOverdueParser(), " g/Sec3-Math", new HomeworkOverdueCommand(LocalDate.now(),
+                Optional.of(GroupName.of("Sec3-Math"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " days/0", HomeworkDueParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " days/three", HomeworkDueParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " 3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, HomeworkDueCommand.MESSAGE_USAGE));
+        assertParseFailure(new HomeworkOverdueParser(), " overdue",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, HomeworkOverdueCommand.MESSAGE_USAGE));
+    }
+}
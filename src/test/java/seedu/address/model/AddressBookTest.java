@@ -8,18 +8,27 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_LESSON_TIME_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LESSON_TIME_2;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalReminders.REMINDER_1;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.homework.HomeworkDeadlineIndex;
+import seedu.address.model.payment.PaymentLedger;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.reminder.Reminder;
@@ -51,6 +60,19 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withGroups_keepsMembers() {
+        AddressBook newData = TypicalAddressBook.getTypicalAddressBook();
+        GroupName math = GroupName.of("Math");
+        Person first = newData.getPersonList().get(0);
+        newData.addGroup(new Group(math));
+        newData.addMembers(math, List.of(first));
+
+        addressBook.resetData(newData);
+        assertEquals(Set.of(math), addressBook.getGroupsOf(first));
+        assertEquals(MemberBitmap.of(first.getId().value), addressBook.getGroups().get(0).getMembers());
+    }
+
     @Test
     public void resetData_withDuplicate_throwsDuplicateException() {
         // Two persons with the same identity fields
@@ -125,6 +147,74 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getReminderList().remove(0));
     }
 
+    @Test
+    public void refreshUnmodifiableRemindersOf_onlyThatStudentChanges() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder(BOB).build();
+        PaymentLedger payments = new PaymentLedger();
+        addressBook.setPaymentLedger(payments);
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        addressBook.refreshUnmodifiableReminders();
+        assertEquals(2, addressBook.getReminderList().size());
+
+        payments.setPaid(alice.getId(), YearMonth.now(), true);
+        addressBook.refreshUnmodifiableRemindersOf(alice);
+        assertEquals(1, addressBook.getReminderList().size());
+
+        addressBook.removePerson(bob);
+        addressBook.refreshUnmodifiableRemindersOf(bob);
+        assertTrue(addressBook.getReminderList().isEmpty());
+    }
+
+    @Test
+    public void getHomeworkIndex_followsHomeworkAndStudentChanges() {
+        LocalDate deadline = LocalDate.of(2025, 10, 20);
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder(BOB).build();
+        Homework essay = new Homework("Essay", deadline);
+        alice.addHomework(essay);
+        addressBook.addPerson(alice);
+        assertEquals(1, addressBook.getHomeworkIndex().size());
+
+        addressBook.addPerson(bob);
+        addressBook.addHomework(bob, new Homework("Worksheet", deadline));
+        addressBook.setHomeworkDone(alice, essay, true);
+        assertEquals(List.of(bob.getId()), addressBook.getHomeworkIndex().getUndoneDueBetween(deadline, deadline)
+                .stream().map(HomeworkDeadlineIndex.Entry::getStudentId).toList());
+
+        addressBook.removePerson(bob);
+        addressBook.removeHomework(alice, essay);
+        assertEquals(0, addressBook.getHomeworkIndex().size());
+    }
+
+    @Test
+    public void searchPersons_afterStudentChanges_findsCurrentStudents() {
+        Person alice = new PersonBuilder(ALICE).build();
+        addressBook.addPerson(alice);
+        assertEquals(MemberBitmap.of(alice.getId().value), addressBook.searchPersons(List.of("pauline")));
+
+        Person bob = new PersonBuilder(BOB).withName("Bob Pauline").build();
+        addressBook.addPerson(bob);
+        addressBook.removePerson(alice);
+        assertEquals(MemberBitmap.of(bob.getId().value), addressBook.searchPersons(List.of("pauline")));
+    }
+
+    @Test
+    public void getPersonLookup_afterStudentChanges_findsCurrentStudents() {
+        Person alice = new PersonBuilder(ALICE).build();
+        addressBook.addPerson(alice);
+        assertEquals(List.of(alice), addressBook.getPersonLookup().findByName("alice pauline"));
+
+        Person editedAlice = new PersonBuilder(alice).withPhone("91234567").build();
+        addressBook.setPerson(alice, editedAlice);
+        assertTrue(addressBook.getPersonLookup().findByPhone(alice.getPhone().value).isEmpty());
+        assertEquals(List.of(editedAlice), addressBook.getPersonLookup().findByPhone("91234567"));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getPersonLookup().findByName("alice pauline").isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
@@ -10,16 +10,24 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentFieldsContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
+    private static final int THIS_YEAR = LocalDate.now().getYear();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -93,6 +101,45 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void constructor_savedPayments_paymentsOfStudentsIgnored() {
+        // the data file still holds last January's payment as this January's
+        Person alice = new PersonBuilder(ALICE).withPaymentStatus("100000000000").build();
+        PaymentLedger saved = new PaymentLedger();
+        saved.setPaid(alice.getId(), YearMonth.of(THIS_YEAR - 1, 1), true);
+        saved.setPaid(alice.getId(), YearMonth.of(THIS_YEAR, 2), true);
+
+        ModelManager model = new ModelManager(new AddressBookBuilder().withPerson(alice).build(), new UserPrefs(),
+                saved);
+        assertEquals(saved, model.getPaymentLedger());
+        assertFalse(model.getPaymentLedger().hasUnsavedChanges());
+        assertFalse(model.getPaymentLedger().isPaid(alice.getId(), YearMonth.of(THIS_YEAR, 1)));
+    }
+
+    @Test
+    public void setPaymentStatus_anotherYear_onlyThatYearChanged() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        ModelManager model = new ModelManager(
+                new AddressBookBuilder().withPerson(alice).withPerson(benson).build(), new UserPrefs());
+
+        model.setPaymentStatus(List.of(alice, benson), YearMonth.of(THIS_YEAR - 1, 3), true);
+        assertTrue(model.getPaymentLedger().isPaid(benson.getId(), YearMonth.of(THIS_YEAR - 1, 3)));
+        assertFalse(model.getPaymentLedger().isPaid(alice.getId(), YearMonth.of(THIS_YEAR, 3)));
+        // payments are only kept in the ledger
+        assertTrue(alice.getPaymentStatusBitSet().isEmpty());
+    }
+
+    @Test
+    public void deletePerson_removesPayments() {
+        Person alice = new PersonBuilder(ALICE).build();
+        ModelManager model = new ModelManager(new AddressBookBuilder().withPerson(alice).build(), new UserPrefs());
+        model.setPaymentStatus(List.of(alice), YearMonth.of(THIS_YEAR, 1), true);
+
+        model.deletePerson(alice);
+        assertTrue(model.getPaymentLedger().asMap().isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexesTest {
+
+    private final List<Person> persons = new ArrayList<>();
+    private final PersonIndexes indexes = new PersonIndexes(persons);
+
+    @Test
+    public void addReplaceRemove_builtIndexes_keptUpToDate() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withPhone("91234567").build();
+        alice.addHomework(new Homework("Essay", LocalDate.of(2025, 10, 1)));
+        persons.add(alice);
+        // build every index before the changes
+        indexes.homework();
+        indexes.search();
+        indexes.names();
+        indexes.lookup();
+
+        Person benson = new PersonBuilder().withName("Benson Meier").withPhone("98765432").build();
+        persons.add(benson);
+        indexes.add(benson);
+        Person edited = alice.withFields(new Name("Alice Tan"), alice.getPhone(), alice.getLessonTime());
+        persons.set(0, edited);
+        indexes.replace(alice, edited);
+
+        assertEquals(List.of(edited), indexes.lookup().findByName("alice tan"));
+        assertTrue(indexes.lookup().findByName("alice pauline").isEmpty());
+        assertTrue(indexes.search().search(List.of("benson")).contains(benson.getId().value));
+        assertEquals(List.of(new Name("Alice Tan")), indexes.names().suggest("Alice Tam").subList(0, 1));
+        assertEquals(1, indexes.homework().size());
+
+        persons.remove(edited);
+        indexes.remove(edited);
+        assertEquals(0, indexes.homework().size());
+        assertFalse(indexes.search().search(List.of("alice")).contains(edited.getId().value));
+    }
+
+    @Test
+    public void invalidate_studentsReplaced_indexesRebuilt() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        persons.add(alice);
+        assertEquals(List.of(alice), indexes.lookup().findByName("Alice Pauline"));
+
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        persons.set(0, benson);
+        indexes.invalidate();
+        assertTrue(indexes.lookup().findByName("Alice Pauline").isEmpty());
+        assertEquals(List.of(benson), indexes.lookup().findByName("Benson Meier"));
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentId;
+
+public class AttendanceIndexTest {
+
+    private static final LocalDate DAY_2024 = LocalDate.of(2024, 12, 31);
+    private static final LocalDate DAY_2025 = LocalDate.of(2025, 3, 1);
+    private static final StudentId ALEX = StudentId.of(1);
+    private static final StudentId BERNICE = StudentId.of(2);
+    private static final StudentId CHARLOTTE = StudentId.of(3);
+
+    @Test
+    public void put_thenGet_keptPerStudent() {
+        AttendanceIndex index = new AttendanceIndex();
+        index.put(ALEX, DAY_2025, true);
+        index.put(BERNICE, DAY_2025, false);
+
+        assertEquals(Optional.of(true), index.get(ALEX, DAY_2025));
+        assertEquals(Optional.of(false), index.get(BERNICE, DAY_2025));
+        assertEquals(Optional.empty(), index.get(ALEX, DAY_2025.plusDays(1)));
+        assertEquals(Set.of(2025), index.getUnsavedYears());
+
+        assertEquals(Boolean.TRUE, index.lookup(ALEX, DAY_2025));
+        assertEquals(Boolean.FALSE, index.lookup(BERNICE, DAY_2025));
+        assertNull(index.lookup(CHARLOTTE, DAY_2025));
+        assertEquals(YearAttendance.ABSENT, index.getStatus(BERNICE, DAY_2025));
+    }
+
+    @Test
+    public void put_manyStudentsAcrossYears_keptApart() {
+        AttendanceIndex index = new AttendanceIndex();
+        for (int student = 0; student < 1_000; student++) {
+            index.put(StudentId.of(student + 1), DAY_2024, student % 2 == 0);
+            index.put(StudentId.of(student + 1), DAY_2025, student % 3 == 0);
+        }
+        for (int student = 0; student < 1_000; student++) {
+            assertEquals(Optional.of(student % 2 == 0), index.get(StudentId.of(student + 1), DAY_2024));
+            assertEquals(Optional.of(student % 3 == 0), index.get(StudentId.of(student + 1), DAY_2025));
+            assertEquals(Optional.empty(), index.get(StudentId.of(student + 1), DAY_2025.minusDays(1)));
+        }
+        assertEquals(1_000, index.getYear(2024).size());
+    }
+
+    @Test
+    public void get_savedYears_loadedOnFirstAccess() {
+        StubLoader loader = new StubLoader();
+        AttendanceIndex index = new AttendanceIndex();
+        index.setLoader(loader);
+
+        assertEquals(Optional.of(true), index.get(ALEX, DAY_2024));
+        assertEquals(Optional.empty(), index.get(ALEX, DAY_2024.minusDays(1)));
+        assertEquals(List.of(2024), loader.loadedYears);
+        assertTrue(index.getUnsavedYears().isEmpty());
+
+        index.put(ALEX, DAY_2025, false);
+        assertEquals(List.of(2024, 2025), loader.loadedYears);
+        assertEquals(Set.of(2025), index.getUnsavedYears());
+        index.markSaved(2025);
+        assertTrue(index.getUnsavedYears().isEmpty());
+    }
+
+    @Test
+    public void removeAllFor_savedYears_removedFromEveryYear() {
+        StubLoader loader = new StubLoader();
+        AttendanceIndex index = new AttendanceIndex();
+        index.setLoader(loader);
+        index.put(BERNICE, DAY_2025, true);
+        index.markSaved(2025);
+
+        index.removeAllFor(ALEX);
+        assertEquals(Optional.empty(), index.get(ALEX, DAY_2024));
+        assertEquals(Optional.of(true), index.get(BERNICE, DAY_2025));
+        assertEquals(Set.of(2024), index.getUnsavedYears());
+    }
+
+    @Test
+    public void clear_savedYears_clearedAndUnsaved() {
+        StubLoader loader = new StubLoader();
+        AttendanceIndex index = new AttendanceIndex();
+        index.setLoader(loader);
+        index.put(BERNICE, DAY_2025, true);
+
+        index.clear();
+        assertEquals(Optional.empty(), index.get(ALEX, DAY_2024));
+        assertEquals(Optional.empty(), index.get(BERNICE, DAY_2025));
+        assertEquals(Set.of(2024, 2025), index.getUnsavedYears());
+        // cleared years are not read again
+        assertEquals(List.of(2025), loader.loadedYears);
+    }
+
+    @Test
+    public void copyYears_laterChanges_notCopied() {
+        StubLoader loader = new StubLoader();
+        AttendanceIndex index = new AttendanceIndex();
+        index.setLoader(loader);
+        index.put(BERNICE, DAY_2025, true);
+
+        AttendanceIndex copy = index.copyYears(Set.of(2024, 2025));
+        index.put(ALEX, DAY_2025, false);
+        index.put(BERNICE, DAY_2025, false);
+
+        assertEquals(Set.of(2024, 2025), copy.getUnsavedYears());
+        assertEquals(Optional.of(true), copy.get(ALEX, DAY_2024));
+        assertEquals(Optional.of(true), copy.get(BERNICE, DAY_2025));
+        assertEquals(Optional.empty(), copy.get(ALEX, DAY_2025));
+        assertEquals(Set.of(2025), index.getUnsavedYears());
+    }
+
+    @Test
+    public void summarize_rangeAcrossYears_countsAndStreak() {
+        AttendanceIndex index = new AttendanceIndex();
+        LocalDate start = LocalDate.of(2024, 12, 1);
+        // present, absent x3, present, absent x4 spanning the new year, with unrecorded days in between
+        boolean[] statuses = {true, false, false, false, true, false, false, false, false};
+        for (int i = 0; i < statuses.length; i++) {
+            index.put(ALEX, start.plusDays(i * 7), statuses[i]);
+        }
+
+        assertEquals(new AttendanceSummary(2, 7, 4),
+                index.summarize(ALEX, start, start.plusDays(8 * 7)));
+        assertEquals(new AttendanceSummary(1, 3, 3),
+                index.summarize(ALEX, start, start.plusDays(4 * 7 - 1)));
+        assertEquals(new AttendanceSummary(0, 2, 2),
+                index.summarize(ALEX, start.plusDays(1), start.plusDays(2 * 7)));
+        assertEquals(AttendanceSummary.EMPTY,
+                index.summarize(BERNICE, start, start.plusDays(8 * 7)));
+    }
+
+    @Test
+    public void summarize_matchesDayByDayCount() {
+        AttendanceIndex index = new AttendanceIndex();
+        LocalDate first = LocalDate.of(2024, 1, 1);
+        Random random = new Random(42);
+        for (LocalDate date = first; date.getYear() == 2024; date = date.plusDays(1)) {
+            if (random.nextInt(4) != 0) {
+                index.put(ALEX, date, random.nextInt(3) != 0);
+            }
+        }
+
+        for (int trial = 0; trial < 200; trial++) {
+            LocalDate from = first.plusDays(random.nextInt(366));
+            LocalDate to = from.plusDays(random.nextInt(400));
+            int present = 0;
+            int absent = 0;
+            int streak = 0;
+            int longest = 0;
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                Boolean status = index.lookup(ALEX, date);
+                if (status == Boolean.TRUE) {
+                    present++;
+                    streak = 0;
+                } else if (status == Boolean.FALSE) {
+                    absent++;
+                    longest = Math.max(longest, ++streak);
+                }
+            }
+            assertEquals(new AttendanceSummary(present, absent, longest), index.summarize(ALEX, from, to));
+        }
+    }
+
+    /**
+     * A loader with Alex Yeoh present on {@code DAY_2024}, that records the years it loaded.
+     */
+    private static class StubLoader implements AttendanceLoader {
+        private final List<Integer> loadedYears = new ArrayList<>();
+
+        @Override
+        public Set<Integer> getSavedYears() {
+            return Set.of(2024);
+        }
+
+        @Override
+        public Map<StudentId, YearAttendance> loadYear(int year) {
+            loadedYears.add(year);
+            Map<StudentId, YearAttendance> attendance = new HashMap<>();
+            if (year == 2024) {
+                YearAttendance alex = new YearAttendance();
+                alex.set(DAY_2024.getDayOfYear(), true);
+                attendance.put(ALEX, alex);
+            }
+            return attendance;
+        }
+    }
+}
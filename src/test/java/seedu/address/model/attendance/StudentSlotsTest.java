@@ -0,0 +1,36 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class StudentSlotsTest {
+
+    @Test
+    public void findOrAdd_slotsInOrderFirstSeen() {
+        StudentSlots slots = new StudentSlots();
+        assertEquals(0, slots.findOrAdd(42));
+        assertEquals(1, slots.findOrAdd(7));
+        assertEquals(0, slots.findOrAdd(42));
+
+        assertEquals(1, slots.find(7));
+        assertEquals(42, slots.idOf(0));
+        assertEquals(2, slots.size());
+        assertEquals(-1, slots.find(8));
+        assertEquals(-1, slots.find(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void findOrAdd_manyIds_slotsKept() {
+        StudentSlots slots = new StudentSlots();
+        for (int i = 0; i < 10_000; i++) {
+            // both runs of ids and ids far apart
+            assertEquals(2 * i, slots.findOrAdd(i + 1));
+            assertEquals(2 * i + 1, slots.findOrAdd(Integer.MAX_VALUE - i * 65_536));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(2 * i, slots.find(i + 1));
+            assertEquals(2 * i + 1, slots.find(Integer.MAX_VALUE - i * 65_536));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class YearAttendanceTest {
+
+    @Test
+    public void set_everyDay_readBack() {
+        YearAttendance attendance = new YearAttendance();
+        assertTrue(attendance.isEmpty());
+        for (int day = 1; day <= YearAttendance.MAX_DAYS; day++) {
+            attendance.set(day, day % 3 != 0);
+        }
+        for (int day = 1; day <= YearAttendance.MAX_DAYS; day++) {
+            assertEquals(Optional.of(day % 3 != 0), attendance.get(day));
+        }
+
+        // overwriting a day leaves its neighbours alone
+        attendance.set(33, false);
+        assertEquals(YearAttendance.ABSENT, attendance.getStatus(33));
+        assertEquals(YearAttendance.PRESENT, attendance.getStatus(32));
+        assertEquals(YearAttendance.PRESENT, attendance.getStatus(34));
+        assertEquals(attendance, new YearAttendance(attendance.toWords()));
+    }
+
+    @Test
+    public void get_unrecordedDay_empty() {
+        YearAttendance attendance = new YearAttendance();
+        attendance.set(100, true);
+        assertEquals(Optional.empty(), attendance.get(99));
+        assertEquals(YearAttendance.UNRECORDED, attendance.getStatus(101));
+        assertThrows(IllegalArgumentException.class, () -> attendance.get(0));
+        assertThrows(IllegalArgumentException.class, () -> attendance.set(367, true));
+    }
+
+    @Test
+    public void toWords_trailingWordsUnrecorded_trimmed() {
+        YearAttendance attendance = new YearAttendance();
+        assertArrayEquals(new long[0], attendance.toWords());
+        attendance.set(2, false);
+        assertArrayEquals(new long[] {0b1000}, attendance.toWords());
+    }
+
+    @Test
+    public void isValidWords() {
+        assertTrue(YearAttendance.isValidWords(new long[] {0b0110, 0b0001}));
+        assertTrue(YearAttendance.isValidWords(new long[YearAttendance.WORDS]));
+
+        // a day with both bits set
+        assertFalse(YearAttendance.isValidWords(new long[] {0b1100}));
+        // too many words
+        assertFalse(YearAttendance.isValidWords(new long[YearAttendance.WORDS + 1]));
+        // a day past the end of a leap year
+        long[] words = new long[YearAttendance.WORDS];
+        words[YearAttendance.WORDS - 1] = 1L << 28;
+        assertFalse(YearAttendance.isValidWords(words));
+        assertThrows(IllegalArgumentException.class, () -> new YearAttendance(words));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class MemberBitmapTest {
+
+    @Test
+    public void of_repeatedIds_ignored() {
+        MemberBitmap ids = MemberBitmap.of(7, 3, 7, 100_000);
+        assertEquals(3, ids.cardinality());
+        assertArrayEquals(new int[] {3, 7, 100_000}, ids.stream().toArray());
+        assertTrue(ids.contains(100_000));
+        assertFalse(ids.contains(4));
+        assertFalse(ids.contains(-1));
+    }
+
+    @Test
+    public void of_negativeId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> MemberBitmap.of(1, -2));
+    }
+
+    @Test
+    public void of_noIds_returnsEmpty() {
+        assertSame(MemberBitmap.EMPTY, MemberBitmap.of());
+        assertSame(MemberBitmap.EMPTY, MemberBitmap.of(1, 2).andNot(MemberBitmap.of(2, 1)));
+    }
+
+    @Test
+    public void setOperations_matchBitSet() {
+        Random random = new Random(17);
+        for (int round = 0; round < 200; round++) {
+            // mixes sparse and dense sets, so every pair of forms is combined
+            BitSet first = randomIds(random);
+            BitSet second = randomIds(random);
+            MemberBitmap a = MemberBitmap.of(first.stream().toArray());
+            MemberBitmap b = MemberBitmap.of(second.stream().toArray());
+
+            BitSet union = (BitSet) first.clone();
+            union.or(second);
+            BitSet intersection = (BitSet) first.clone();
+            intersection.and(second);
+            BitSet difference = (BitSet) first.clone();
+            difference.andNot(second);
+
+            assertEquals(MemberBitmap.of(union.stream().toArray()), a.or(b));
+            assertEquals(MemberBitmap.of(intersection.stream().toArray()), a.and(b));
+            assertEquals(MemberBitmap.of(difference.stream().toArray()), a.andNot(b));
+            assertEquals(intersection.cardinality(), a.and(b).cardinality());
+            assertArrayEquals(union.stream().toArray(), a.or(b).stream().toArray());
+        }
+    }
+
+    @Test
+    public void equals() {
+        MemberBitmap ids = MemberBitmap.of(1, 2, 3);
+
+        // same ids, built differently -> returns true
+        assertEquals(MemberBitmap.of(3, 2, 1), ids);
+        assertEquals(MemberBitmap.of(1).or(MemberBitmap.of(2, 3)), ids);
+        assertEquals(MemberBitmap.of(3, 2, 1).hashCode(), ids.hashCode());
+
+        // null -> returns false
+        assertFalse(ids.equals(null));
+
+        // different ids -> returns false
+        assertFalse(ids.equals(MemberBitmap.of(1, 2)));
+    }
+
+    private static BitSet randomIds(Random random) {
+        BitSet ids = new BitSet();
+        int range = random.nextBoolean() ? 200 : 20_000;
+        int count = random.nextInt(random.nextBoolean() ? 10 : 300);
+        for (int i = 0; i < count; i++) {
+            ids.set(random.nextInt(range));
+        }
+        return ids;
+    }
+}
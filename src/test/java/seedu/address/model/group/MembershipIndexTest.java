@@ -0,0 +1,63 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class MembershipIndexTest {
+    private static final GroupName MATH = GroupName.of("Math");
+    private static final GroupName SCIENCE = GroupName.of("Science");
+
+    private final MembershipIndex index = new MembershipIndex();
+
+    @Test
+    public void groupsOf_afterAddAndRemove_matchesMembers() {
+        index.addMembers(MATH, List.of(ALICE, BENSON));
+        index.addMembers(SCIENCE, List.of(ALICE));
+        assertEquals(List.of(MATH, SCIENCE), List.copyOf(index.groupsOf(ALICE)));
+        assertEquals(Set.of(MATH), index.groupsOf(BENSON));
+
+        index.removeMembers(MATH, List.of(ALICE));
+        assertEquals(Set.of(SCIENCE), index.groupsOf(ALICE));
+        assertFalse(index.contains(MATH, ALICE));
+        assertTrue(index.contains(MATH, BENSON));
+    }
+
+    @Test
+    public void groupsOf_returnedSet_unmodifiable() {
+        index.addMembers(MATH, List.of(ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> index.groupsOf(ALICE).add(SCIENCE));
+        assertThrows(UnsupportedOperationException.class, () -> index.groupsOf(BENSON).add(SCIENCE));
+    }
+
+    @Test
+    public void removeGroup_removesFromGroupsOfMembers() {
+        index.addMembers(MATH, List.of(ALICE, BENSON));
+        index.addMembers(SCIENCE, List.of(BENSON));
+
+        index.removeGroup(MATH);
+        assertTrue(index.groupsOf(ALICE).isEmpty());
+        assertEquals(Set.of(SCIENCE), index.groupsOf(BENSON));
+        assertTrue(index.getMembers(MATH).isEmpty());
+    }
+
+    @Test
+    public void removeAllForPerson_removesFromEveryGroup() {
+        index.addMembers(MATH, List.of(ALICE, BENSON));
+        index.addMembers(SCIENCE, List.of(ALICE));
+
+        index.removeAllForPerson(ALICE);
+        assertTrue(index.groupsOf(ALICE).isEmpty());
+        assertFalse(index.contains(MATH, ALICE));
+        assertFalse(index.contains(SCIENCE, ALICE));
+        assertTrue(index.contains(MATH, BENSON));
+    }
+}
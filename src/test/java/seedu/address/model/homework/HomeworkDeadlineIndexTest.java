@@ -0,0 +1,78 @@
+package seedu.address.model.homework;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.homework.HomeworkDeadlineIndex.Entry;
+import seedu.address.model.person.StudentId;
+
+public class HomeworkDeadlineIndexTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 10, 20);
+    private static final StudentId FIRST = StudentId.of(1);
+    private static final StudentId SECOND = StudentId.of(2);
+
+    private final HomeworkDeadlineIndex index = new HomeworkDeadlineIndex();
+
+    @Test
+    public void getUndoneDueBetween_returnsRangeInDeadlineOrder() {
+        Homework later = new Homework("Essay", TODAY.plusDays(3));
+        Homework sooner = new Homework("Worksheet", TODAY);
+        index.add(FIRST, later);
+        index.add(SECOND, sooner);
+        index.add(SECOND, new Homework("Project", TODAY.plusDays(4)));
+        index.add(FIRST, new Homework("Quiz", TODAY.minusDays(1)));
+
+        assertEquals(List.of(sooner, later), homeworkOf(index.getUndoneDueBetween(TODAY, TODAY.plusDays(3))));
+        assertEquals(SECOND, index.getUndoneDueBetween(TODAY, TODAY).get(0).getStudentId());
+        assertTrue(index.getUndoneDueBetween(TODAY.plusDays(1), TODAY).isEmpty());
+    }
+
+    @Test
+    public void update_markedDone_leavesUndoneQueries() {
+        Homework overdue = new Homework("Quiz", TODAY.minusDays(2));
+        index.add(FIRST, overdue);
+        index.add(SECOND, new Homework("Quiz", TODAY.minusDays(2)));
+        assertEquals(2, index.getOverdue(TODAY).size());
+
+        overdue.markDone();
+        index.update(FIRST, overdue);
+        assertEquals(List.of(SECOND), index.getOverdue(TODAY).stream().map(Entry::getStudentId).toList());
+        assertEquals(2, index.size());
+
+        overdue.markUndone();
+        index.update(FIRST, overdue);
+        assertEquals(2, index.getOverdue(TODAY).size());
+    }
+
+    @Test
+    public void remove_eitherSide_removesHomework() {
+        Homework done = new Homework("Essay", TODAY);
+        done.markDone();
+        index.add(FIRST, done);
+        index.add(FIRST, new Homework("Worksheet", TODAY));
+        index.add(FIRST, new Homework("Worksheet", TODAY));
+        assertEquals(2, index.size());
+
+        index.remove(FIRST, done);
+        index.remove(FIRST, new Homework("worksheet", TODAY));
+        index.remove(SECOND, new Homework("Worksheet", TODAY));
+        assertEquals(0, index.size());
+        assertTrue(index.getUndoneDueBetween(TODAY, TODAY).isEmpty());
+    }
+
+    @Test
+    public void getOverdue_dueToday_notOverdue() {
+        index.add(FIRST, new Homework("Worksheet", TODAY));
+        assertTrue(index.getOverdue(TODAY).isEmpty());
+        assertEquals(1, index.getOverdue(TODAY.plusDays(1)).size());
+    }
+
+    private static List<Homework> homeworkOf(List<Entry> entries) {
+        return entries.stream().map(Entry::getHomework).toList();
+    }
+}
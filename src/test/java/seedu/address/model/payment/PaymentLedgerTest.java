@@ -0,0 +1,134 @@
+package seedu.address.model.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+
+public class PaymentLedgerTest {
+    private static final StudentId ALEX = StudentId.of(1);
+    private static final StudentId BERNICE = StudentId.of(2);
+    private static final StudentId CHARLOTTE = StudentId.of(3);
+    private static final MemberBitmap EVERYONE = MemberBitmap.of(1, 2, 3);
+    private static final YearMonth OCT_2025 = YearMonth.of(2025, 10);
+    private static final YearMonth OCT_2026 = YearMonth.of(2026, 10);
+
+    private final PaymentLedger ledger = new PaymentLedger();
+
+    @Test
+    public void setPaid_sameMonthOfAnotherYear_keptApart() {
+        assertTrue(ledger.setPaid(ALEX, OCT_2025, true));
+        assertTrue(ledger.isPaid(ALEX, OCT_2025));
+        assertFalse(ledger.isPaid(ALEX, OCT_2026));
+
+        assertTrue(ledger.setPaid(ALEX, OCT_2026, true));
+        assertTrue(ledger.setPaid(ALEX, OCT_2025, false));
+        assertFalse(ledger.isPaid(ALEX, OCT_2025));
+        assertTrue(ledger.isPaid(ALEX, OCT_2026));
+    }
+
+    @Test
+    public void fromPaymentStatus_monthsOfGivenYear() {
+        Person alice = new PersonBuilder().withPaymentStatus("100000000001").build();
+        PaymentLedger migrated = PaymentLedger.fromPaymentStatus(List.of(alice), 2025);
+
+        assertTrue(migrated.isPaid(alice.getId(), YearMonth.of(2025, 1)));
+        assertTrue(migrated.isPaid(alice.getId(), YearMonth.of(2025, 12)));
+        assertFalse(migrated.isPaid(alice.getId(), YearMonth.of(2025, 2)));
+        assertFalse(migrated.isPaid(alice.getId(), YearMonth.of(2026, 1)));
+    }
+
+    @Test
+    public void setPaid_unchanged_returnsFalse() {
+        ledger.setPaid(ALEX, OCT_2026, true);
+        ledger.markSaved();
+        assertFalse(ledger.setPaid(ALEX, OCT_2026, true));
+        assertFalse(ledger.setPaid(BERNICE, OCT_2026, false));
+        assertFalse(ledger.hasUnsavedChanges());
+
+        ledger.setPaid(BERNICE, OCT_2026, true);
+        assertTrue(ledger.hasUnsavedChanges());
+    }
+
+    @Test
+    public void markPaid_manyStudents_allPaid() {
+        ledger.setPaid(ALEX, OCT_2026, true);
+        assertTrue(ledger.markPaid(MemberBitmap.of(2, 3), OCT_2026));
+        assertEquals(EVERYONE, ledger.getPaid(OCT_2026));
+        assertFalse(ledger.markPaid(MemberBitmap.of(1, 3), OCT_2026));
+    }
+
+    @Test
+    public void getUnpaid_returnsStudentsWhoHaveNotPaid() {
+        ledger.markPaid(MemberBitmap.of(1, 3), OCT_2026);
+        ledger.markPaid(MemberBitmap.of(2), OCT_2025);
+        assertEquals(MemberBitmap.of(2), ledger.getUnpaid(EVERYONE, OCT_2026));
+        assertEquals(EVERYONE, ledger.getUnpaid(EVERYONE, OCT_2026.plusMonths(1)));
+    }
+
+    @Test
+    public void getUnpaidForMonths_paidInAnyMonth_excluded() {
+        // Alex paid in August, Bernice in the month before the window, Charlotte never
+        ledger.setPaid(ALEX, YearMonth.of(2026, 8), true);
+        ledger.setPaid(BERNICE, YearMonth.of(2026, 7), true);
+
+        assertEquals(MemberBitmap.of(2, 3), ledger.getUnpaidForMonths(EVERYONE, OCT_2026, 3));
+        assertEquals(MemberBitmap.of(3), ledger.getUnpaidForMonths(EVERYONE, OCT_2026, 4));
+        assertEquals(EVERYONE, ledger.getUnpaidForMonths(EVERYONE, OCT_2026, 1));
+        assertThrows(IllegalArgumentException.class, () -> ledger.getUnpaidForMonths(EVERYONE, OCT_2026, 0));
+    }
+
+    @Test
+    public void getUnpaidForMonths_acrossYears() {
+        ledger.setPaid(ALEX, YearMonth.of(2025, 12), true);
+        assertEquals(MemberBitmap.of(2, 3), ledger.getUnpaidForMonths(EVERYONE, YearMonth.of(2026, 2), 3));
+        assertEquals(EVERYONE, ledger.getUnpaidForMonths(EVERYONE, YearMonth.of(2026, 2), 2));
+    }
+
+    @Test
+    public void getPaidMonths_onlyMonthsOfYear() {
+        ledger.setPaid(ALEX, YearMonth.of(2025, 12), true);
+        ledger.setPaid(ALEX, YearMonth.of(2026, 1), true);
+        ledger.setPaid(ALEX, YearMonth.of(2026, 12), true);
+        ledger.setPaid(BERNICE, YearMonth.of(2026, 6), true);
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(11);
+        assertEquals(expected, ledger.getPaidMonths(ALEX, 2026));
+        assertTrue(ledger.getPaidMonths(CHARLOTTE, 2026).isEmpty());
+    }
+
+    @Test
+    public void removeAllFor_removesEveryMonth() {
+        ledger.markPaid(MemberBitmap.of(1, 2), OCT_2025);
+        ledger.markPaid(MemberBitmap.of(1), OCT_2026);
+
+        ledger.removeAllFor(ALEX);
+        assertFalse(ledger.isPaid(ALEX, OCT_2025));
+        assertTrue(ledger.isPaid(BERNICE, OCT_2025));
+        // months nobody paid for are not kept
+        assertEquals(1, ledger.asMap().size());
+    }
+
+    @Test
+    public void copy_independentOfOriginal() {
+        ledger.setPaid(ALEX, OCT_2026, true);
+        PaymentLedger copy = new PaymentLedger(ledger);
+        assertEquals(ledger, copy);
+
+        copy.setPaid(BERNICE, OCT_2026, true);
+        assertFalse(ledger.isPaid(BERNICE, OCT_2026));
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.group.MemberBitmap;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -79,6 +80,20 @@ public class NameContainsKeywordsPredicateTest {
                 .withLessonTime("1000 Wed").build()));
     }
 
+    @Test
+    public void withMatches_indexResult_matchesThoseIdsAndEqualsByKeywords() {
+        Person alice = new PersonBuilder().withName("Alice Bob").build();
+        Person carol = new PersonBuilder().withName("Carol").build();
+        StudentFieldsContainsKeywordsPredicate predicate = new StudentFieldsContainsKeywordsPredicate(List.of("Bob"));
+        StudentFieldsContainsKeywordsPredicate indexed = predicate.withMatches(MemberBitmap.of(carol.getId().value));
+
+        // the ids found by the index decide, not the students' text
+        assertFalse(indexed.test(alice));
+        assertTrue(indexed.test(carol));
+        assertEquals(predicate, indexed);
+        assertFalse(indexed.equals(new StudentFieldsContainsKeywordsPredicate(List.of("Carol"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonLookupIndexTest {
+    private final PersonLookupIndex index = new PersonLookupIndex();
+
+    @Test
+    public void find_exactValueIgnoringCaseAndWhitespace_returnsStudents() {
+        Person alex = new PersonBuilder().withName("Alex Yeoh").withPhone("87438807")
+                .withLessonTime("1000 Sat", "1400 Sun").build();
+        Person bernice = new PersonBuilder().withName("Bernice Yu").withPhone("99272758")
+                .withLessonTime("1000 Sat").build();
+        index.setPersons(List.of(alex, bernice));
+
+        assertEquals(List.of(alex), index.findByName("  alex   YEOH "));
+        assertEquals(List.of(bernice), index.findByPhone("99272758"));
+        assertEquals(List.of(alex, bernice), index.findByLessonTime("10:00 AM  sat"));
+        assertEquals(List.of(alex), index.findByLessonTime("02:00 pm Sun"));
+        assertTrue(index.findByName("Alex").isEmpty());
+    }
+
+    @Test
+    public void findByLessonTime_turkishDefaultLocale_returnsStudents() {
+        Person alex = new PersonBuilder().withName("Alex Yeoh").withLessonTime("1000 Fri").build();
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            index.setPersons(List.of(alex));
+            assertEquals(List.of(alex), index.findByLessonTime("10:00 AM FRI"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void remove_sharedName_keepsOtherStudents() {
+        Person first = new PersonBuilder().withName("Amy Bee").withPhone("81111111").build();
+        Person second = new PersonBuilder().withName("Amy Bee").withPhone("92222222").build();
+        index.add(first);
+        index.add(second);
+        index.remove(first);
+        index.remove(first);
+
+        assertEquals(List.of(second), index.findByName("Amy Bee"));
+        assertTrue(index.findByPhone("81111111").isEmpty());
+    }
+}
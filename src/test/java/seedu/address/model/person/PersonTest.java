@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LESSON_TIME_2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -9,8 +10,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.homework.Homework;
+
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -82,6 +88,57 @@ public class PersonTest {
         assertFalse(ALICE.hashCode() == BOB.hashCode());
     }
 
+    @Test
+    public void getModificationStamp() {
+        Person person = new PersonBuilder().build();
+        long stamp = person.getModificationStamp();
+        assertEquals(stamp, person.getModificationStamp());
+
+        // copies keep the stamp until they are changed
+        Person copy = person.deepCopy();
+        assertEquals(stamp, copy.getModificationStamp());
+        copy.setPaymentStatus(1, true);
+        assertNotEquals(stamp, copy.getModificationStamp());
+        assertEquals(stamp, person.getModificationStamp());
+
+        Homework homework = new Homework("Essay", LocalDate.of(2025, 10, 1));
+        person.addHomework(homework);
+        long afterAdd = person.getModificationStamp();
+        assertNotEquals(stamp, afterAdd);
+
+        homework.markDone();
+        long afterDone = person.getModificationStamp();
+        assertNotEquals(afterAdd, afterDone);
+
+        person.getParticipation().add(LocalDate.of(2025, 10, 2), 3);
+        assertNotEquals(afterDone, person.getModificationStamp());
+    }
+
+    @Test
+    public void getModificationStamp_homeworkOfEditedPerson_movesEditedStamp() {
+        Person person = new PersonBuilder().build();
+        Homework homework = new Homework("Essay", LocalDate.of(2025, 10, 1));
+        person.addHomework(homework);
+        Person edited = person.withFields(new Name("Edited Name"), person.getPhone(), person.getLessonTime());
+        long stamp = edited.getModificationStamp();
+
+        homework.markDone();
+        assertNotEquals(stamp, edited.getModificationStamp());
+    }
+
+    @Test
+    public void deepCopy_pendingDetails_loaderSharedWithoutLoading() {
+        Person person = new PersonBuilder().build();
+        Homework homework = new Homework("Essay", LocalDate.of(2025, 10, 1));
+        person.setDetailsLoader((homeworks, participation) -> homeworks.add(homework));
+
+        Person copy = person.deepCopy();
+        assertTrue(person.hasPendingDetails());
+        assertEquals(person.getPendingDetails(), copy.getPendingDetails());
+        assertEquals(List.of(homework), copy.getHomeworkList());
+        assertTrue(person.hasPendingDetails());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class StudentIdTest {
+
+    @Test
+    public void of_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StudentId.of(0));
+        assertThrows(IllegalArgumentException.class, () -> StudentId.of(-1));
+    }
+
+    @Test
+    public void isValidId() {
+        assertFalse(StudentId.isValidId(0));
+        assertFalse(StudentId.isValidId(-5));
+        assertTrue(StudentId.isValidId(1));
+        assertTrue(StudentId.isValidId(Integer.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void next_afterLoadedId_isLarger() {
+        StudentId loaded = StudentId.of(StudentId.next().value + 1_000);
+        assertTrue(StudentId.next().value > loaded.value);
+    }
+
+    @Test
+    public void keyOf_largerId_nextUnaffected() {
+        int last = StudentId.next().value;
+        StudentId key = StudentId.keyOf(last + 1_000);
+        assertTrue(StudentId.next().value < key.value);
+        assertEquals(StudentId.of(last + 1_000), key);
+        assertThrows(IllegalArgumentException.class, () -> StudentId.keyOf(0));
+    }
+
+    @Test
+    public void equals() {
+        StudentId id = StudentId.of(42);
+
+        // same values -> returns true
+        assertEquals(StudentId.of(42), id);
+
+        // same object -> returns true
+        assertEquals(id, id);
+
+        // null -> returns false
+        assertFalse(id.equals(null));
+
+        // different types -> returns false
+        assertFalse(id.equals(42));
+
+        // different values -> returns false
+        assertNotEquals(StudentId.of(43), id);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class StudentNameIndexTest {
+    private final StudentNameIndex index = new StudentNameIndex();
+
+    @Test
+    public void suggest_closestNamesWithinBound_nearestFirst() {
+        index.setPersons(List.of(person("Marcus Tan"), person("Marcus Tang"), person("Markus Tan"),
+                person("Alex Yeoh"), person("Bernice Yu")));
+
+        assertEquals(List.of(new Name("Marcus Tan"), new Name("Marcus Tang"), new Name("Markus Tan")),
+                index.suggest("marcus  tan"));
+        assertEquals(List.of(new Name("Alex Yeoh")), index.suggest("Alx Yeo"));
+        assertTrue(index.suggest("Charlotte").isEmpty());
+    }
+
+    @Test
+    public void remove_manyNames_remainingStillSuggested() {
+        List<Person> persons = List.of(person("Amy Bee"), person("Amy Lee"), person("Amy Tee"), person("Amy Kee"));
+        index.setPersons(persons);
+        index.remove(persons.get(0));
+        index.remove(persons.get(1));
+        index.remove(persons.get(2));
+        index.remove(persons.get(2));
+
+        assertEquals(List.of(new Name("Amy Kee")), index.suggest("Amy Bee"));
+        index.add(person("Amy Bee"));
+        assertEquals(List.of(new Name("Amy Bee"), new Name("Amy Kee")), index.suggest("Amy Bee"));
+    }
+
+    @Test
+    public void distance() {
+        assertEquals(0, StudentNameIndex.distance("alex", "alex"));
+        assertEquals(3, StudentNameIndex.distance("kitten", "sitting"));
+        assertEquals(4, StudentNameIndex.distance("", "alex"));
+    }
+
+    @Test
+    public void normalize_turkishDefaultLocale_foldsLikeEnglish() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("iris tan", StudentNameIndex.normalize(" IRIS  Tan "));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    private static Person person(String name) {
+        return new PersonBuilder().withName(name).build();
+    }
+}
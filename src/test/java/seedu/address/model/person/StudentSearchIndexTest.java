@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.testutil.PersonBuilder;
+
+public class StudentSearchIndexTest {
+    private final StudentSearchIndex index = new StudentSearchIndex();
+
+    @Test
+    public void search_keywordsInAnyField_matchesPredicate() {
+        List<Person> persons = getTypicalPersons();
+        index.setPersons(persons);
+
+        for (List<String> keywords : List.<List<String>>of(List.of("meier"), List.of("  MEI  "), List.of("9876"),
+                List.of("12:00pm"), List.of("sun", "kurz"), List.of("e"), List.of("el me"), List.of("zzz"),
+                List.of("ier\n98"), List.of())) {
+            StudentFieldsContainsKeywordsPredicate predicate = new StudentFieldsContainsKeywordsPredicate(keywords);
+            assertEquals(idsOf(persons.stream().filter(predicate).toList()), index.search(keywords),
+                    keywords.toString());
+        }
+        assertEquals(idsOf(List.of(BENSON, DANIEL)), index.search(List.of("meier")));
+    }
+
+    @Test
+    public void addAndRemove_afterBuild_searchFollows() {
+        index.setPersons(List.of(ALICE, BENSON));
+        index.add(HOON);
+        assertEquals(idsOf(List.of(BENSON, HOON)), index.search(List.of("meier")));
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        index.remove(BENSON);
+        index.add(editedBenson);
+        index.add(CARL);
+        assertEquals(idsOf(List.of(HOON)), index.search(List.of("meier")));
+        assertEquals(idsOf(List.of(editedBenson, CARL)), index.search(List.of("kurz")));
+
+        index.remove(HOON);
+        index.remove(HOON);
+        assertTrue(index.search(List.of("meier")).isEmpty());
+    }
+
+    private static MemberBitmap idsOf(List<Person> persons) {
+        return MemberBitmap.of(persons.stream().mapToInt(person -> person.getId().value).toArray());
+    }
+}
@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LESSON_TIME_2;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -123,6 +125,28 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_sameIdentityDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withLessonTime(VALID_LESSON_TIME_2).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void remove_earlierPerson_laterPersonsStillFound() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, BOB));
+        uniquePersonList.remove(BENSON);
+        assertFalse(uniquePersonList.contains(BENSON));
+
+        Person editedBob = new PersonBuilder(BOB).withLessonTime(VALID_LESSON_TIME_2).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(ALICE, editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -115,6 +115,14 @@ public class DueDateTest {
         assertEquals(0, now.compareTo(now));
     }
 
+    @Test
+    public void toEpochMinute() {
+        assertEquals(0, new DueDate("1970-01-01").toEpochMinute());
+        assertEquals(DueDate.epochMinuteOf(LocalDateTime.parse("2025-12-31T12:00:00")),
+                new DueDate("2025-12-31 1200").toEpochMinute());
+        assertEquals(new DueDate("2025-12-31 0000").toEpochMinute(), new DueDate("2025-12-31").toEpochMinute());
+    }
+
     @Test
     public void daysUntilDue() {
         DueDate dueDate = new DueDate("2025-12-31 1200");
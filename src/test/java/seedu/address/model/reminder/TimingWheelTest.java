@@ -0,0 +1,84 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+    private static final long START = 1_000_000;
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(START);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    public void advanceTo_tasksAtEveryLevel_fireInDueOrderAtTheirMinute() {
+        wheel.schedule(START + 300_000, "months");
+        wheel.schedule(START + 5_000, "days");
+        wheel.schedule(START + 70, "hours");
+        wheel.schedule(START + 1, "minute");
+        assertEquals(4, wheel.size());
+
+        wheel.advanceTo(START + 69, fired::add);
+        assertEquals(List.of("minute"), fired);
+        wheel.advanceTo(START + 70, fired::add);
+        assertEquals(List.of("minute", "hours"), fired);
+        wheel.advanceTo(START + 4_999, fired::add);
+        assertEquals(2, fired.size());
+        wheel.advanceTo(START + 300_000, fired::add);
+        assertEquals(List.of("minute", "hours", "days", "months"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void advanceTo_beyondAllLevels_firesFromOverflow() {
+        long beforeWrap = (1L << 24) - 10;
+        TimingWheel<String> farWheel = new TimingWheel<>(beforeWrap);
+        farWheel.schedule(beforeWrap + 20, "after wrap");
+
+        farWheel.advanceTo(beforeWrap + 19, fired::add);
+        assertTrue(fired.isEmpty());
+        farWheel.advanceTo(beforeWrap + 20, fired::add);
+        assertEquals(List.of("after wrap"), fired);
+    }
+
+    @Test
+    public void cancel_taskNeverFires() {
+        TimingWheel.Timer<String> timer = wheel.schedule(START + 10, "cancelled");
+        wheel.schedule(START + 10, "kept");
+        wheel.cancel(timer);
+        wheel.cancel(timer);
+        assertFalse(timer.isActive());
+        assertEquals(1, wheel.size());
+
+        wheel.advanceTo(START + 100, fired::add);
+        assertEquals(List.of("kept"), fired);
+    }
+
+    @Test
+    public void schedule_pastMinute_firesOnNextAdvance() {
+        wheel.advanceTo(START + 10, fired::add);
+        wheel.schedule(START + 5, "late");
+
+        wheel.advanceTo(START + 10, fired::add);
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    public void advanceTo_taskSchedulesAnother_laterOneFiresInTime() {
+        TimingWheel<Runnable> chain = new TimingWheel<>(START);
+        chain.schedule(START + 1, () -> {
+            fired.add("first");
+            chain.schedule(START + 3, () -> fired.add("second"));
+        });
+
+        chain.advanceTo(START + 2, Runnable::run);
+        assertEquals(List.of("first"), fired);
+        chain.advanceTo(START + 3, Runnable::run);
+        assertEquals(List.of("first", "second"), fired);
+    }
+}
@@ -8,11 +8,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalReminders.REMINDER_1;
 import static seedu.address.testutil.TypicalReminders.REMINDER_2;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.Test;
 
@@ -184,4 +189,98 @@ public class UniqueReminderListTest {
         person.setHomeworkList(List.of(hw1, hw2));
         assertEquals(new ArrayList<>(), UniqueReminderList.createHomeworkReminder(person));
     }
+
+    @Test
+    public void setDerivedReminders_changesOnlyThatStudent() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+        UnmodifiableReminder aliceMay = UnmodifiablePaymentReminder.of(5, alice, "May");
+        UnmodifiableReminder aliceJune = UnmodifiablePaymentReminder.of(6, alice, "June");
+        UnmodifiableReminder bobMay = UnmodifiablePaymentReminder.of(5, bob, "May");
+        uniqueReminderList.add(REMINDER_1);
+        uniqueReminderList.setDerivedReminders(alice.getId(), List.of(aliceMay));
+        uniqueReminderList.setDerivedReminders(bob.getId(), List.of(bobMay));
+
+        uniqueReminderList.setDerivedReminders(alice.getId(), List.of(aliceJune));
+        UniqueReminderList expectedUniqueReminderList = new UniqueReminderList();
+        expectedUniqueReminderList.setReminders(List.of(REMINDER_1, bobMay, aliceJune));
+        assertEquals(expectedUniqueReminderList, uniqueReminderList);
+
+        uniqueReminderList.setDerivedReminders(alice.getId(), List.of());
+        expectedUniqueReminderList.setReminders(List.of(REMINDER_1, bobMay));
+        assertEquals(expectedUniqueReminderList, uniqueReminderList);
+    }
+
+    @Test
+    public void setDerivedReminders_afterRemoveIf_addsAgain() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        UnmodifiableReminder aliceMay = UnmodifiablePaymentReminder.of(5, alice, "May");
+        uniqueReminderList.setDerivedReminders(alice.getId(), List.of(aliceMay));
+        uniqueReminderList.removeIf(reminder -> !reminder.isModifiable());
+
+        uniqueReminderList.setDerivedReminders(alice.getId(), List.of(aliceMay));
+        assertTrue(uniqueReminderList.contains(aliceMay));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_clockPassesDueTime_movesOnlyNewlyPastReminders() {
+        SettableClock clock = new SettableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        UniqueReminderList list = new UniqueReminderList(clock);
+        Reminder past = new ReminderBuilder().withDueDate("2024-12-01").withDescription("past").build();
+        Reminder first = new ReminderBuilder().withDueDate("2025-01-02 0900").withDescription("first").build();
+        Reminder second = new ReminderBuilder().withDueDate("2025-01-03").withDescription("second").build();
+        list.add(second);
+        list.add(past);
+        list.add(first);
+        assertEquals(List.of(first, second, past), list.asUnmodifiableObservableList());
+
+        clock.instant = Instant.parse("2025-01-02T09:00:30Z");
+        assertEquals(List.of(second, past, first), list.asUnmodifiableObservableList());
+
+        clock.instant = Instant.parse("2025-01-01T00:00:00Z");
+        assertEquals(List.of(first, second, past), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void nextHomeworkReminderChange() {
+        Person person = new PersonBuilder().build();
+        Homework homework = new Homework("Math worksheet", LocalDate.parse("2025-11-10"));
+        person.setHomeworkList(List.of(homework));
+        long due = DueDate.epochMinuteOf(LocalDate.parse("2025-11-10").atStartOfDay());
+        long twoDays = 2 * 24 * 60;
+
+        // the reminder comes up within 1 day of the deadline, and goes once it has passed
+        assertEquals(OptionalLong.of(due - twoDays + 1), UniqueReminderList.nextHomeworkReminderChange(person, 0));
+        assertEquals(OptionalLong.of(due + 1), UniqueReminderList.nextHomeworkReminderChange(person, due - 60));
+        assertEquals(OptionalLong.empty(), UniqueReminderList.nextHomeworkReminderChange(person, due + 1));
+
+        homework.markDone();
+        assertEquals(OptionalLong.empty(), UniqueReminderList.nextHomeworkReminderChange(person, 0));
+    }
+
+    /**
+     * A UTC clock whose time is set by the test.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        SettableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void of_unchangedStudents_copiesReused() {
+        StampedPersonCache<Person> copies = new StampedPersonCache<>(Person::deepCopy);
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone("92345678").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+
+        AddressBookSnapshot first = AddressBookSnapshot.of(addressBook, copies);
+        amy.addHomework(new Homework("Essay", LocalDate.of(2025, 10, 1)));
+        AddressBookSnapshot second = AddressBookSnapshot.of(addressBook, copies);
+
+        assertSame(first.getPersonList().get(1), second.getPersonList().get(1));
+        assertNotSame(first.getPersonList().get(0), second.getPersonList().get(0));
+        assertTrue(first.getPersonList().get(0).getHomeworkList().isEmpty());
+        assertEquals(amy.getHomeworkList(), second.getPersonList().get(0).getHomeworkList());
+        assertEquals(3, copies.getComputeCount());
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_typicalAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // much smaller than the equivalent JSON file
+        long jsonSize = JsonUtil.toJsonString(new JsonSerializableAddressBook(original)).length();
+        assertTrue(Files.size(filePath) * 3 < jsonSize);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_studentIds_preserved() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        List<Person> loaded = storage.readAddressBook().get().getPersonList();
+        assertEquals(original.getPersonList().stream().map(Person::getId).toList(),
+                loaded.stream().map(Person::getId).toList());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_groupMembers_preserved() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        GroupName math = GroupName.of("Math");
+        original.addGroup(new Group(math));
+        original.addMembers(math, List.of(original.getPersonList().get(1), original.getPersonList().get(3)));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        AddressBook loaded = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original.getMembersOf(math), loaded.getMembersOf(math));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_studentDetails_preserved() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Person alice = new PersonBuilder(ALICE).withPaymentStatus("101000000001").build();
+        alice.addHomework(new Homework("Worksheet", LocalDate.of(2026, 3, 1)));
+        alice.addHomework(new Homework("Essay", LocalDate.of(1969, 12, 31)));
+        alice.getHomeworkList().get(1).markDone();
+        alice.getParticipation().add(LocalDate.of(2026, 2, 1), 4);
+        Person benson = new PersonBuilder(BENSON).withPaymentStatus("101000000001").build();
+        benson.addHomework(new Homework("Worksheet", LocalDate.of(2026, 3, 2)));
+        AddressBook original = new AddressBook();
+        original.addPerson(alice);
+        original.addPerson(benson);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        List<Person> readBack = storage.readAddressBook().get().getPersonList();
+
+        assertEquals(original.getPersonList(), readBack);
+        for (int i = 0; i < readBack.size(); i++) {
+            Person expected = original.getPersonList().get(i);
+            Person actual = readBack.get(i);
+            assertEquals(expected.getHomeworkList(), actual.getHomeworkList());
+            assertEquals(expected.getHomeworkList().stream().map(Homework::isDone).toList(),
+                    actual.getHomeworkList().stream().map(Homework::isDone).toList());
+            assertEquals(expected.getPaymentStatusBitSet(), actual.getPaymentStatusBitSet());
+            assertEquals(expected.getParticipation().asList(), actual.getParticipation().asList());
+        }
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() {
+        Path jsonFile = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(jsonFile).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_newerVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookStorage.MAGIC.length] = (byte) (BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void isBinaryFile() throws Exception {
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(testFolder.resolve("missing.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json")));
+    }
+
+    @Test
+    public void convertFromJson_inPlace_keepsBackupAndRemovesJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(new AddressBook());
+        jsonStorage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath.resolveSibling("ab.json.journal.1")));
+
+        assertTrue(BinaryAddressBookStorage.convertFromJson(filePath, filePath));
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertFalse(Files.exists(filePath.resolveSibling("ab.json.journal.1")));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+        ReadOnlyAddressBook backup = new JsonAddressBookStorage(filePath.resolveSibling("ab.json.bak"))
+                .readAddressBook().get();
+        assertEquals(original, new AddressBook(backup));
+    }
+
+    @Test
+    public void convertFromJson_missingFile_returnsFalse() throws Exception {
+        assertFalse(BinaryAddressBookStorage.convertFromJson(testFolder.resolve("ab.json"),
+                testFolder.resolve("ab.bin")));
+    }
+}
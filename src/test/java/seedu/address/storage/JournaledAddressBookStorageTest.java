@@ -0,0 +1,274 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSave_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertEquals(0, countJournalSegments(filePath));
+
+        // the snapshot is readable by the plain json storage
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        // snapshot untouched, changes live in the journal
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(1, countJournalSegments(filePath));
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+        assertEquals(0, countJournalSegments(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_inPlaceEdit_replayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Person benson = new PersonBuilder(BENSON).build();
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).build());
+        original.addPerson(benson);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // Person is mutated in place by homework and payment commands
+        benson.addHomework(new Homework("Essay", LocalDate.of(2026, 1, 5)));
+        benson.setPaymentStatus(3, true);
+        storage.saveAddressBook(original);
+        assertEquals(1, countJournalSegments(filePath));
+
+        // a reopened storage continues the journal from where it left off
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        Person readBenson = reopened.readAddressBook().get().getPersonList().get(1);
+        assertEquals(benson.getHomeworkList(), readBenson.getHomeworkList());
+        assertTrue(readBenson.isPaidForMonth(3));
+
+        AddressBook reread = new AddressBook(reopened.readAddressBook().get());
+        reread.getPersonList().get(1).getHomeworkList().get(0).markDone();
+        reopened.saveAddressBook(reread);
+        assertEquals(2, countJournalSegments(filePath));
+        Person finalBenson = new JournaledAddressBookStorage(filePath).readAddressBook().get()
+                .getPersonList().get(1);
+        assertTrue(finalBenson.getHomeworkList().get(0).isDone());
+    }
+
+    @Test
+    public void saveAddressBook_reordered_compactsToSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        original.addPerson(BENSON);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(1, countJournalSegments(filePath));
+
+        AddressBook reordered = new AddressBook();
+        reordered.addPerson(HOON);
+        reordered.addPerson(BENSON);
+        reordered.addPerson(ALICE);
+        storage.saveAddressBook(reordered);
+        assertEquals(0, countJournalSegments(filePath));
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(reordered.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_journalOverThreshold_compactedInBackground() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        Person hoon = new PersonBuilder(HOON).build();
+        original.addPerson(hoon);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(original);
+
+        // keep appending until the journal outgrows half of the snapshot
+        for (int i = 0; i < 100; i++) {
+            hoon.addHomework(new Homework("Worksheet " + i, LocalDate.of(2026, 1, 1).plusDays(i)));
+            storage.saveAddressBook(original);
+        }
+        storage.awaitCompaction();
+        assertFalse(Files.exists(filePath.resolveSibling("ab.json.journal.1")));
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(hoon.getHomeworkList(), readBack.getPersonList().get(original.getPersonList().size() - 1)
+                .getHomeworkList());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedSnapshotFails_reorderSavedOnRetry() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        original.addPerson(BENSON);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        AddressBook reordered = new AddressBook();
+        reordered.addPerson(BENSON);
+        reordered.addPerson(ALICE);
+        Path blocker = blockSnapshotWrites(filePath);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(reordered));
+
+        unblock(blocker);
+        storage.saveAddressBook(reordered);
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(reordered.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_backgroundCompactionFails_reportedAndJournalKept() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        Person hoon = new PersonBuilder(HOON).build();
+        original.addPerson(hoon);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(original);
+
+        Path blocker = blockSnapshotWrites(filePath);
+        assertThrows(IOException.class, () -> {
+            for (int i = 0; i < 100; i++) {
+                hoon.addHomework(new Homework("Worksheet " + i, LocalDate.of(2026, 1, 1).plusDays(i)));
+                storage.saveAddressBook(original);
+            }
+            storage.flush();
+        });
+
+        unblock(blocker);
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Path journal = filePath.resolveSibling("ab.json.journal.1");
+        Files.write(journal, "{\"removed\":[\"Hoon".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writesFullSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path otherPath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original, otherPath);
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    /**
+     * Makes writing a snapshot of {@code filePath} fail, by putting a non-empty directory where its
+     * temporary file goes.
+     */
+    private static Path blockSnapshotWrites(Path filePath) throws Exception {
+        Path blocker = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.createDirectories(blocker);
+        Files.writeString(blocker.resolve("keep"), "");
+        return blocker;
+    }
+
+    private static void unblock(Path blocker) throws Exception {
+        Files.delete(blocker.resolve("keep"));
+        Files.delete(blocker);
+    }
+
+    private static long countJournalSegments(Path filePath) throws Exception {
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            return files.filter(p -> p.getFileName().toString().startsWith(filePath.getFileName() + ".journal."))
+                    .count();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -15,6 +16,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.LessonTime;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "[Rachel+]";
@@ -90,4 +92,23 @@ public class JsonAdaptedPersonTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, LessonTime.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
+
+    @Test
+    public void toModelType_validPersonDetails_keepsId() throws Exception {
+        assertEquals(BENSON.getId(), new JsonAdaptedPerson(BENSON).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_assignsNewId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(
+                VALID_NAME, VALID_PHONE, VALID_LESSON_TIME, emptyHomeworks(), VALID_PAYMENT_STATUS);
+        assertTrue(person.toModelType().getId().value > BENSON.getId().value);
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(
+                0, VALID_NAME, VALID_PHONE, VALID_LESSON_TIME, emptyHomeworks(), VALID_PAYMENT_STATUS, null);
+        assertThrows(IllegalValueException.class, StudentId.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +90,46 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrinted_sameAsWholeObjectSerialization() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertTrue(Files.size(filePath) < JsonUtil.toJsonString(new JsonSerializableAddressBook(original)).length());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterEdit_sameAsUncachedSave() throws Exception {
+        for (boolean isCompact : new boolean[] {false, true}) {
+            Path filePath = testFolder.resolve("TempAddressBook.json");
+            Path expectedPath = testFolder.resolve("ExpectedAddressBook.json");
+            AddressBook original = getTypicalAddressBook();
+            JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, isCompact);
+            jsonAddressBookStorage.saveAddressBook(original);
+
+            original.getPersonList().get(1).setPaymentStatus(3, true);
+            original.addPerson(HOON);
+            jsonAddressBookStorage.saveAddressBook(original);
+
+            new JsonAddressBookStorage(expectedPath, isCompact).saveAddressBook(original);
+            assertEquals(FileUtil.readFromFile(expectedPath), FileUtil.readFromFile(filePath));
+        }
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
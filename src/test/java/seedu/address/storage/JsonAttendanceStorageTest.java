@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.person.StudentId;
+
+public class JsonAttendanceStorageTest {
+
+    private static final LocalDate DAY_2024 = LocalDate.of(2024, 2, 29);
+    private static final LocalDate DAY_2025 = LocalDate.of(2025, 12, 31);
+    private static final StudentId ALEX = StudentId.of(1);
+    private static final StudentId BERNICE = StudentId.of(2);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void directoryFor_dataFile_sibling() {
+        assertEquals(Path.of("data", "attendance"), JsonAttendanceStorage.directoryFor(Path.of("data", "ab.json")));
+    }
+
+    @Test
+    public void saveAndReadAttendance_allInOrder_success() throws Exception {
+        JsonAttendanceStorage storage = new JsonAttendanceStorage(testFolder.resolve("attendance"));
+        AttendanceIndex original = new AttendanceIndex();
+        original.setLoader(storage.readAttendance());
+        original.put(ALEX, DAY_2024, true);
+        original.put(ALEX, DAY_2025, false);
+        original.put(BERNICE, DAY_2025, true);
+        storage.saveAttendance(original);
+        assertTrue(original.getUnsavedYears().isEmpty());
+
+        AttendanceIndex readBack = new AttendanceIndex();
+        readBack.setLoader(storage.readAttendance());
+        assertEquals(Optional.of(true), readBack.get(ALEX, DAY_2024));
+        assertEquals(Optional.of(false), readBack.get(ALEX, DAY_2025));
+        assertEquals(Optional.of(true), readBack.get(BERNICE, DAY_2025));
+        assertEquals(Optional.empty(), readBack.get(BERNICE, DAY_2024));
+
+        // only the changed year is written again
+        Path file2024 = testFolder.resolve("attendance").resolve("2024.json");
+        Files.writeString(file2024, "unchanged");
+        readBack.put(BERNICE, DAY_2025.minusDays(1), false);
+        storage.saveAttendance(readBack);
+        assertEquals("unchanged", FileUtil.readFromFile(file2024));
+        assertEquals(Set.of(2024, 2025), storage.readAttendance().getSavedYears());
+    }
+
+    @Test
+    public void saveAttendance_yearEmptied_fileDeleted() throws Exception {
+        JsonAttendanceStorage storage = new JsonAttendanceStorage(testFolder.resolve("attendance"));
+        AttendanceIndex attendance = new AttendanceIndex();
+        attendance.setLoader(storage.readAttendance());
+        attendance.put(ALEX, DAY_2024, true);
+        storage.saveAttendance(attendance);
+
+        attendance.removeAllFor(ALEX);
+        storage.saveAttendance(attendance);
+        assertFalse(Files.exists(testFolder.resolve("attendance").resolve("2024.json")));
+        assertTrue(storage.readAttendance().getSavedYears().isEmpty());
+    }
+
+    @Test
+    public void readAttendance_invalidYearFile_yearEmpty() throws Exception {
+        Path directory = testFolder.resolve("attendance");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("2023.json"), "{ \"year\" : 2023, \"students\" : { \"alex\" : \"AQ\" } }");
+        Files.writeString(directory.resolve("2024.json"), "{ \"year\" : 2024, \"students\" : { \"1\" : \"/w\" } }");
+        Files.writeString(directory.resolve("2025.json"), "{ \"year\" : 2024, \"students\" : { } }");
+
+        AttendanceIndex attendance = new AttendanceIndex();
+        attendance.setLoader(new JsonAttendanceStorage(directory).readAttendance());
+        assertTrue(attendance.getYear(2023).isEmpty());
+        assertTrue(attendance.getYear(2024).isEmpty());
+        assertTrue(attendance.getYear(2025).isEmpty());
+    }
+
+    @Test
+    public void saveAttendance_fullYearOfManyStudents_compact() throws Exception {
+        JsonAttendanceStorage storage = new JsonAttendanceStorage(testFolder.resolve("attendance"));
+        AttendanceIndex attendance = new AttendanceIndex();
+        for (int student = 0; student < 2_000; student++) {
+            for (LocalDate date = DAY_2024.withDayOfYear(1); date.getYear() == 2024; date = date.plusDays(1)) {
+                attendance.put(StudentId.of(student + 1), date, (student + date.getDayOfYear()) % 7 != 0);
+            }
+        }
+        storage.saveAttendance(attendance);
+
+        // two bits per day, Base64-encoded: under 200 bytes per student including the id
+        assertTrue(Files.size(testFolder.resolve("attendance").resolve("2024.json")) < 2_000 * 200);
+    }
+}
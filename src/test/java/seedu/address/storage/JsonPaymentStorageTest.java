@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.group.MemberBitmap;
+import seedu.address.model.payment.PaymentLedger;
+
+public class JsonPaymentStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void fileFor_dataFile_sibling() {
+        assertEquals(Path.of("data", "payments.json"), JsonPaymentStorage.fileFor(Path.of("data", "ab.json")));
+    }
+
+    @Test
+    public void readPayments_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonPaymentStorage(testFolder.resolve("payments.json")).readPayments().isPresent());
+    }
+
+    @Test
+    public void saveAndReadPayments_allInOrder_success() throws Exception {
+        Path file = testFolder.resolve("payments.json");
+        JsonPaymentStorage storage = new JsonPaymentStorage(file);
+        PaymentLedger original = new PaymentLedger();
+        original.markPaid(MemberBitmap.of(1, 2), YearMonth.of(2025, 10));
+        original.markPaid(MemberBitmap.of(2), YearMonth.of(2026, 10));
+        storage.savePayments(original);
+        assertFalse(original.hasUnsavedChanges());
+
+        Optional<PaymentLedger> readBack = storage.readPayments();
+        assertEquals(Optional.of(original), readBack);
+        assertFalse(readBack.get().hasUnsavedChanges());
+
+        // unchanged payments are not written again
+        Files.writeString(file, "unchanged");
+        storage.savePayments(original);
+        assertEquals("unchanged", FileUtil.readFromFile(file));
+
+        original.markPaid(MemberBitmap.of(3), YearMonth.of(2026, 10));
+        storage.savePayments(original);
+        assertEquals(Optional.of(original), storage.readPayments());
+    }
+
+    @Test
+    public void readPayments_invalidFile_throwsDataLoadingException() throws Exception {
+        Path file = testFolder.resolve("payments.json");
+        Files.writeString(file, "{ \"months\" : { \"2026-13\" : [ 1 ] } }");
+        assertThrows(DataLoadingException.class, () -> new JsonPaymentStorage(file).readPayments());
+
+        Files.writeString(file, "{ \"months\" : { \"2026-10\" : [ 0 ] } }");
+        assertThrows(DataLoadingException.class, () -> new JsonPaymentStorage(file).readPayments());
+    }
+}
@@ -1,16 +1,29 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.reminder.Description;
+import seedu.address.model.reminder.DueDate;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.UnmodifiablePaymentReminder;
 import seedu.address.testutil.TypicalAddressBook;
 
 public class JsonSerializableAddressBookTest {
@@ -59,4 +72,164 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_REMINDER,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_manyStudentsInGroups_membersResolved() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<String> memberNames = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String name = "Student " + toLetters(i);
+            persons.add(createStudent(name));
+            if (i % 2 == 0) {
+                // members are matched ignoring case and surrounding whitespace
+                memberNames.add(" " + name.toUpperCase() + " ");
+            }
+        }
+        JsonAdaptedGroup group = new JsonAdaptedGroup("Evens", memberNames);
+
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, List.of(group), List.of()).toModelType();
+
+        assertEquals(20_000, addressBook.getPersonList().size());
+        assertEquals(Set.of(GroupName.of("Evens")), addressBook.getGroupsOf(addressBook.getPersonList().get(0)));
+        assertTrue(addressBook.getGroupsOf(addressBook.getPersonList().get(1)).isEmpty());
+    }
+
+    @Test
+    public void toModelType_unknownMember_throwsIllegalValueException() {
+        JsonAdaptedGroup group = new JsonAdaptedGroup("Math", List.of("Bob"));
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(createStudent("Alice")),
+                List.of(group), List.of());
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_UNKNOWN_MEMBER,
+                GroupName.of("Math"), "Bob"), data::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyStudents_fileOrderPreserved() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            persons.add(createStudent("Student " + toLetters(i)));
+        }
+
+        List<Person> loaded = new JsonSerializableAddressBook(persons, List.of(), List.of()).toModelType()
+                .getPersonList();
+
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(new Name(persons.get(i).getName()), loaded.get(i).getName());
+        }
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalidStudent_reportsDuplicate() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            persons.add(createStudent("Student " + toLetters(i)));
+        }
+        persons.set(1_000, createStudent("Student " + toLetters(10)));
+        persons.set(2_000, createStudent("Student 1"));
+
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(persons, List.of(), List.of());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidBeforeDuplicateStudent_reportsInvalid() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            persons.add(createStudent("Student " + toLetters(i)));
+        }
+        persons.set(1_000, createStudent("Student 1"));
+        persons.set(2_000, createStudent("Student " + toLetters(10)));
+
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(persons, List.of(), List.of());
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, data::toModelType);
+    }
+
+    @Test
+    public void toModelType_savedGroupMembers_restored() throws Exception {
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        GroupName math = GroupName.of("Math");
+        original.addGroup(new Group(math));
+        original.addMembers(math, List.of(original.getPersonList().get(0), original.getPersonList().get(2)));
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        AddressBook loaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(original.getMembersOf(math), loaded.getMembersOf(math));
+        assertEquals(Set.of(math), loaded.getGroupsOf(loaded.getPersonList().get(2)));
+    }
+
+    @Test
+    public void toModelType_unknownMemberId_throwsIllegalValueException() {
+        JsonAdaptedGroup group = new JsonAdaptedGroup("Math", List.of(), List.of(7));
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(createStudent(6, "Alice")),
+                List.of(group), List.of());
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_UNKNOWN_MEMBER,
+                GroupName.of("Math"), 7), data::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> persons = List.of(createStudent(7, "Alice"), createStudent(7, "Bob"));
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(persons, List.of(), List.of());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_missingIdsBeforeSavedIds_newIdsAfterEverySavedId() throws Exception {
+        int base = StudentId.next().value;
+        int count = 600;
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // the students without ids come first, in other chunks than the ids the allocator would give them
+            Integer id = i < count / 2 ? null : base + i - count / 2 + 1;
+            persons.add(createStudent(id, "Student " + toLetters(i)));
+        }
+
+        List<Person> loaded = new JsonSerializableAddressBook(persons, List.of(), List.of())
+                .toModelType().getPersonList();
+        int largestSavedId = base + count / 2;
+        for (int i = 0; i < count / 2; i++) {
+            assertEquals(largestSavedId + i + 1, loaded.get(i).getId().value);
+        }
+        assertEquals(largestSavedId, loaded.get(count - 1).getId().value);
+    }
+
+    @Test
+    public void constructor_derivedReminders_notPersisted() throws Exception {
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        List<Reminder> userReminders = List.copyOf(addressBook.getReminderList());
+        addressBook.refreshUnmodifiableReminders();
+        assertTrue(addressBook.getReminderList().size() > userReminders.size());
+
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(addressBook);
+        assertEquals(userReminders.size(), data.getReminders().size());
+        assertEquals(userReminders, data.toModelType().getReminderList());
+    }
+
+    @Test
+    public void toModelType_legacyDerivedReminder_skipped() throws Exception {
+        Reminder derived = UnmodifiablePaymentReminder.of(new DueDate("2025-10-31"), new Description("Alice"));
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(createStudent("Alice")),
+                List.of(), List.of(new JsonAdaptedReminder(derived)));
+        assertTrue(data.toModelType().getReminderList().isEmpty());
+    }
+
+    private static JsonAdaptedPerson createStudent(String name) {
+        return createStudent(null, name);
+    }
+
+    private static JsonAdaptedPerson createStudent(Integer id, String name) {
+        return new JsonAdaptedPerson(id, name, "91234567", List.of(new JsonAdaptedLessonTime("1000 Mon")),
+                List.of(), "000000000000", null);
+    }
+
+    private static String toLetters(int value) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
 }
@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_typicalAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_studentDetails_loadedOnFirstAccess() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Person alice = new PersonBuilder(ALICE).withPaymentStatus("101000000001").build();
+        alice.addHomework(new Homework("Worksheet", LocalDate.of(2026, 3, 1)));
+        alice.addHomework(new Homework("Essay", LocalDate.of(1969, 12, 31)));
+        alice.getHomeworkList().get(1).markDone();
+        alice.getParticipation().add(LocalDate.of(2026, 2, 1), 4);
+        Person benson = new PersonBuilder(BENSON).build();
+        benson.addHomework(new Homework("Worksheet", LocalDate.of(2026, 3, 2)));
+        AddressBook original = new AddressBook();
+        original.addPerson(alice);
+        original.addPerson(benson);
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        List<Person> readBack = new MappedAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+
+        assertEquals(original.getPersonList(), readBack);
+        assertTrue(readBack.stream().allMatch(Person::hasPendingDetails));
+        assertEquals(alice.getPaymentStatusBitSet(), readBack.get(0).getPaymentStatusBitSet());
+
+        // reading one student's history leaves the others untouched
+        assertEquals(benson.getHomeworkList(), readBack.get(1).getHomeworkList());
+        assertFalse(readBack.get(1).hasPendingDetails());
+        assertTrue(readBack.get(0).hasPendingDetails());
+
+        assertEquals(alice.getParticipation().asList(), readBack.get(0).getParticipation().asList());
+        assertFalse(readBack.get(0).hasPendingDetails());
+        assertEquals(alice.getHomeworkList(), readBack.get(0).getHomeworkList());
+        assertEquals(List.of(false, true),
+                readBack.get(0).getHomeworkList().stream().map(Homework::isDone).toList());
+    }
+
+    @Test
+    public void saveAddressBook_pendingStudents_historyPreserved() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addHomework(new Homework("Worksheet", LocalDate.of(2026, 3, 1)));
+        AddressBook original = new AddressBook();
+        original.addPerson(alice);
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Path copyPath = testFolder.resolve("copy.bin");
+        storage.saveAddressBook(storage.readAddressBook().get(), copyPath);
+
+        Person copy = new MappedAddressBookStorage(copyPath).readAddressBook().get().getPersonList().get(0);
+        assertEquals(alice.getHomeworkList(), copy.getHomeworkList());
+    }
+
+    @Test
+    public void saveAddressBook_pendingStudentsOverMappedFile_copied() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Person benson = new PersonBuilder(BENSON).build();
+        benson.addHomework(new Homework("Essay", LocalDate.of(2026, 3, 2)));
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addHomework(new Homework("Worksheet", LocalDate.of(2026, 3, 1)));
+        alice.getHomeworkList().get(0).markDone();
+        alice.getParticipation().add(LocalDate.of(2026, 2, 1), 4);
+        AddressBook original = new AddressBook();
+        original.addPerson(benson);
+        original.addPerson(alice);
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // removing Benson drops "Essay", so Alice's homework refers to a different description in the new file
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(readBack.getPersonList().get(0));
+        Person pending = readBack.getPersonList().get(0);
+        storage.saveAddressBook(readBack);
+
+        assertTrue(pending.hasPendingDetails());
+        assertEquals(alice.getHomeworkList(), pending.getHomeworkList());
+        assertEquals(alice.getParticipation().asList(), pending.getParticipation().asList());
+        Person reread = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0);
+        assertEquals(alice.getHomeworkList(), reread.getHomeworkList());
+        assertEquals(alice.getParticipation().asList(), reread.getParticipation().asList());
+    }
+
+    @Test
+    public void saveAddressBook_twiceOverMappedFile_historyPreserved() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addHomework(new Homework("Worksheet", LocalDate.of(2026, 3, 1)));
+        alice.getParticipation().add(LocalDate.of(2026, 2, 1), 4);
+        Person benson = new PersonBuilder(BENSON).build();
+        benson.addHomework(new Homework("Essay", LocalDate.of(2026, 3, 2)));
+        AddressBook original = new AddressBook();
+        original.addPerson(alice);
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(readBack);
+        readBack.addPerson(benson);
+        storage.saveAddressBook(readBack);
+
+        // the saves replaced the data file, not the copy that was mapped in its place
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.filter(file -> file.getFileName().toString().endsWith(".mapped")).count());
+        }
+        Person pending = readBack.getPersonList().get(0);
+        assertTrue(pending.hasPendingDetails());
+        assertEquals(alice.getHomeworkList(), pending.getHomeworkList());
+        List<Person> reread = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertEquals(List.of(alice, benson), reread);
+        assertEquals(alice.getParticipation().asList(), reread.get(0).getParticipation().asList());
+        assertEquals(benson.getHomeworkList(), reread.get(1).getHomeworkList());
+    }
+
+    @Test
+    public void refreshReminders_noHomeworkDueSoon_historyNotLoaded() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addHomework(new Homework("Worksheet", LocalDate.now().plusDays(30)));
+        Person benson = new PersonBuilder(BENSON).build();
+        benson.addHomework(new Homework("Essay", LocalDate.now().plusDays(1)));
+        AddressBook original = new AddressBook();
+        original.addPerson(alice);
+        original.addPerson(benson);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new MappedAddressBookStorage(filePath).readAddressBook().get());
+        readBack.refreshUnmodifiableReminders();
+
+        assertTrue(readBack.getPersonList().get(0).hasPendingDetails());
+        assertFalse(readBack.getPersonList().get(1).hasPendingDetails());
+        assertEquals(List.of(alice.getHomeworkList().get(0).getDeadline()),
+                readBack.getPersonList().get(0).getUndoneHomeworkDeadlines());
+        assertTrue(readBack.getReminderList().stream()
+                .anyMatch(reminder -> reminder.getDescription().toString().contains("Essay")));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_newerVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookStorage.MAGIC.length] = (byte) (BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void directoryFor() {
+        assertEquals(Paths.get("data", "addressbook"),
+                ShardedAddressBookStorage.directoryFor(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.d"),
+                ShardedAddressBookStorage.directoryFor(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("ab")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_typicalAddressBook_success() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_oneStudentChanged_onlyItsShardRewritten() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        AddressBook addressBook = createAddressBook(2_000);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+        JsonAdaptedShardManifest before = readManifest(directory);
+        assertEquals(4, before.getStudentShards().size());
+
+        // nothing changed, nothing written
+        storage.saveAddressBook(addressBook);
+        assertEquals(before.getGeneration(), readManifest(directory).getGeneration());
+
+        addressBook.getPersonList().get(1_234).addHomework(new Homework("Essay", LocalDate.of(2026, 3, 1)));
+        storage.saveAddressBook(addressBook);
+        JsonAdaptedShardManifest after = readManifest(directory);
+
+        assertEquals(before.getGeneration() + 1, after.getGeneration());
+        Set<String> rewritten = new HashSet<>(after.getFileNames());
+        rewritten.removeAll(before.getFileNames());
+        assertEquals(1, rewritten.size());
+        assertTrue(rewritten.iterator().next().startsWith("students-"));
+
+        // files of the previous generation that are no longer referenced are removed
+        try (var files = Files.list(directory)) {
+            assertEquals(after.getFileNames().size() + 1, files.count());
+        }
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_studentsRemovedAndAdded_orderPreserved() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        AddressBook addressBook = createAddressBook(1_500);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+
+        List<Person> persons = addressBook.getPersonList();
+        addressBook.removePerson(persons.get(10));
+        addressBook.setPerson(persons.get(700), new PersonBuilder().withName("Renamed Student").build());
+        addressBook.addPerson(new PersonBuilder().withName("New Student").build());
+        storage.saveAddressBook(addressBook);
+
+        ShardedAddressBookStorage reloaded = new ShardedAddressBookStorage(directory);
+        assertEquals(addressBook, new AddressBook(reloaded.readAddressBook().get()));
+
+        // the baseline recorded on load is used by the next save
+        long generation = readManifest(directory).getGeneration();
+        reloaded.saveAddressBook(addressBook);
+        assertEquals(generation, readManifest(directory).getGeneration());
+    }
+
+    @Test
+    public void saveAddressBook_manyStudentsAdded_reshards() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(createAddressBook(10));
+        assertEquals(1, readManifest(directory).getStudentShards().size());
+
+        AddressBook larger = createAddressBook(ShardedAddressBookStorage.SHARD_SIZE * 2 + 1);
+        storage.saveAddressBook(larger);
+        assertNotEquals(1, readManifest(directory).getStudentShards().size());
+        assertEquals(larger, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.delete(directory.resolve(readManifest(directory).getStudentShards().get(0)));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void convertFrom_jsonFile_success() throws Exception {
+        Path jsonFile = testFolder.resolve("ab.json");
+        Path directory = testFolder.resolve("ab");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(original);
+
+        assertTrue(ShardedAddressBookStorage.convertFrom(jsonFile, directory));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+        assertTrue(Files.exists(jsonFile));
+
+        // already converted
+        assertFalse(ShardedAddressBookStorage.convertFrom(jsonFile, directory));
+    }
+
+    private static JsonAdaptedShardManifest readManifest(Path directory) throws Exception {
+        return JsonUtil.readJsonFile(directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE),
+                JsonAdaptedShardManifest.class).get();
+    }
+
+    private static AddressBook createAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            StringBuilder name = new StringBuilder("Student ");
+            for (int value = i; value > 0 || name.length() == 8; value /= 26) {
+                name.append((char) ('a' + value % 26));
+            }
+            addressBook.addPerson(new PersonBuilder().withName(name.toString()).build());
+        }
+        return addressBook;
+    }
+}
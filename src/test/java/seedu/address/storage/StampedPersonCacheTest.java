@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class StampedPersonCacheTest {
+
+    @Test
+    public void get_unchangedPerson_computedOnce() {
+        StampedPersonCache<String> cache = new StampedPersonCache<>(Person::getPaymentStatusDisplay);
+        Person person = new PersonBuilder().build();
+
+        String value = cache.get(person);
+        cache.evictUnused();
+        assertEquals(value, cache.get(person));
+        assertEquals(value, cache.get(person.deepCopy()));
+        assertEquals(1, cache.getComputeCount());
+
+        person.setPaymentStatus(2, true);
+        assertEquals(person.getPaymentStatusDisplay(), cache.get(person));
+        assertEquals(2, cache.getComputeCount());
+    }
+
+    @Test
+    public void evictUnused_personNotLookedUp_computedAgain() {
+        StampedPersonCache<String> cache = new StampedPersonCache<>(Person::getPaymentStatusDisplay);
+        Person person = new PersonBuilder().build();
+
+        cache.get(person);
+        cache.evictUnused();
+        cache.evictUnused();
+        cache.get(person);
+        assertEquals(2, cache.getComputeCount());
+    }
+}
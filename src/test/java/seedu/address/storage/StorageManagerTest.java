@@ -1,10 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,12 +24,17 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.StudentId;
 
 public class StorageManagerTest {
 
     @TempDir
     public Path testFolder;
 
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
     private StorageManager storageManager;
 
     @BeforeEach
@@ -65,4 +80,100 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void saveAddressBook_writeBehind_coalescedUntilFlush() throws Exception {
+        StorageManager writeBehind = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        AddressBook original = getTypicalAddressBook();
+
+        writeBehind.saveAddressBook(original);
+        original.addPerson(HOON);
+        writeBehind.saveAddressBook(original);
+        assertFalse(Files.exists(getTempFilePath("ab")));
+        assertEquals(2, writeBehind.getWriteBehindMetrics().getQueueDepth());
+
+        writeBehind.flush();
+        WriteBehindMetrics metrics = writeBehind.getWriteBehindMetrics();
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(1, metrics.getFlushCount());
+        assertEquals(1, metrics.getCoalescedSaveCount());
+        assertEquals(original, new AddressBook(writeBehind.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAttendanceAndPayments_writeBehind_writtenOnFlush() throws Exception {
+        StorageManager writeBehind = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        AttendanceIndex attendance = new AttendanceIndex();
+        attendance.put(StudentId.of(1), DAY, true);
+        PaymentLedger payments = new PaymentLedger();
+        payments.setPaid(StudentId.of(1), YearMonth.from(DAY), true);
+
+        writeBehind.saveAddressBook(getTypicalAddressBook());
+        writeBehind.saveAttendance(attendance);
+        writeBehind.savePayments(payments);
+        assertTrue(attendance.getUnsavedYears().isEmpty());
+        assertFalse(payments.hasUnsavedChanges());
+        attendance.put(StudentId.of(2), DAY, true);
+        payments.setPaid(StudentId.of(2), YearMonth.from(DAY), true);
+        assertFalse(Files.exists(writeBehind.getAttendanceDirectoryPath()));
+        assertFalse(Files.exists(writeBehind.getPaymentFilePath()));
+
+        writeBehind.flush();
+        AttendanceIndex savedAttendance = new AttendanceIndex();
+        savedAttendance.setLoader(writeBehind.readAttendance());
+        assertEquals(Optional.of(true), savedAttendance.get(StudentId.of(1), DAY));
+        assertEquals(Optional.empty(), savedAttendance.get(StudentId.of(2), DAY));
+        PaymentLedger savedPayments = writeBehind.readPayments().get();
+        assertTrue(savedPayments.isPaid(StudentId.of(1), YearMonth.from(DAY)));
+        assertFalse(savedPayments.isPaid(StudentId.of(2), YearMonth.from(DAY)));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehind_laterChangesNotWritten() throws Exception {
+        StorageManager writeBehind = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = getTypicalAddressBook();
+
+        writeBehind.saveAddressBook(original);
+        original.addPerson(IDA);
+        assertEquals(expected, new AddressBook(writeBehind.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehind_flushedWithinInterval() throws Exception {
+        StorageManager writeBehind = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 1);
+        writeBehind.saveAddressBook(getTypicalAddressBook());
+        for (int i = 0; i < 500 && !Files.exists(getTempFilePath("ab")); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.exists(getTempFilePath("ab")));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindFailure_reportedOnNextSave() throws Exception {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager writeBehind = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 1);
+
+        writeBehind.saveAddressBook(getTypicalAddressBook());
+        for (int i = 0; i < 500 && writeBehind.getWriteBehindMetrics().getFlushCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, writeBehind.getWriteBehindMetrics().getFlushCount());
+        assertThrows(IOException.class, "disk full", () -> writeBehind.saveAddressBook(getTypicalAddressBook()));
+
+        // the save that reported the failure is still queued, and its own failure is surfaced by flush
+        assertThrows(IOException.class, "disk full", writeBehind::flush);
+        writeBehind.flush();
+    }
+
 }
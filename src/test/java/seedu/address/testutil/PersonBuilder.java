@@ -81,6 +81,6 @@ public class PersonBuilder {
     }
 
     public Person build() {
-        return new Person(name, phone, lessonTime);
+        return new Person(name, phone, lessonTime, (BitSet) paymentStatus.clone());
     }
 }